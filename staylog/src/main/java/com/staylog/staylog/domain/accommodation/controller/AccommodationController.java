@@ -1,15 +1,16 @@
 package com.staylog.staylog.domain.accommodation.controller;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.staylog.staylog.domain.accommodation.dto.response.AccommodationDetailResponse;
-import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewPageResponse;
+import com.staylog.staylog.domain.accommodation.service.AccommodationDetailCache;
 import com.staylog.staylog.domain.accommodation.service.AccommodationService;
 import com.staylog.staylog.global.common.code.SuccessCode;
 import com.staylog.staylog.global.common.response.SuccessResponse;
@@ -32,28 +33,39 @@ public class AccommodationController {
 
     /**
      * 숙소 상세 정보 조회 컨트롤러
+     * - If-None-Match가 현재 ETag와 같으면 본문 없이 304 응답
      * @author 김채린
      * @param accommodationId 숙소의 ID
      * @return 숙소의 상세 정보
      * */
     @GetMapping("/accommodations/{accommodationId}")
-    public ResponseEntity<SuccessResponse<AccommodationDetailResponse>> getAccommodationDetail(@PathVariable Long accommodationId) {
-        AccommodationDetailResponse data = acService.getAcDetail(accommodationId);
+    public ResponseEntity<SuccessResponse<AccommodationDetailResponse>> getAccommodationDetail(@PathVariable Long accommodationId,
+                                                                                                WebRequest webRequest) {
+        AccommodationDetailCache.Detail detail = acService.getAcDetailWithEtag(accommodationId);
+        if (webRequest.checkNotModified(detail.etag())) {
+            return null;
+        }
         String msg = messageUtil.getMessage(SuccessCode.ACCOMMODATION_FOUND.getMessageKey());
         String code = SuccessCode.ACCOMMODATION_FOUND.name();
-        return ResponseEntity.ok(SuccessResponse.of(code, msg, data));
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .body(SuccessResponse.of(code, msg, detail.response()));
     }
     
     /**
-     * 숙소 리뷰 전체 조회 컨트롤러
+     * 숙소 리뷰 페이지 조회 컨트롤러 (최신순, 커서 기반)
      * @author 김채린
      * @param accommodationId 숙소의 ID
-     * @return 해당 숙소의 전체 리뷰 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (기본 10, 최대 50)
+     * @return 해당 숙소의 리뷰 페이지
      */ 
     @GetMapping("/accommodations/{accommodationId}/reviews")
-    public ResponseEntity<SuccessResponse<List<ReviewResponse>>> getAccommodationReviews(
-            @PathVariable Long accommodationId) {
-        List<ReviewResponse> reviews = acService.getAcRvList(accommodationId);
+    public ResponseEntity<SuccessResponse<ReviewPageResponse>> getAccommodationReviews(
+            @PathVariable Long accommodationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ReviewPageResponse reviews = acService.getAcRvPage(accommodationId, cursor, size);
         String msg = messageUtil.getMessage(SuccessCode.ACCOMMODATION_REVIEW_LIST_FOUND.getMessageKey());
         String code = SuccessCode.ACCOMMODATION_REVIEW_LIST_FOUND.name();
         return ResponseEntity.ok(SuccessResponse.of(code, msg, reviews));
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.staylog.staylog.domain.accommodation.dto.response.RoomCalendarResponse;
 import com.staylog.staylog.domain.accommodation.dto.response.RoomDetailResponse;
 import com.staylog.staylog.domain.accommodation.service.RoomService;
 import com.staylog.staylog.global.common.code.SuccessCode;
@@ -61,4 +62,21 @@ public class RoomController {
 
 	}
 	
+	/**
+	 * 숙소 객실별 예약 달력 (객실 전체를 한 번에 조회)
+	 */
+	@GetMapping("/accommodations/{accommodationId}/rooms/calendar")
+	public ResponseEntity<SuccessResponse<RoomCalendarResponse>> getRoomCalendar(
+	        @PathVariable Long accommodationId,
+	        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		RoomCalendarResponse roomCalendar = roomService.roomCalendar(accommodationId, from, to);
+		String message = messageUtil.getMessage(SuccessCode.SUCCESS.getMessageKey());
+		String code = SuccessCode.SUCCESS.name();
+		SuccessResponse<RoomCalendarResponse> success = SuccessResponse.of(code, message, roomCalendar);
+
+		return ResponseEntity.ok(success);
+	}
+
 }
@@ -0,0 +1,65 @@
+package com.staylog.staylog.domain.accommodation.dto;
+
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
+import com.staylog.staylog.global.common.code.ErrorCode;
+import com.staylog.staylog.global.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 숙소 리뷰 keyset 커서
+ * - 마지막으로 받은 리뷰의 (작성일, 게시글 ID)를 담아 최신순 다음 페이지를 이어서 조회
+ * - 클라이언트에는 "작성일 epoch 초\n나노초\n게시글ID"를 Base64 URL 인코딩한 불투명 문자열로 전달
+ * - 작성일은 나노초까지 그대로 담음 (ms로 자르면 같은 ms 안의 뒤쪽 리뷰가 created_at 비교에서 빠짐)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCursor {
+
+    private final Timestamp createdAt;
+    private final Long boardId;
+
+    /**
+     * 리뷰 한 건의 커서 생성
+     */
+    public static ReviewCursor of(ReviewResponse review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getBoardId());
+    }
+
+    /**
+     * 클라이언트 전달용 문자열로 인코딩
+     */
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String payload = instant.getEpochSecond() + "\n" + instant.getNano() + "\n" + boardId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 이전 응답의 nextCursor 값
+     * @throws BusinessException 형식이 잘못된 경우
+     */
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\n", 3);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "리뷰 커서 형식이 올바르지 않습니다.");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            return new ReviewCursor(Timestamp.from(createdAt), Long.valueOf(parts[2]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "리뷰 커서 형식이 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.staylog.staylog.domain.accommodation.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 점유 구간 [checkIn, checkOut)
+ * - 예약이 없는 객실은 checkIn/checkOut이 null (객실 목록 포함용)
+ */
+@Data
+public class RoomStayDto {
+
+    private Long accommodationId;
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+}
@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class AccommodationDetailResponse {
 	private Long accommodationId; // 숙소 번호 (PK)
 	private String name; // 숙소명
@@ -43,7 +43,9 @@ public class AccommodationDetailResponse {
     private Timestamp checkOutTime;
     
     private List<RoomListResponse> rooms; // 객실 목록
-    private List<ReviewResponse> reviews;
+    private List<ReviewResponse> reviews; // 리뷰 첫 페이지 (최신순)
+    private Integer reviewCount; // 전체 리뷰 수 (삭제 제외)
+    private String reviewNextCursor; // 리뷰 다음 페이지 커서 (/reviews?cursor=, 없으면 null)
 
     // private Double averageRating; // 숙소 평균 별졈
     // private List<이미지 관련 Response dto 클래스명> images; 이미지 목록
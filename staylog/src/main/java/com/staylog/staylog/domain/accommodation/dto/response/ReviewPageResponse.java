@@ -0,0 +1,21 @@
+package com.staylog.staylog.domain.accommodation.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숙소 리뷰 페이지 (최신순 keyset 페이지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewPageResponse {
+	private List<ReviewResponse> reviews; // 현재 페이지 리뷰
+	private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+	private int totalCount; // 숙소의 전체 리뷰 수 (삭제 제외)
+}
@@ -0,0 +1,35 @@
+package com.staylog.staylog.domain.accommodation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 숙소 객실별 예약 달력
+ * - blocked: from부터 하루 1글자, '1' = 예약 불가(그날 밤 점유), '0' = 예약 가능
+ *   예) from=2025-11-01, blocked="0011" -> 11/03, 11/04 밤 예약 불가
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomCalendarResponse {
+
+    private Long accommodationId;
+    private LocalDate from;
+    private LocalDate to;             // 포함
+    private List<RoomDays> rooms;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomDays {
+        private Long roomId;
+        private String blocked;
+    }
+}
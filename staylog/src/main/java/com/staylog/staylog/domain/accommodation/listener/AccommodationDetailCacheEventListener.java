@@ -0,0 +1,80 @@
+package com.staylog.staylog.domain.accommodation.listener;
+
+import com.staylog.staylog.domain.accommodation.mapper.AccommodationMapper;
+import com.staylog.staylog.domain.accommodation.service.AccommodationDetailCache;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
+import com.staylog.staylog.global.event.ImageChangedEvent;
+import com.staylog.staylog.global.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 숙소 상세 캐시 무효화 이벤트 리스너
+ * - 커밋된 변경을 해당 조각(기본 정보/객실 목록/리뷰)과 조립된 응답에 반영
+ * - 변경 직후 상세 화면에 바로 반영되도록 비동기 처리하지 않음
+ * - 무효화 실패는 TTL 안에서 해소되므로 로그만 남긴다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AccommodationDetailCacheEventListener {
+
+    private static final String PROFILE_TARGET_TYPE = "PROFILE";
+    private static final String REVIEW_CONTENT_TARGET_TYPE = "BOARD_REVIEW_CONTENT";
+
+    private final AccommodationMapper acMapper;
+    private final AccommodationDetailCache detailCache;
+
+    /**
+     * 숙소/객실 변경 반영(숙소 변경 이벤트리스너)
+     *
+     * @param event 숙소 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.isRoomChanged()) {
+            detailCache.invalidateRooms(event.getAccommodationId());
+        } else {
+            detailCache.invalidateInfo(event.getAccommodationId());
+        }
+    }
+
+    /**
+     * 리뷰 변경 반영(리뷰 변경 이벤트리스너)
+     *
+     * @param event 리뷰 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        detailCache.invalidateReviews(event.getAccommodationId());
+    }
+
+    /**
+     * 리뷰 작성자 프로필/리뷰 본문 이미지 변경 반영(이미지 변경 이벤트리스너)
+     * - 리뷰 본문 이미지는 게시글 등록 후 따로 업로드되므로 이 시점에 리뷰 조각을 다시 만들어야 함
+     *
+     * @param event 이미지 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleImageChanged(ImageChangedEvent event) {
+        if (PROFILE_TARGET_TYPE.equals(event.getTargetType())) {
+            try {
+                acMapper.selectReviewedAccommodationIds(event.getTargetId())
+                        .forEach(detailCache::invalidateReviews);
+            } catch (Exception e) {
+                log.warn("숙소 상세 리뷰 캐시 무효화 실패: userId={}, error={}", event.getTargetId(), e.getMessage());
+            }
+        } else if (REVIEW_CONTENT_TARGET_TYPE.equals(event.getTargetType())) {
+            try {
+                Long accommodationId = acMapper.selectReviewAccommodationId(event.getTargetId());
+                if (accommodationId != null) {
+                    detailCache.invalidateReviews(accommodationId);
+                }
+            } catch (Exception e) {
+                log.warn("숙소 상세 리뷰 캐시 무효화 실패: boardId={}, error={}", event.getTargetId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.staylog.staylog.domain.accommodation.listener;
+
+import com.staylog.staylog.domain.accommodation.dto.RoomStayDto;
+import com.staylog.staylog.domain.accommodation.mapper.RoomMapper;
+import com.staylog.staylog.domain.accommodation.service.RoomCalendarCache;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
+import com.staylog.staylog.global.event.BookingCreatedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
+import com.staylog.staylog.global.event.BookingsExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 객실 달력 캐시 무효화 이벤트 리스너
+ * - 커밋된 예약 생성/상태 변경/만료는 해당 숙소의 겹치는 달만 무효화
+ * - 객실 추가/수정/상태 변경은 숙소의 모든 달을 무효화
+ * - 예약 직후 달력에 바로 반영되도록 비동기 처리하지 않음
+ * - 무효화 실패는 TTL 안에서 해소되므로 로그만 남긴다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoomCalendarEventListener {
+
+    private final RoomMapper roomMapper;
+    private final RoomCalendarCache roomCalendarCache;
+
+    /**
+     * 예약 생성 반영(예약 생성 이벤트리스너)
+     *
+     * @param event 예약 생성 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingCreated(BookingCreatedEvent event) {
+        invalidate(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 예약 상태 변경 반영(예약 상태 변경 이벤트리스너)
+     *
+     * @param event 예약 상태 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingStatusChanged(BookingStatusChangedEvent event) {
+        invalidate(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 만료 예약 반영(만료 일괄 취소 이벤트리스너)
+     *
+     * @param event 만료 일괄 취소 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingsExpired(BookingsExpiredEvent event) {
+        if (event.getBookingIds() == null || event.getBookingIds().isEmpty()) {
+            return;
+        }
+        invalidate(event.getBookingIds());
+    }
+
+    /**
+     * 객실 구성 변경 반영(숙소 변경 이벤트리스너)
+     *
+     * @param event 숙소 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAccommodationChanged(AccommodationChangedEvent event) {
+        roomCalendarCache.invalidateAccommodation(event.getAccommodationId());
+    }
+
+    private void invalidate(List<Long> bookingIds) {
+        try {
+            for (RoomStayDto stay : roomMapper.selectBookingStays(bookingIds)) {
+                roomCalendarCache.invalidate(stay.getAccommodationId(), stay.getCheckIn(), stay.getCheckOut());
+            }
+        } catch (Exception e) {
+            log.warn("객실 달력 캐시 무효화 실패: bookingIds={}, error={}", bookingIds, e.getMessage());
+        }
+    }
+}
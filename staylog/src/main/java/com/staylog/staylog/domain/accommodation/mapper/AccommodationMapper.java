@@ -5,6 +5,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.staylog.staylog.domain.accommodation.dto.ReviewCursor;
 import com.staylog.staylog.domain.accommodation.dto.response.AccommodationDetailResponse;
 import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
 import com.staylog.staylog.domain.accommodation.dto.response.RoomListResponse;
@@ -26,11 +27,15 @@ public interface AccommodationMapper {
     List<RoomListResponse> selectRoomList(@Param("accommodationId") Long accommodationId);
     
     /**
-     * 해당 숙소에 대한 리뷰 목록 조회
+     * 해당 숙소에 대한 리뷰 페이지 조회 (최신순 keyset)
      * @param accommodationId : 조회할 숙소의 고유번호
+     * @param cursor : 이전 페이지 마지막 리뷰 커서 (첫 페이지면 null)
+     * @param limit : 조회할 최대 건수
      * @return 리뷰 목록 리스트
      * */
-    List<ReviewResponse> selectReviewList(@Param("accommodationId") Long accommodationId);
+    List<ReviewResponse> selectReviewPage(@Param("accommodationId") Long accommodationId,
+                                          @Param("cursor") ReviewCursor cursor,
+                                          @Param("limit") int limit);
     
     /**
      * 해당 숙소에 대한 전체 리뷰 수 조회
@@ -38,4 +43,18 @@ public interface AccommodationMapper {
      * @return 전체 리뷰 수
      * */
     int selectReviewCount(@Param("accommodationId") Long accommodationId);
+    
+    /**
+     * 사용자가 리뷰를 작성한 숙소 ID 목록 조회 (프로필 이미지 변경 시 리뷰 캐시 무효화용)
+     * @param userId : 리뷰 작성자 고유번호
+     * @return 숙소 ID 목록
+     * */
+    List<Long> selectReviewedAccommodationIds(@Param("userId") Long userId);
+
+    /**
+     * 리뷰 게시글의 숙소 ID 조회 (리뷰 본문 이미지 변경 시 리뷰 캐시 무효화용)
+     * @param boardId : 리뷰 게시글 고유번호
+     * @return 숙소 ID (리뷰가 아니거나 숙소가 없으면 null)
+     * */
+    Long selectReviewAccommodationId(@Param("boardId") Long boardId);
 }
\ No newline at end of file
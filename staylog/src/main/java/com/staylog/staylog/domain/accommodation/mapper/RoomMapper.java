@@ -7,6 +7,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.staylog.staylog.domain.accommodation.dto.RoomStayDto;
 import com.staylog.staylog.domain.accommodation.dto.response.RoomDetailResponse;
 
 @Mapper
@@ -41,5 +42,24 @@ public interface RoomMapper {
 	 * */
 	int existsRoom(@Param("roomId") Long roomId);
 	
+	/*
+	 * 숙소 객실 점유 구간 조회 (객실 달력용)
+	 * - 숙소의 모든 객실을 포함하며, 구간과 겹치는 점유 예약이 없는 객실은 날짜가 null인 1행
+	 * - 객실 ID, 체크인 순으로 정렬
+	 * @Param accommodationId : 숙소 ID
+	 * @Param fromDate : 조회 시작일 (포함)
+	 * @Param toDate : 조회 종료일 (미포함)
+	 * @return : 객실별 점유 구간
+	 * */
+	List<RoomStayDto> selectRoomStays(
+			@Param("accommodationId") Long accommodationId,
+			@Param("fromDate") LocalDate from,
+			@Param("toDate") LocalDate to);
 	
+	/*
+	 * 예약의 숙소/숙박 구간 조회 (객실 달력 캐시 무효화용)
+	 * @Param bookingIds : 예약 ID 리스트
+	 * @return : 예약별 숙소 ID, 객실 ID, 숙박 구간
+	 * */
+	List<RoomStayDto> selectBookingStays(@Param("bookingIds") List<Long> bookingIds);
 }
@@ -0,0 +1,136 @@
+package com.staylog.staylog.domain.accommodation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staylog.staylog.domain.accommodation.dto.response.AccommodationDetailResponse;
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewPageResponse;
+import com.staylog.staylog.domain.accommodation.dto.response.RoomListResponse;
+import com.staylog.staylog.domain.accommodation.mapper.AccommodationMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 숙소 상세 응답 캐시
+ * - 조각(기본 정보, 객실 목록, 리뷰 첫 페이지)을 따로 캐시하고, 조립된 응답과 ETag를 한 번 더 캐시
+ * - 조각마다 무효화 계기가 다르다 (AccommodationDetailCacheEventListener)
+ *   기본 정보: 관리자 숙소 변경 / 객실 목록: 관리자 객실 변경 / 리뷰: 리뷰 작성·수정·삭제, 작성자 프로필 이미지 변경
+ * - 조각을 무효화할 때는 조각 -> 조립 응답 순서로 지워, 조립 중이던 이전 조각이 남지 않게 한다
+ * - ETag는 조각 내용의 해시라 인스턴스가 달라도 내용이 같으면 같은 값
+ * - 지표: /actuator/metrics/cache.gets 등 (cache=accommodation.detail*)
+ */
+@Slf4j
+@Component
+public class AccommodationDetailCache {
+
+    private final AccommodationMapper acMapper;
+    private final ReviewPageLoader reviewPageLoader;
+
+    private final Cache<Long, AccommodationDetailResponse> infoCache;
+    private final Cache<Long, List<RoomListResponse>> roomsCache;
+    private final Cache<Long, ReviewPageResponse> reviewsCache;
+    private final Cache<Long, Detail> detailCache;
+
+    public AccommodationDetailCache(AccommodationMapper acMapper,
+                                    ReviewPageLoader reviewPageLoader,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${accommodation.detail-cache.max-size:2000}") long maxSize,
+                                    @Value("${accommodation.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.acMapper = acMapper;
+        this.reviewPageLoader = reviewPageLoader;
+        this.infoCache = build(meterRegistry, "accommodation.detail.info", maxSize, ttlSeconds);
+        this.roomsCache = build(meterRegistry, "accommodation.detail.rooms", maxSize, ttlSeconds);
+        this.reviewsCache = build(meterRegistry, "accommodation.detail.reviews", maxSize, ttlSeconds);
+        this.detailCache = build(meterRegistry, "accommodation.detail", maxSize, ttlSeconds);
+    }
+
+    /**
+     * 조립된 숙소 상세 조회 (없는 조각만 DB에서 적재)
+     *
+     * @param accommodationId 숙소 ID
+     * @return 숙소가 없거나 삭제되었으면 null
+     */
+    public Detail get(Long accommodationId) {
+        return detailCache.get(accommodationId, this::assemble);
+    }
+
+    /**
+     * 리뷰 첫 페이지 조각 조회 (기본 페이지 크기, 커서 없음)
+     */
+    public ReviewPageResponse firstReviewPage(Long accommodationId) {
+        return reviewsCache.get(accommodationId, this::loadFirstReviewPage);
+    }
+
+    /**
+     * 기본 정보 조각 무효화 (숙소 수정/삭제/복원)
+     */
+    public void invalidateInfo(Long accommodationId) {
+        infoCache.invalidate(accommodationId);
+        detailCache.invalidate(accommodationId);
+    }
+
+    /**
+     * 객실 목록 조각 무효화 (객실 등록/수정/삭제/복원)
+     */
+    public void invalidateRooms(Long accommodationId) {
+        roomsCache.invalidate(accommodationId);
+        detailCache.invalidate(accommodationId);
+    }
+
+    /**
+     * 리뷰 조각 무효화 (리뷰 작성/수정/삭제, 작성자 프로필 이미지 변경)
+     */
+    public void invalidateReviews(Long accommodationId) {
+        reviewsCache.invalidate(accommodationId);
+        detailCache.invalidate(accommodationId);
+    }
+
+    private Detail assemble(Long accommodationId) {
+        AccommodationDetailResponse info = infoCache.get(accommodationId, acMapper::selectAcDetail);
+        if (info == null) {
+            return null;
+        }
+        List<RoomListResponse> rooms = roomsCache.get(accommodationId, this::loadRooms);
+        ReviewPageResponse reviews = firstReviewPage(accommodationId);
+
+        AccommodationDetailResponse response = info.toBuilder()
+                .rooms(rooms)
+                .reviews(reviews.getReviews())
+                .reviewCount(reviews.getTotalCount())
+                .reviewNextCursor(reviews.getNextCursor())
+                .build();
+        String etag = String.format("\"%08x%08x%08x\"",
+                Objects.hashCode(info), Objects.hashCode(rooms), Objects.hashCode(reviews));
+        return new Detail(response, etag);
+    }
+
+    private List<RoomListResponse> loadRooms(Long accommodationId) {
+        return List.copyOf(acMapper.selectRoomList(accommodationId));
+    }
+
+    private ReviewPageResponse loadFirstReviewPage(Long accommodationId) {
+        return reviewPageLoader.load(accommodationId, null, ReviewPageLoader.DEFAULT_PAGE_SIZE);
+    }
+
+    private static <V> Cache<Long, V> build(MeterRegistry meterRegistry, String name, long maxSize, long ttlSeconds) {
+        Cache<Long, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    /**
+     * 조립된 숙소 상세 응답과 ETag (응답 객체는 캐시와 공유되므로 수정하지 말 것)
+     */
+    public record Detail(AccommodationDetailResponse response, String etag) {
+    }
+}
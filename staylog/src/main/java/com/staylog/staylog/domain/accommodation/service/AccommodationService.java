@@ -1,9 +1,7 @@
 package com.staylog.staylog.domain.accommodation.service;
 
-import java.util.List;
-
 import com.staylog.staylog.domain.accommodation.dto.response.AccommodationDetailResponse;
-import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewPageResponse;
 
 public interface AccommodationService {
 	
@@ -15,10 +13,19 @@ public interface AccommodationService {
     public AccommodationDetailResponse getAcDetail(Long accommodationId);
     
     /**
-     * 해당 숙소의 전체 리뷰 목록 조회
+     * 숙소 상세 정보와 ETag 조회 (캐시된 응답과 같은 버전의 ETag)
+     * @param accommodationId 조회할 숙소의 기본키
+     * @return 숙소 상세 응답 dto + ETag
+     */
+    AccommodationDetailCache.Detail getAcDetailWithEtag(Long accommodationId);
+    
+    /**
+     * 해당 숙소의 리뷰 페이지 조회 (최신순 keyset)
      * 
      * @param accommodationId 조회할 숙소의 기본키
-     * @return 숙소 리뷰 리스트
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (최대 50)
+     * @return 숙소 리뷰 페이지
      */
-    List<ReviewResponse> getAcRvList(Long accommodationId);
+    ReviewPageResponse getAcRvPage(Long accommodationId, String cursor, Integer size);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.staylog.staylog.domain.accommodation.service;
+
+import com.staylog.staylog.domain.accommodation.dto.ReviewCursor;
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewPageResponse;
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
+import com.staylog.staylog.domain.accommodation.mapper.AccommodationMapper;
+import com.staylog.staylog.domain.image.assembler.ImageAssembler;
+import com.staylog.staylog.global.constant.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 숙소 리뷰 페이지 조회
+ * - 한 건 더 조회해 다음 페이지 여부를 판단하고, 이미지 조립은 실제로 내려줄 페이지에만 수행
+ * - 숙소 상세의 첫 페이지(AccommodationDetailCache)와 리뷰 목록 API가 함께 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewPageLoader {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final AccommodationMapper acMapper;
+    private final ImageAssembler imageAssembler;
+
+    /**
+     * @param accommodationId 숙소 ID
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param size 페이지 크기 (null/0 이하면 기본값, 최대 MAX_PAGE_SIZE)
+     */
+    public ReviewPageResponse load(Long accommodationId, ReviewCursor cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<ReviewResponse> rows = acMapper.selectReviewPage(accommodationId, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ReviewResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        // 프로필과 리뷰 본문 이미지를 한 번의 쿼리로 조회
+        imageAssembler.batch(() -> {
+            imageAssembler.assembleMainImageUrl(page, ReviewResponse::getUserId, ReviewResponse::setProfileUrl, "PROFILE", ImageVariant.W160);
+            imageAssembler.assembleMainImageUrl(page, ReviewResponse::getBoardId, ReviewResponse::setContentUrl, "BOARD_REVIEW_CONTENT", ImageVariant.W480);
+        });
+
+        return ReviewPageResponse.builder()
+                .reviews(List.copyOf(page))
+                .nextCursor(hasNext ? ReviewCursor.of(page.get(page.size() - 1)).encode() : null)
+                .totalCount(acMapper.selectReviewCount(accommodationId))
+                .build();
+    }
+}
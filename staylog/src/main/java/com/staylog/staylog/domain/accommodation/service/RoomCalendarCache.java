@@ -0,0 +1,163 @@
+package com.staylog.staylog.domain.accommodation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staylog.staylog.domain.accommodation.dto.RoomStayDto;
+import com.staylog.staylog.domain.accommodation.mapper.RoomMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 숙소 객실 달력 캐시
+ * - (숙소, 월) 단위로 객실별 점유 비트맵을 보관 (bit d = 그 달 d+1일 밤 점유, 한 달 최대 31비트)
+ * - 캐시에 없는 달은 한꺼번에 한 번의 정렬 스캔(RoomMapper.selectRoomStays)으로 읽어 Java에서 병합
+ * - 예약 생성/점유 해제 시 해당 숙소의 겹치는 달만, 객실 변경 시 숙소 전체를 무효화 (RoomCalendarEventListener)
+ * - 지표: /actuator/metrics/cache.gets 등 (cache=room.calendar)
+ */
+@Slf4j
+@Component
+public class RoomCalendarCache {
+
+    private static final String CACHE_NAME = "room.calendar";
+
+    private final RoomMapper roomMapper;
+    private final Cache<MonthKey, MonthCalendar> cache;
+
+    public RoomCalendarCache(RoomMapper roomMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${accommodation.calendar-cache.max-size:5000}") long maxSize,
+                             @Value("${accommodation.calendar-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.roomMapper = roomMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 구간에 걸친 달의 달력 조회 (없는 달은 한 번의 쿼리로 적재)
+     *
+     * @param accommodationId 숙소 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 월 순서대로 정렬된 달력
+     */
+    public List<MonthCalendar> getMonths(Long accommodationId, LocalDate from, LocalDate to) {
+        List<MonthKey> keys = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            keys.add(new MonthKey(accommodationId, month));
+        }
+        Map<MonthKey, MonthCalendar> loaded = cache.getAll(keys, this::loadMonths);
+        return keys.stream().map(loaded::get).toList();
+    }
+
+    /**
+     * 숙박 구간과 겹치는 달 무효화
+     *
+     * @param accommodationId 숙소 ID
+     * @param checkIn 체크인
+     * @param checkOut 체크아웃 (미포함)
+     */
+    public void invalidate(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            invalidateAccommodation(accommodationId);
+            return;
+        }
+        YearMonth last = YearMonth.from(checkOut.minusDays(1));
+        for (YearMonth month = YearMonth.from(checkIn); !month.isAfter(last); month = month.plusMonths(1)) {
+            cache.invalidate(new MonthKey(accommodationId, month));
+        }
+    }
+
+    /**
+     * 숙소의 모든 달 무효화 (객실 추가/삭제 등)
+     */
+    public void invalidateAccommodation(Long accommodationId) {
+        cache.asMap().keySet().removeIf(key -> key.accommodationId().equals(accommodationId));
+    }
+
+    /**
+     * 캐시에 없는 달들을 숙소별로 묶어 첫 달 1일 ~ 마지막 달 말일 구간을 한 번에 조회
+     */
+    private Map<MonthKey, MonthCalendar> loadMonths(Set<? extends MonthKey> missing) {
+        Map<Long, List<MonthKey>> byAccommodation = new LinkedHashMap<>();
+        missing.forEach(key -> byAccommodation.computeIfAbsent(key.accommodationId(), id -> new ArrayList<>()).add(key));
+
+        Map<MonthKey, MonthCalendar> result = new LinkedHashMap<>();
+        byAccommodation.forEach((accommodationId, keys) -> {
+            YearMonth first = keys.stream().map(MonthKey::month).min(YearMonth::compareTo).orElseThrow();
+            YearMonth last = keys.stream().map(MonthKey::month).max(YearMonth::compareTo).orElseThrow();
+            List<RoomStayDto> stays = roomMapper.selectRoomStays(
+                    accommodationId, first.atDay(1), last.plusMonths(1).atDay(1));
+
+            for (MonthKey key : keys) {
+                result.put(key, MonthCalendar.of(key.month(), stays));
+            }
+            log.debug("객실 달력 적재: accommodationId={}, {}~{}, {}행", accommodationId, first, last, stays.size());
+        });
+        return result;
+    }
+
+    /**
+     * 캐시 키 (숙소, 월)
+     */
+    record MonthKey(Long accommodationId, YearMonth month) {
+    }
+
+    /**
+     * 한 달치 객실별 점유 비트맵 (객실 ID 순서 유지)
+     */
+    public record MonthCalendar(YearMonth month, Map<Long, Long> roomBits) {
+
+        /**
+         * 객실 ID, 체크인 순으로 정렬된 점유 구간을 이 달의 비트맵으로 병합
+         * - 예약이 없는 객실도 LEFT JOIN으로 한 행(체크인/체크아웃 null)이 오므로 빈 비트맵으로 포함된다
+         */
+        static MonthCalendar of(YearMonth month, List<RoomStayDto> stays) {
+            LocalDate monthStart = month.atDay(1);
+            LocalDate monthEnd = month.plusMonths(1).atDay(1);
+            Map<Long, Long> roomBits = new LinkedHashMap<>();
+            for (RoomStayDto stay : stays) {
+                long bits = roomBits.getOrDefault(stay.getRoomId(), 0L);
+                if (stay.getCheckIn() != null && stay.getCheckOut() != null
+                        && stay.getCheckIn().isBefore(monthEnd) && stay.getCheckOut().isAfter(monthStart)) {
+                    int fromDay = (int) Math.max(0, stay.getCheckIn().toEpochDay() - monthStart.toEpochDay());
+                    int toDay = (int) Math.min(month.lengthOfMonth(), stay.getCheckOut().toEpochDay() - monthStart.toEpochDay());
+                    bits |= rangeMask(fromDay, toDay);
+                }
+                roomBits.put(stay.getRoomId(), bits);
+            }
+            return new MonthCalendar(month, Collections.unmodifiableMap(roomBits));
+        }
+
+        /**
+         * 해당 날짜 밤의 점유 여부
+         */
+        public boolean isBlocked(Long roomId, LocalDate date) {
+            long bits = roomBits.getOrDefault(roomId, 0L);
+            return (bits & (1L << (date.getDayOfMonth() - 1))) != 0;
+        }
+
+        private static long rangeMask(int fromDay, int toDay) {
+            if (toDay <= fromDay) {
+                return 0L;
+            }
+            return ((1L << (toDay - fromDay)) - 1) << fromDay;
+        }
+    }
+}
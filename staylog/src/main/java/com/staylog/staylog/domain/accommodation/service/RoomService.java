@@ -3,11 +3,13 @@ package com.staylog.staylog.domain.accommodation.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.staylog.staylog.domain.accommodation.dto.response.RoomCalendarResponse;
 import com.staylog.staylog.domain.accommodation.dto.response.RoomDetailResponse;
 
 public interface RoomService {
 
 	RoomDetailResponse roomDetail(long roomId);
 	List<String> blockedDate(Long roomId, LocalDate from, LocalDate to);
+	RoomCalendarResponse roomCalendar(Long accommodationId, LocalDate from, LocalDate to);
 	
 }
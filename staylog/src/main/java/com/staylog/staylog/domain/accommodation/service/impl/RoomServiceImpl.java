@@ -1,14 +1,20 @@
 package com.staylog.staylog.domain.accommodation.service.impl;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import com.staylog.staylog.domain.accommodation.dto.response.RoomCalendarResponse;
 import com.staylog.staylog.domain.accommodation.dto.response.RoomDetailResponse;
 import com.staylog.staylog.domain.accommodation.mapper.RoomMapper;
+import com.staylog.staylog.domain.accommodation.service.RoomCalendarCache;
 import com.staylog.staylog.domain.accommodation.service.RoomService;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.exception.BusinessException;
@@ -22,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RoomServiceImpl implements RoomService{
 
 	private final RoomMapper roomMapper;
+	private final RoomCalendarCache roomCalendarCache;
 
 
 	
@@ -92,4 +99,73 @@ public class RoomServiceImpl implements RoomService{
 	}
 
 	
+	/**
+	 * 숙소 객실별 예약 달력
+	 * - 객실마다 blockedDate를 부르는 대신, 구간에 걸친 달을 RoomCalendarCache에서 한 번에 조회
+	 * - 점유 기준은 예약 생성과 동일하게 PENDING/CONFIRMED
+	 */
+	@Override
+	public RoomCalendarResponse roomCalendar(Long accommodationId, LocalDate from, LocalDate to) {
+
+		final long MAX_DAYS = 90L;
+
+		if(accommodationId == null || accommodationId <= 0) {
+			log.warn("숙소 불러올 수 없음");
+			throw new BusinessException(ErrorCode.ACCOMMODATION_NOT_FOUND);
+		}
+
+		//날짜 필수
+		if(from == null || to == null) {
+			log.warn("날짜가 비워져있습니다.");
+			throw new BusinessException(ErrorCode.DATE_NOT_FOUND);
+		}
+		if (to.isBefore(from)) {
+			throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+		}
+
+		//최대 조회 범위 90일
+		long days = ChronoUnit.DAYS.between(from, to) + 1;
+		if (days > MAX_DAYS) {
+			log.warn("날짜 범위가 너무 깁니다. accommodationId={}, from={}, to={}", accommodationId, from, to);
+			throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+		}
+
+		List<RoomCalendarCache.MonthCalendar> months;
+		try {
+			months = roomCalendarCache.getMonths(accommodationId, from, to);
+		} catch(DataAccessException e) {
+			log.warn("DB 예외");
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+
+		// 달마다 적재 시점이 다를 수 있으므로 모든 달의 객실을 합쳐서 사용
+		Map<Long, StringBuilder> blocked = new LinkedHashMap<>();
+		months.forEach(month -> month.roomBits().keySet()
+				.forEach(roomId -> blocked.computeIfAbsent(roomId, id -> new StringBuilder((int) days))));
+
+		int monthIndex = 0;
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			while (!months.get(monthIndex).month().equals(YearMonth.from(date))) {
+				monthIndex++;
+			}
+			RoomCalendarCache.MonthCalendar month = months.get(monthIndex);
+			for (Map.Entry<Long, StringBuilder> entry : blocked.entrySet()) {
+				entry.getValue().append(month.isBlocked(entry.getKey(), date) ? '1' : '0');
+			}
+		}
+
+		List<RoomCalendarResponse.RoomDays> rooms = new ArrayList<>(blocked.size());
+		blocked.forEach((roomId, flags) -> rooms.add(RoomCalendarResponse.RoomDays.builder()
+				.roomId(roomId)
+				.blocked(flags.toString())
+				.build()));
+
+		return RoomCalendarResponse.builder()
+				.accommodationId(accommodationId)
+				.from(from)
+				.to(to)
+				.rooms(rooms)
+				.build();
+	}
+
 }
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import com.staylog.staylog.domain.admin.accommodation.mapper.AdminAccommodationM
 import com.staylog.staylog.domain.admin.accommodation.service.AdminAccommodationService;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.common.response.PageResponse;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
 import com.staylog.staylog.global.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -39,6 +41,7 @@ public class AdminAccommodationServiceImpl implements AdminAccommodationService
 	
 	private final AdminAccommodationMapper mapper;
 	private final WebClient kakaoWebClient;  //카카오 api 호출용
+	private final ApplicationEventPublisher eventPublisher;  //검색 프로젝션 갱신용
 	
 	/**
 	 * 숙소 목록 조회
@@ -94,7 +97,7 @@ public class AdminAccommodationServiceImpl implements AdminAccommodationService
 	public void updateAccommodation(AdminAccommodationRequest request) {
 		
 		mapper.updateAccommodation(request);
-		
+		eventPublisher.publishEvent(new AccommodationChangedEvent(request.getAccommodationId()));
 	}
 	
 	/**
@@ -107,6 +110,7 @@ public class AdminAccommodationServiceImpl implements AdminAccommodationService
 		
 		mapper.updateAccommodationStatus(request);
 		mapper.updateAccommodationRoomStatus(request); // 숙소의 객실 상태값 처리
+		eventPublisher.publishEvent(new AccommodationChangedEvent(request.getAccommodationId()));
 	}
 	
 	/**
@@ -132,6 +136,7 @@ public class AdminAccommodationServiceImpl implements AdminAccommodationService
 			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
 		}
 		
+		eventPublisher.publishEvent(new AccommodationChangedEvent(request.getAccommodationId()));
 		log.info("숙소 등록 완료 id={}, lat={}, lng={}", request.getAccommodationId(),request.getLatitude(), request.getLongitude());
 		
 	}
@@ -5,12 +5,14 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.staylog.staylog.domain.admin.board.dto.AdminBoardSearchRequest;
 import com.staylog.staylog.domain.admin.board.dto.AdminBoardStatusRequest;
 import com.staylog.staylog.domain.admin.board.mapper.AdminBoardMapper;
 import com.staylog.staylog.domain.admin.board.service.AdminBoardService;
 import com.staylog.staylog.domain.board.dto.BoardDto;
+import com.staylog.staylog.domain.board.service.ReviewStatsService;
 import com.staylog.staylog.global.common.response.PageResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminBoardServiceImpl implements AdminBoardService{
 	
 	private final AdminBoardMapper mapper;
+	private final ReviewStatsService reviewStatsService;
 	
     /**
      * 게시글 목록 조회
@@ -72,12 +75,25 @@ public class AdminBoardServiceImpl implements AdminBoardService{
 	
     /**
      * 게시글 상태전환 (삭제/복원)
+     * 리뷰 게시글이면 삭제/복원을 숙소 리뷰 집계에 반영
      * @param request 게시글 상태 변경 요청 DTO (boardId, deletedYn 포함)
      * @return 삭제된 행 수
      */
 	@Override
+	@Transactional
 	public void updateBoardStatus(AdminBoardStatusRequest request) {
 		
+		BoardDto review = reviewStatsService.lockReview(request.getBoardId());
+		
 		mapper.updateBoardStatus(request);
+		
+		if (review == null || review.getDeleted() == null || review.getDeleted().equals(request.getDeleted())) {
+			return;
+		}
+		if ("Y".equals(request.getDeleted())) {
+			reviewStatsService.removed(review.getAccommodationId(), review.getRating());
+		} else if ("N".equals(request.getDeleted())) {
+			reviewStatsService.added(review.getAccommodationId(), review.getRating());
+		}
 	}
 }
@@ -9,9 +9,12 @@ import com.staylog.staylog.domain.admin.reservation.mapper.AdminReservationMappe
 import com.staylog.staylog.domain.admin.reservation.service.AdminReservationService;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.common.response.PageResponse;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
 import com.staylog.staylog.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,6 +28,7 @@ import java.util.List;
 public class AdminReservationServiceImpl implements AdminReservationService {
 
     private final AdminReservationMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -49,13 +53,20 @@ public class AdminReservationServiceImpl implements AdminReservationService {
         return mapper.getReservationDetail(bookingId);
     }
 
+    /**
+     * 예약 상태 변경
+     * - 객실-박 점유 해제/재점유(BookingEventListener.syncRoomNights)가 커밋 직전에 같은 트랜잭션에서 실행됨
+     *   (다시 점유 상태로 바꾸려는 박을 다른 예약이 점유 중이면 RoomNotAvailableException으로 변경 전체 롤백)
+     */
     @Override
+    @Transactional
     public void updateReservationStatus(Long bookingId, String status) {
         int result = mapper.updateReservationStatus(bookingId, status);
         if (result == 0 ) {
             // 없는 예약이거나 같은 상태로 업데이트 시도 등
             throw new BusinessException(ErrorCode.BOOKING_NOT_FOUND);
         }
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, status));
     }
 
     @Override
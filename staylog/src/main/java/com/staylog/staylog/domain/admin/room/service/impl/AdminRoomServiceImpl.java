@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.staylog.staylog.domain.admin.room.dto.request.AdminRoomRequest;
@@ -13,6 +14,7 @@ import com.staylog.staylog.domain.admin.room.dto.response.AdminRoomDetailRespons
 import com.staylog.staylog.domain.admin.room.mapper.AdminRoomMapper;
 import com.staylog.staylog.domain.admin.room.service.AdminRoomService;
 import com.staylog.staylog.global.common.response.PageResponse;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminRoomServiceImpl implements AdminRoomService {
 
 	private final AdminRoomMapper mapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 특정 숙소의 객실 목록 조회
@@ -81,6 +84,12 @@ public class AdminRoomServiceImpl implements AdminRoomService {
 	public void updateRoomStatus(RoomUpdateStatusRequest request) {
 		
 		mapper.updateRoomStatus(request);
+
+		// 검색 프로젝션 갱신 이벤트 발행 (요청에 숙소 ID가 없으므로 객실로 조회)
+		AdminRoomDetailResponse room = mapper.selectRoomDetail(request.getRoomId());
+		if (room != null) {
+			eventPublisher.publishEvent(new AccommodationChangedEvent(room.getAccommodationId(), true));
+		}
 	}
 
 	/**
@@ -91,6 +100,7 @@ public class AdminRoomServiceImpl implements AdminRoomService {
 	@Override
 	public void updateRoom(AdminRoomRequest request) {
 		mapper.updateRoom(request);
+		eventPublisher.publishEvent(new AccommodationChangedEvent(request.getAccommodationId(), true));
 	}
 
 	/**
@@ -102,5 +112,6 @@ public class AdminRoomServiceImpl implements AdminRoomService {
 	@Override
 	public void addRoom(AdminRoomRequest request) {
 		mapper.insertRoom(request);
+		eventPublisher.publishEvent(new AccommodationChangedEvent(request.getAccommodationId(), true));
 	}
 }
\ No newline at end of file
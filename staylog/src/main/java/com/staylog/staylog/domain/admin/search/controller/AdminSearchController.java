@@ -0,0 +1,72 @@
+package com.staylog.staylog.domain.admin.search.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staylog.staylog.domain.search.dto.response.ProjectionCheckResponse;
+import com.staylog.staylog.domain.search.service.SearchProjectionService;
+import com.staylog.staylog.global.common.code.SuccessCode;
+import com.staylog.staylog.global.common.response.SuccessResponse;
+import com.staylog.staylog.global.common.util.MessageUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 검색 관리 컨트롤러
+ * 숙소 검색 프로젝션 재구축, 정합성 검사 기능을 제공합니다.
+ */
+@Tag(name = "AdminSearchController", description = "관리자 검색 관리 API")
+@RequestMapping("/v1")
+@RestController
+@RequiredArgsConstructor
+public class AdminSearchController {
+
+	private final SearchProjectionService searchProjectionService;
+	private final MessageUtil messageUtil;
+
+	/**
+	 * 숙소 검색 프로젝션 전체 재구축
+	 * 
+	 * @return 재구축된 숙소 수
+	 */
+	@Operation(
+		summary = "검색 프로젝션 재구축", 
+		description = "숙소 검색 프로젝션을 원본 테이블 기준으로 전체 재구축합니다."
+	)
+	@PostMapping("/admin/search/projection/rebuild")
+	public ResponseEntity<SuccessResponse<Map<String, Integer>>> rebuild() {
+		int rebuilt = searchProjectionService.rebuild();
+		String message = messageUtil.getMessage(SuccessCode.SUCCESS.getMessageKey());
+		String code = SuccessCode.SUCCESS.name();
+		return ResponseEntity.ok(SuccessResponse.of(code, message, Map.of("rebuilt", rebuilt)));
+	}
+
+	/**
+	 * 숙소 검색 프로젝션 정합성 검사
+	 * 
+	 * @param repair true면 불일치 숙소를 다시 반영
+	 * @return 검사 결과
+	 */
+	@Operation(
+		summary = "검색 프로젝션 정합성 검사", 
+		description = "숙소 검색 프로젝션과 원본 테이블 집계를 비교합니다. repair=true면 불일치 숙소를 다시 반영합니다."
+	)
+	@GetMapping("/admin/search/projection/check")
+	public ResponseEntity<SuccessResponse<ProjectionCheckResponse>> check(
+			@Parameter(description = "불일치 보정 여부")
+			@RequestParam(defaultValue = "false") boolean repair) {
+		ProjectionCheckResponse result = searchProjectionService.checkConsistency(repair);
+		String message = messageUtil.getMessage(SuccessCode.SUCCESS.getMessageKey());
+		String code = SuccessCode.SUCCESS.name();
+		return ResponseEntity.ok(SuccessResponse.of(code, message, result));
+	}
+}
@@ -9,6 +9,7 @@ import com.staylog.staylog.domain.auth.mapper.EmailMapper;
 import com.staylog.staylog.domain.auth.service.AuthService;
 import com.staylog.staylog.domain.user.dto.UserDto;
 import com.staylog.staylog.domain.user.mapper.UserMapper;
+import com.staylog.staylog.global.annotation.SchedulerLease;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.event.SignupEvent;
 import com.staylog.staylog.global.exception.BusinessException;
@@ -159,6 +160,7 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+    @SchedulerLease(name = "refresh-token-cleanup")
     public void deleteExpiredTokens() {
         refreshTokenMapper.deleteExpiredTokens();
     }
@@ -4,6 +4,7 @@ import com.staylog.staylog.domain.auth.dto.EmailVerificationDto;
 import com.staylog.staylog.domain.auth.mapper.EmailMapper;
 import com.staylog.staylog.domain.auth.service.MailService;
 import com.staylog.staylog.domain.user.mapper.UserMapper;
+import com.staylog.staylog.global.annotation.SchedulerLease;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.exception.BusinessException;
 import jakarta.mail.internet.MimeMessage;
@@ -149,6 +150,7 @@ public class MailServiceImpl implements MailService {
      * @author 이준혁
      */
     @Scheduled(cron = "0 0 4 * * *") // 매일 새벽 4시
+    @SchedulerLease(name = "mail-expired-cleanup")
     public void deleteExpiredEmail() {
         log.info("만료된 이메일 인증 데이터 삭제 스케줄러 실행");
         emailMapper.deleteExpiredEmail(LocalDateTime.now());
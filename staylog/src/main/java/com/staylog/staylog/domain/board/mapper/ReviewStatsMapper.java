@@ -0,0 +1,26 @@
+package com.staylog.staylog.domain.board.mapper;
+
+import com.staylog.staylog.domain.board.dto.BoardDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 숙소별 리뷰 집계(ACCOMMODATION_REVIEW_STATS) 매퍼
+ */
+@Mapper
+public interface ReviewStatsMapper {
+
+    // 집계 변경 대상 리뷰 조회 + 행 잠금 (boardType, accommodationId, rating, deleted)
+    BoardDto selectReviewForUpdate(long boardId);
+
+    // 집계 증감 (행이 없으면 생성)
+    int applyDelta(@Param("accommodationId") Long accommodationId,
+                   @Param("ratingSum") long ratingSum,
+                   @Param("ratingCount") int ratingCount,
+                   @Param("reviewCount") int reviewCount);
+
+    // 원본 재집계로 보정 (accommodationId가 null이면 전체), 보정된 행 수 반환
+    int repairStats(@Param("accommodationId") Long accommodationId);
+
+    boolean existsAnyStats();
+}
@@ -9,6 +9,7 @@ import com.staylog.staylog.domain.board.mapper.BoardMapper;
 import com.staylog.staylog.domain.image.assembler.ImageAssembler;
 import com.staylog.staylog.global.common.dto.PageRequest;
 import com.staylog.staylog.global.common.response.PageResponse;
+import com.staylog.staylog.global.constant.ImageVariant;
 import com.staylog.staylog.global.event.ReviewCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -24,6 +25,7 @@ public class BoardServiceImpl implements BoardService {
     private final BoardMapper boardMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final ImageAssembler imageAssembler;
+    private final ReviewStatsService reviewStatsService;
 
 
     @Override
@@ -47,7 +49,7 @@ public class BoardServiceImpl implements BoardService {
         // 게시글 목록
         List<BoardDto> boardList = boardMapper.getByBoardType(boardListRequest);
         
-        imageAssembler.assembleMainImageUrl(boardList, BoardDto::getBoardId, BoardDto::setImageUrl, board -> board.getBoardType());
+        imageAssembler.assembleMainImageUrl(boardList, BoardDto::getBoardId, BoardDto::setImageUrl, board -> board.getBoardType(), ImageVariant.W480);
         
         // 4️⃣ BoardListResponse로 묶어서 반환
         BoardListResponse boardListResponse = new BoardListResponse();
@@ -76,6 +78,8 @@ public class BoardServiceImpl implements BoardService {
 
         // =============== 리뷰 게시글 작성 이벤트 발행(알림 발송) ==================
         if(boardDto.getBoardType().equals("BOARD_REVIEW")) { // 리뷰 게시글만 알림 전송
+            reviewStatsService.added(boardDto.getAccommodationId(), boardDto.getRating());
+
             ReviewCreatedEvent event = new ReviewCreatedEvent(boardDto.getBoardId(), boardDto.getAccommodationId(), boardDto.getBookingId(), boardDto.getUserId());
             eventPublisher.publishEvent(event);
         }
@@ -83,18 +87,34 @@ public class BoardServiceImpl implements BoardService {
         return boardDto;
     }
 
+    // 게시글 수정 (리뷰면 별점 변경분을 숙소 리뷰 집계에 반영)
     @Override
+    @Transactional
     public void update(BoardDto boardDto) {
 
+        BoardDto review = reviewStatsService.lockReview(boardDto.getBoardId());
+
         boardMapper.update(boardDto);
 
+        if (review != null && "N".equals(review.getDeleted())) {
+            reviewStatsService.ratingChanged(review.getAccommodationId(), review.getRating(), boardDto.getRating());
+        }
+
     }
 
+    // 게시글 삭제 (리뷰면 숙소 리뷰 집계에서 제외, 이미 삭제된 글은 중복 차감하지 않음)
     @Override
+    @Transactional
     public void delete(long boardId) {
 
+        BoardDto review = reviewStatsService.lockReview(boardId);
+
         boardMapper.delete(boardId);
 
+        if (review != null && "N".equals(review.getDeleted())) {
+            reviewStatsService.removed(review.getAccommodationId(), review.getRating());
+        }
+
     }
 
     @Override
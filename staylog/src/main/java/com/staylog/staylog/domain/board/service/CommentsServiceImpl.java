@@ -10,6 +10,7 @@ import com.staylog.staylog.domain.board.dto.CommentsDto;
 import com.staylog.staylog.domain.board.mapper.CommentsMapper;
 import com.staylog.staylog.domain.image.assembler.ImageAssembler;
 import com.staylog.staylog.global.common.code.ErrorCode;
+import com.staylog.staylog.global.constant.ImageVariant;
 import com.staylog.staylog.global.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -38,7 +39,7 @@ public class CommentsServiceImpl implements CommentsService {
             log.warn("댓글 목록이 없습니다 : boardId={}", boardId);
             throw new BusinessException(ErrorCode.COMMENTS_NOT_FOUND);
         }
-        imageAssembler.assembleMainImageUrl(comments, CommentsDto::getUserId, CommentsDto::setProfileUrl, "PROFILE");
+        imageAssembler.assembleMainImageUrl(comments, CommentsDto::getUserId, CommentsDto::setProfileUrl, "PROFILE", ImageVariant.W160);
         
         log.info("댓글 목록 조회 성공 - {}개", comments.size());
         return comments;
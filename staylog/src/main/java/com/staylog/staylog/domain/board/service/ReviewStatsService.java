@@ -0,0 +1,38 @@
+package com.staylog.staylog.domain.board.service;
+
+import com.staylog.staylog.domain.board.dto.BoardDto;
+
+/**
+ * 숙소별 리뷰 집계 유지
+ * - 리뷰 작성/수정/삭제/복원과 같은 트랜잭션에서 증감 반영
+ */
+public interface ReviewStatsService {
+
+    /**
+     * 집계 변경 대상 게시글을 잠그고 조회 (수정/삭제 전에 호출)
+     * @param boardId 게시글 ID
+     * @return 리뷰 게시글이 아니거나 없으면 null
+     */
+    BoardDto lockReview(long boardId);
+
+    /**
+     * 리뷰 추가 반영 (작성, 복원)
+     */
+    void added(Long accommodationId, Integer rating);
+
+    /**
+     * 리뷰 제거 반영 (삭제)
+     */
+    void removed(Long accommodationId, Integer rating);
+
+    /**
+     * 별점 변경 반영 (수정)
+     */
+    void ratingChanged(Long accommodationId, Integer oldRating, Integer newRating);
+
+    /**
+     * 원본 게시글 기준 전체 재집계
+     * @return 보정된 숙소 수
+     */
+    int repair();
+}
@@ -0,0 +1,103 @@
+package com.staylog.staylog.domain.board.service;
+
+import com.staylog.staylog.domain.board.dto.BoardDto;
+import com.staylog.staylog.domain.board.mapper.ReviewStatsMapper;
+import com.staylog.staylog.global.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * 숙소별 리뷰 집계 서비스
+ * - 홈/숙소 상세/관리자 화면은 BOARD를 GROUP BY 하지 않고 ACCOMMODATION_REVIEW_STATS 한 행만 조회
+ * - 증감은 호출한 게시글 트랜잭션 안에서 반영되므로 게시글 변경과 함께 커밋/롤백
+ * - 누락/오차는 ReviewStatsScheduler의 재집계로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewStatsServiceImpl implements ReviewStatsService {
+
+    private static final String REVIEW_BOARD_TYPE = "BOARD_REVIEW";
+
+    private final ReviewStatsMapper reviewStatsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 서버 기동 시 집계가 비어 있으면 재집계 (테이블 생성 직후 최초 배포 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairIfEmpty() {
+        try {
+            if (!reviewStatsMapper.existsAnyStats()) {
+                log.info("숙소 리뷰 집계가 비어 있어 재집계합니다.");
+                repair();
+            }
+        } catch (Exception e) {
+            log.error("숙소 리뷰 집계 초기 재집계 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public BoardDto lockReview(long boardId) {
+        BoardDto board = reviewStatsMapper.selectReviewForUpdate(boardId);
+        if (board == null || !REVIEW_BOARD_TYPE.equals(board.getBoardType()) || board.getAccommodationId() == null) {
+            return null;
+        }
+        return board;
+    }
+
+    @Override
+    public void added(Long accommodationId, Integer rating) {
+        apply(accommodationId, rating == null ? 0 : rating, rating == null ? 0 : 1, 1);
+    }
+
+    @Override
+    public void removed(Long accommodationId, Integer rating) {
+        apply(accommodationId, rating == null ? 0 : -rating, rating == null ? 0 : -1, -1);
+    }
+
+    @Override
+    public void ratingChanged(Long accommodationId, Integer oldRating, Integer newRating) {
+        if (Objects.equals(oldRating, newRating)) {
+            // 집계는 그대로지만 제목/내용 변경을 리뷰 목록 캐시에 알린다
+            apply(accommodationId, 0, 0, 0);
+            return;
+        }
+        apply(accommodationId,
+                (newRating == null ? 0 : newRating) - (oldRating == null ? 0 : oldRating),
+                (newRating == null ? 0 : 1) - (oldRating == null ? 0 : 1),
+                0);
+    }
+
+    @Override
+    @Transactional
+    public int repair() {
+        long start = System.currentTimeMillis();
+        int repaired = reviewStatsMapper.repairStats(null);
+        log.info("숙소 리뷰 집계 재집계 완료: 보정 {}건, {}ms", repaired, System.currentTimeMillis() - start);
+        return repaired;
+    }
+
+    private void apply(Long accommodationId, long ratingSum, int ratingCount, int reviewCount) {
+        if (accommodationId == null) {
+            return;
+        }
+        if (ratingSum != 0 || ratingCount != 0 || reviewCount != 0) {
+            try {
+                reviewStatsMapper.applyDelta(accommodationId, ratingSum, ratingCount, reviewCount);
+            } catch (DuplicateKeyException e) {
+                // 집계 행이 없던 숙소의 첫 리뷰가 동시에 들어와 다른 트랜잭션이 먼저 INSERT -> 이번에는 MATCHED로 처리됨
+                reviewStatsMapper.applyDelta(accommodationId, ratingSum, ratingCount, reviewCount);
+            }
+        }
+        eventPublisher.publishEvent(new ReviewChangedEvent(accommodationId));
+    }
+}
@@ -0,0 +1,159 @@
+package com.staylog.staylog.domain.booking.listener;
+
+import com.staylog.staylog.domain.booking.dto.response.BookingDetailResponse;
+import com.staylog.staylog.domain.booking.mapper.BookingMapper;
+import com.staylog.staylog.domain.booking.service.BookingExpiryTimer;
+import com.staylog.staylog.domain.booking.service.RoomAvailabilityIndex;
+import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingCreatedEvent;
+import com.staylog.staylog.global.event.BookingExpiresAtChangedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
+import com.staylog.staylog.global.event.BookingsExpiredEvent;
+import com.staylog.staylog.global.exception.custom.booking.RoomNotAvailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 이벤트 리스너
+ * - 점유 해제 시 ROOM_NIGHT 행을 상태 변경과 같은 트랜잭션에서 삭제하고,
+ *   점유하지 않던 예약이 다시 점유 상태가 되면 같은 트랜잭션에서 다시 생성 (이미 점유된 박이 있으면 상태 변경 거절)
+ * - 커밋된 예약 생성/상태 변경을 객실 가용성 인덱스에 반영
+ * - 커밋된 만료 시각을 예약 만료 타이머에 등록/해제
+ * - 인메모리 갱신이므로 비동기 처리하지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BookingEventListener {
+
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final BookingMapper bookingMapper;
+    private final BookingExpiryTimer bookingExpiryTimer;
+
+    /**
+     * 예약 생성 반영(예약 생성 이벤트리스너)
+     *
+     * @param event 예약 생성 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingCreated(BookingCreatedEvent event) {
+        roomAvailabilityIndex.book(event.getBookingId(), event.getRoomId(), event.getCheckIn(), event.getCheckOut());
+        bookingExpiryTimer.schedule(event.getBookingId(), event.getExpiresAt());
+    }
+
+    /**
+     * 만료 타이머 재등록(예약 만료 시각 변경 이벤트리스너)
+     *
+     * @param event 예약 만료 시각 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingExpiresAtChanged(BookingExpiresAtChangedEvent event) {
+        bookingExpiryTimer.schedule(event.getBookingId(), event.getExpiresAt());
+    }
+
+    /**
+     * 객실-박 점유 동기화(예약 상태 변경 이벤트리스너)
+     * - 상태 변경과 원자적으로 처리하기 위해 커밋 직전에 같은 트랜잭션에서 실행
+     * - 점유 해제 상태면 점유 행 삭제
+     * - 점유 상태인데 점유 행이 없으면(취소/만료 후 관리자 복구, 만료 후 결제 확정 등) 다시 생성
+     *   (상태 UPDATE가 예약 행을 잠그고 있으므로 같은 예약의 상태 변경끼리는 겹치지 않음)
+     *
+     * @param event 예약 상태 변경 이벤트 객체
+     * @throws RoomNotAvailableException 그 사이 다른 예약이 같은 박을 점유한 경우 (트랜잭션 롤백)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void syncRoomNights(BookingStatusChangedEvent event) {
+        long bookingId = event.getBookingId();
+        if (!isOccupying(event.getStatus())) {
+            int deleted = bookingMapper.deleteRoomNightsByBookingId(bookingId);
+            log.debug("객실-박 점유 해제: bookingId={}, {}박", bookingId, deleted);
+            return;
+        }
+        if (bookingMapper.countRoomNightsByBookingId(bookingId) > 0) {
+            return;
+        }
+
+        BookingDetailResponse booking = bookingMapper.findBookingById(bookingId);
+        if (booking == null) {
+            log.warn("객실-박 점유 대상 예약 없음: bookingId={}", bookingId);
+            return;
+        }
+        try {
+            int inserted = bookingMapper.insertRoomNights(bookingId, booking.getRoomId(),
+                    booking.getCheckIn(), booking.getCheckOut());
+            log.debug("객실-박 재점유: bookingId={}, {}박", bookingId, inserted);
+        } catch (DuplicateKeyException e) {
+            log.warn("재점유 불가: bookingId={}, roomId={}, checkIn={}, checkOut={} 중 이미 점유된 날짜 존재",
+                    bookingId, booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut());
+            throw new RoomNotAvailableException(booking.getRoomId());
+        }
+    }
+
+    /**
+     * 예약 상태 변경 반영(예약 상태 변경 이벤트리스너)
+     * - PENDING/CONFIRMED 이외의 상태로 바뀌면 점유 해제
+     * - 인덱스에 없는 예약이 다시 점유 상태가 되면 DB에서 구간을 조회해 반영
+     *
+     * @param event 예약 상태 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingStatusChanged(BookingStatusChangedEvent event) {
+        long bookingId = event.getBookingId();
+
+        if (!ReservationStatus.RES_PENDING.getCode().equals(event.getStatus())) {
+            bookingExpiryTimer.cancel(bookingId);
+        }
+
+        if (!isOccupying(event.getStatus())) {
+            roomAvailabilityIndex.release(bookingId);
+            return;
+        }
+
+        if (roomAvailabilityIndex.findHold(bookingId) != null) {
+            return;
+        }
+
+        BookingDetailResponse booking = bookingMapper.findBookingById(bookingId);
+        if (booking == null) {
+            log.warn("가용성 인덱스 반영 대상 예약 없음: bookingId={}", bookingId);
+            return;
+        }
+        roomAvailabilityIndex.book(bookingId, booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut());
+    }
+
+    /**
+     * 만료 예약 객실-박 점유 일괄 해제(만료 일괄 취소 이벤트리스너)
+     *
+     * @param event 만료 일괄 취소 이벤트 객체
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void releaseExpiredRoomNights(BookingsExpiredEvent event) {
+        int deleted = bookingMapper.deleteRoomNightsByBookingIds(event.getBookingIds());
+        log.debug("만료 예약 객실-박 점유 해제: 예약 {}건, {}박", event.getBookingIds().size(), deleted);
+    }
+
+    /**
+     * 만료 예약 가용성 인덱스 반영(만료 일괄 취소 이벤트리스너)
+     *
+     * @param event 만료 일괄 취소 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingsExpired(BookingsExpiredEvent event) {
+        event.getBookingIds().forEach(bookingId -> {
+            roomAvailabilityIndex.release(bookingId);
+            bookingExpiryTimer.cancel(bookingId);
+        });
+    }
+
+    /**
+     * 객실을 점유하는 상태인지 여부 (BookingMapper.findActiveBookingsBetween과 동일 기준)
+     */
+    private boolean isOccupying(String status) {
+        return ReservationStatus.RES_PENDING.getCode().equals(status)
+                || ReservationStatus.RES_CONFIRMED.getCode().equals(status);
+    }
+}
@@ -18,15 +18,49 @@ import java.util.Map;
 public interface BookingMapper {
 
     /**
-     * 객실 가용성 체크 (중복 예약 확인)
+     * 객실-박 점유 행 생성 (ROOM_NIGHT, 1박 = 1행)
+     * - (ROOM_ID, STAY_DATE) 유니크 인덱스로 노드와 무관하게 중복 예약을 막는다
+     * @param bookingId 예약 ID
      * @param roomId 객실 ID
      * @param checkIn 체크인 날짜
-     * @param checkOut 체크아웃 날짜
-     * @return 중복 예약 건수 (0이면 예약 가능)
+     * @param checkOut 체크아웃 날짜 (미포함)
+     * @return 생성된 행 수
+     * @throws org.springframework.dao.DuplicateKeyException 이미 점유된 박이 있는 경우
+     */
+    int insertRoomNights(@Param("bookingId") Long bookingId,
+                         @Param("roomId") Long roomId,
+                         @Param("checkIn") LocalDate checkIn,
+                         @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * 예약의 객실-박 점유 행 수 (다시 점유 상태가 된 예약의 재점유 여부 판단)
+     * @param bookingId 예약 ID
+     * @return 점유 행 수
+     */
+    int countRoomNightsByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * 예약의 객실-박 점유 행 삭제 (취소/만료/환불 등 점유 해제 시)
+     * @param bookingId 예약 ID
+     * @return 삭제된 행 수
+     */
+    int deleteRoomNightsByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * 여러 예약의 객실-박 점유 행 일괄 삭제 (일괄 만료 시)
+     * @param bookingIds 예약 ID 목록
+     * @return 삭제된 행 수
      */
-    int checkRoomAvailability(@Param("roomId") Long roomId,
-                              @Param("checkIn") LocalDate checkIn,
-                              @Param("checkOut") LocalDate checkOut);
+    int deleteRoomNightsByBookingIds(@Param("bookingIds") List<Long> bookingIds);
+
+    /**
+     * 구간과 겹치는 점유 중(PENDING, CONFIRMED) 예약 조회 (가용성 인덱스 시드용)
+     * @param from 구간 시작일 (포함)
+     * @param to 구간 종료일 (미포함)
+     * @return 예약 목록 (bookingId, roomId, checkIn, checkOut만 채워진 Booking Entity)
+     */
+    List<Booking> findActiveBookingsBetween(@Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
 
     /**
      * 예약 생성
@@ -73,11 +107,38 @@ public interface BookingMapper {
                            @Param("finalAmount") Long finalAmount);
 
     /**
-     * 만료된 예약 조회 (스케줄러용)
+     * 만료된 PENDING 예약 ID 조회 및 행 잠금 (일괄 만료용)
+     * - FOR UPDATE SKIP LOCKED: 결제 승인 등으로 잠긴 행은 건너뛴다
+     *   (잠긴 후보도 limit 자리를 차지하므로 limit보다 적게 돌아와도 남은 예약이 있을 수 있음)
      * @param now 현재 시각
-     * @return 만료된 예약 목록 (일부 필드만 채워진 Booking Entity)
+     * @param bookingIds 대상 예약 ID 목록 (null이면 전체)
+     * @param limit 최대 후보 건수 (IN 절 제한으로 1000 이하)
+     * @return 잠금한 예약 ID 목록
+     */
+    List<Long> lockExpiredBookingIds(@Param("now") LocalDateTime now,
+                                     @Param("bookingIds") List<Long> bookingIds,
+                                     @Param("limit") int limit);
+
+    /**
+     * PENDING 예약의 만료 시각 조회 (기동 시 만료 타이머 복구용)
+     * @return 예약 목록 (bookingId, expiresAt만 채워진 Booking Entity)
+     */
+    List<Booking> findPendingBookingExpiries();
+
+    /**
+     * 예약 일괄 취소 (아직 RES_PENDING인 행만 변경)
+     * @param bookingIds 예약 ID 목록
+     * @return 변경된 행 수
+     */
+    int cancelPendingBookings(@Param("bookingIds") List<Long> bookingIds);
+
+    /**
+     * 예약 중 지정한 상태인 예약 ID 조회
+     * @param bookingIds 예약 ID 목록
+     * @param status 예약 상태 코드
+     * @return 해당 상태인 예약 ID 목록
      */
-    List<Booking> findExpiredBookings(@Param("now") LocalDateTime now);
+    List<Long> findBookingIdsByStatus(@Param("bookingIds") List<Long> bookingIds, @Param("status") String status);
 
 
 
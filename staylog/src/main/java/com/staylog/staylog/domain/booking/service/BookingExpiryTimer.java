@@ -0,0 +1,115 @@
+package com.staylog.staylog.domain.booking.service;
+
+import com.staylog.staylog.domain.booking.entity.Booking;
+import com.staylog.staylog.domain.booking.mapper.BookingMapper;
+import com.staylog.staylog.global.common.util.HierarchicalTimerWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 예약 홀드 만료 타이머
+ * - 예약 생성/결제 준비/결제 승인으로 EXPIRES_AT이 정해질 때마다 등록 (BookingEventListener)
+ * - 만료 시각에 맞춰 해당 예약만 취소하여 객실을 바로 반환
+ * - 기동 시 PENDING 예약을 다시 등록하고, BookingScheduler는 저빈도 보정용으로만 동작
+ */
+@Slf4j
+@Component
+public class BookingExpiryTimer {
+
+    private final BookingMapper bookingMapper;
+    private final BookingService bookingService;
+    private final HierarchicalTimerWheel<Long> wheel;
+
+    // 만료 처리(DB 작업)는 틱 스레드를 막지 않도록 별도 스레드에서 수행
+    private final ExecutorService expiryWorker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "staylog-booking-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // bookingId -> 등록 핸들 (재등록 시 이전 등록 취소)
+    private final Map<Long, HierarchicalTimerWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    public BookingExpiryTimer(BookingMapper bookingMapper,
+                              BookingService bookingService,
+                              @Value("${booking.expiry.tick-ms:1000}") long tickMillis) {
+        this.bookingMapper = bookingMapper;
+        this.bookingService = bookingService;
+        this.wheel = new HierarchicalTimerWheel<>("staylog-booking-expiry-tick", tickMillis, this::onExpired);
+    }
+
+    /**
+     * 서버 기동 완료 후 PENDING 예약의 만료 타이머 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePendingHolds() {
+        try {
+            List<Booking> pendingBookings = bookingMapper.findPendingBookingExpiries();
+            pendingBookings.forEach(booking -> schedule(booking.getBookingId(), booking.getExpiresAt()));
+            log.info("예약 만료 타이머 복구 완료: {}건", pendingBookings.size());
+        } catch (Exception e) {
+            log.error("예약 만료 타이머 복구 실패 - BookingScheduler 보정 주기에 처리됩니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 예약 만료 등록 (이미 등록된 예약이면 새 만료 시각으로 교체)
+     */
+    public void schedule(Long bookingId, LocalDateTime expiresAt) {
+        if (bookingId == null || expiresAt == null) {
+            return;
+        }
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        HierarchicalTimerWheel.Timeout<Long> previous = timeouts.put(bookingId, wheel.schedule(bookingId, deadline));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * 예약 만료 등록 해제 (확정/취소 등 더 이상 PENDING이 아닌 경우)
+     */
+    public void cancel(Long bookingId) {
+        HierarchicalTimerWheel.Timeout<Long> timeout = timeouts.remove(bookingId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * 틱 스레드에서 호출 - 같은 틱에 만료된 예약을 한 번에 처리하도록 위임
+     */
+    private void onExpired(List<Long> bookingIds) {
+        bookingIds.forEach(timeouts::remove);
+        expiryWorker.execute(() -> {
+            try {
+                int canceledCount = bookingService.expireBookings(bookingIds);
+                log.debug("예약 만료 타이머 처리: 대상={}, 취소={}", bookingIds.size(), canceledCount);
+            } catch (Exception e) {
+                log.error("예약 만료 타이머 처리 실패 - BookingScheduler 보정 주기에 처리됩니다: bookingIds={}, error={}",
+                        bookingIds, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 타이머 정리
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        wheel.stop();
+        expiryWorker.shutdownNow();
+    }
+}
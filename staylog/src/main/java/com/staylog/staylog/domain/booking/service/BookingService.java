@@ -3,6 +3,8 @@ package com.staylog.staylog.domain.booking.service;
 import com.staylog.staylog.domain.booking.dto.request.CreateBookingRequest;
 import com.staylog.staylog.domain.booking.dto.response.BookingDetailResponse;
 
+import java.util.List;
+
 /**
  * 예약 서비스 인터페이스
  */
@@ -41,8 +43,16 @@ public interface BookingService {
 
     /**
      * 만료된 예약 자동 취소 (스케줄러용)
-     * - 5분 이상 경과한 PENDING 예약을 CANCELED로 변경
+     * - 만료 시각이 지난 PENDING 예약을 CANCELED로 일괄 변경
+     * - 1회 호출당 최대 booking.expiry.chunk-size 건을 처리
      * @return 취소된 예약 건수
      */
     int cancelExpiredBookings();
+
+    /**
+     * 지정한 예약 중 만료된 PENDING 예약 취소 (만료 타이머용)
+     * @param bookingIds 만료 시각이 도래한 예약 ID 목록
+     * @return 취소된 예약 건수
+     */
+    int expireBookings(List<Long> bookingIds);
 }
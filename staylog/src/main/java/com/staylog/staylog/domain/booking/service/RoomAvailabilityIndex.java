@@ -0,0 +1,239 @@
+package com.staylog.staylog.domain.booking.service;
+
+import com.staylog.staylog.domain.booking.entity.Booking;
+import com.staylog.staylog.domain.booking.mapper.BookingMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 객실 가용성 인메모리 인덱스
+ * - 객실별로 [기준일, 기준일 + windowDays) 구간을 1박 = 1비트로 관리
+ * - 기동 시 RESERVATION에서 시드하고, 매일 자정 이후 기준일을 옮겨 다시 시드
+ * - 예약 생성/상태 변경/만료 취소 시 BookingEventListener를 통해 커밋 후 갱신
+ *
+ * 빠른 거절용 필터이므로 최종 판정은 DB가 담당한다.
+ * (BookingServiceImpl.createBooking 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+
+    /**
+     * 인덱스 조회 결과
+     * UNKNOWN: 시드 전이거나 요청 구간이 인덱스 범위를 벗어난 경우 -> DB로 판단
+     */
+    public enum Availability {
+        AVAILABLE, BOOKED, UNKNOWN
+    }
+
+    private final BookingMapper bookingMapper;
+
+    @Value("${booking.availability-index.window-days:365}")
+    private int windowDays;
+
+    // roomId -> 객실별 비트맵
+    private final Map<Long, RoomNights> rooms = new ConcurrentHashMap<>();
+
+    // bookingId -> 점유 중인 예약 구간 (상태 변경 시 bookingId만으로 해제하기 위함)
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+
+    // 조회/갱신은 read lock(객실 단위 동기화), 재시드는 write lock
+    private final ReentrantReadWriteLock seedLock = new ReentrantReadWriteLock();
+
+    private volatile long baseEpochDay;
+    private volatile boolean ready = false;
+
+    /**
+     * 서버 기동 완료 후 RESERVATION에서 인덱스 시드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        reseed();
+    }
+
+    /**
+     * 매일 00:05에 기준일을 오늘로 옮겨 다시 시드
+     * - 지난 날짜 구간을 버리고 윈도우를 앞으로 민다
+     * - 다른 노드에서 변경된 예약도 이 시점에 반영된다
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void reseed() {
+        seedLock.writeLock().lock();
+        try {
+            long start = System.currentTimeMillis();
+            LocalDate from = LocalDate.now();
+            LocalDate to = from.plusDays(windowDays);
+
+            List<Booking> activeBookings = bookingMapper.findActiveBookingsBetween(from, to);
+
+            rooms.clear();
+            holds.clear();
+            baseEpochDay = from.toEpochDay();
+            for (Booking booking : activeBookings) {
+                addHold(new Hold(booking.getBookingId(), booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut()));
+            }
+            ready = true;
+
+            log.info("객실 가용성 인덱스 시드 완료: from={}, to={}, 예약 {}건, 객실 {}개, {}ms",
+                    from, to, activeBookings.size(), rooms.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            ready = false;
+            log.error("객실 가용성 인덱스 시드 실패 - DB 조회로 대체합니다: {}", e.getMessage(), e);
+        } finally {
+            seedLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 객실의 [checkIn, checkOut) 구간 가용성 조회 - O(박 수)
+     * 재시드 중에는 대기하지 않고 UNKNOWN을 반환한다.
+     */
+    public Availability check(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (!seedLock.readLock().tryLock()) {
+            return Availability.UNKNOWN;
+        }
+        try {
+            if (!ready || !covers(checkIn, checkOut)) {
+                return Availability.UNKNOWN;
+            }
+            RoomNights nights = rooms.get(roomId);
+            if (nights == null) {
+                return Availability.AVAILABLE;
+            }
+            return nights.isFree(offset(checkIn), offset(checkOut))
+                    ? Availability.AVAILABLE
+                    : Availability.BOOKED;
+        } finally {
+            seedLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약 생성(커밋 완료) 반영
+     */
+    public void book(long bookingId, long roomId, LocalDate checkIn, LocalDate checkOut) {
+        seedLock.readLock().lock();
+        try {
+            addHold(new Hold(bookingId, roomId, checkIn, checkOut));
+        } finally {
+            seedLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약 점유 해제(취소/만료/환불 등 커밋 완료) 반영
+     * 같은 객실의 남은 예약 구간은 다시 표시하므로 겹치는 예약이 있어도 안전하다.
+     */
+    public void release(long bookingId) {
+        seedLock.readLock().lock();
+        try {
+            Hold hold = holds.remove(bookingId);
+            if (hold == null) {
+                return;
+            }
+            RoomNights nights = rooms.get(hold.roomId());
+            if (nights != null) {
+                nights.remove(hold);
+            }
+        } finally {
+            seedLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 알고 있는 예약 구간 조회 (없으면 null)
+     */
+    public Hold findHold(long bookingId) {
+        return holds.get(bookingId);
+    }
+
+    private void addHold(Hold hold) {
+        if (hold.checkIn() == null || hold.checkOut() == null || !hold.checkIn().isBefore(hold.checkOut())) {
+            return;
+        }
+        holds.put(hold.bookingId(), hold);
+        rooms.computeIfAbsent(hold.roomId(), id -> new RoomNights(windowDays))
+                .add(hold);
+    }
+
+    private boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        return checkIn != null && checkOut != null
+                && checkIn.isBefore(checkOut)
+                && offset(checkIn) >= 0
+                && offset(checkOut) <= windowDays;
+    }
+
+    private int offset(LocalDate date) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay() - baseEpochDay));
+    }
+
+    /**
+     * 점유 중인 예약 구간 [checkIn, checkOut)
+     */
+    public record Hold(long bookingId, long roomId, LocalDate checkIn, LocalDate checkOut) {
+    }
+
+    /**
+     * 객실 한 개의 박 단위 비트맵
+     * - bit i = 기준일 + i 일의 밤이 점유됨
+     * - 해제 시 다른 예약 구간을 다시 표시하기 위해 예약 구간도 함께 보관
+     */
+    private final class RoomNights {
+
+        private final long[] words;
+        private final Map<Long, Hold> roomHolds = new HashMap<>();
+
+        RoomNights(int days) {
+            this.words = new long[(days + 63) >>> 6];
+        }
+
+        synchronized void add(Hold hold) {
+            roomHolds.put(hold.bookingId(), hold);
+            mark(hold);
+        }
+
+        synchronized void remove(Hold hold) {
+            roomHolds.remove(hold.bookingId());
+            setRange(offset(hold.checkIn()), offset(hold.checkOut()), false);
+            roomHolds.values().forEach(this::mark);
+        }
+
+        synchronized boolean isFree(int from, int to) {
+            for (int night = from; night < to; night++) {
+                if ((words[night >>> 6] & (1L << night)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void mark(Hold hold) {
+            setRange(offset(hold.checkIn()), offset(hold.checkOut()), true);
+        }
+
+        private void setRange(int from, int to, boolean booked) {
+            int start = Math.max(from, 0);
+            int end = Math.min(to, words.length << 6);
+            for (int night = start; night < end; night++) {
+                if (booked) {
+                    words[night >>> 6] |= 1L << night;
+                } else {
+                    words[night >>> 6] &= ~(1L << night);
+                }
+            }
+        }
+    }
+}
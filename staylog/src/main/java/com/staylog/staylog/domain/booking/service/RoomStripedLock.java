@@ -0,0 +1,72 @@
+package com.staylog.staylog.domain.booking.service;
+
+import com.staylog.staylog.global.exception.custom.booking.BookingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 객실 단위 스트라이프 락
+ * - roomId를 고정 개수의 락 중 하나에 대응시켜 같은 객실의 예약 생성만 직렬화
+ * - 서로 다른 객실은 (스트라이프가 겹치지 않는 한) 경합하지 않음
+ * - 노드 간 중복 예약 방지는 ROOM_NIGHT 유니크 인덱스가 담당하며, 이 락은 노드 내 경합을 줄이는 용도
+ */
+@Slf4j
+@Component
+public class RoomStripedLock {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public RoomStripedLock(@Value("${booking.admission.lock-stripes:256}") int stripeCount,
+                           @Value("${booking.admission.lock-timeout-ms:3000}") long timeoutMillis) {
+        this.stripes = new ReentrantLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 객실 락을 획득하고 현재 트랜잭션이 끝날 때(커밋/롤백) 해제되도록 등록
+     * - 커밋 전에 락을 풀면 다음 요청이 아직 보이지 않는 예약을 놓치므로 트랜잭션 종료까지 유지한다
+     *
+     * @param roomId 객실 ID
+     * @throws BookingBusyException 제한 시간 안에 락을 얻지 못했거나 대기 중 인터럽트된 경우 (객실 점유 여부와 무관, 재시도 가능)
+     */
+    public void lockUntilTransactionEnds(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("RoomStripedLock은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+
+        ReentrantLock lock = stripeFor(roomId);
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("객실 락 획득 시간 초과: roomId={}, timeoutMillis={}", roomId, timeoutMillis);
+                throw new BookingBusyException(roomId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingBusyException(roomId);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock stripeFor(Long roomId) {
+        // Long.hashCode의 상/하위 비트를 섞은 뒤 스트라이프 선택
+        int h = Long.hashCode(roomId);
+        h ^= (h >>> 16);
+        return stripes[Math.floorMod(h, stripes.length)];
+    }
+}
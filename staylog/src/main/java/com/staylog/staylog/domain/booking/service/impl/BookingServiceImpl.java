@@ -5,13 +5,23 @@ import com.staylog.staylog.domain.booking.dto.response.BookingDetailResponse;
 import com.staylog.staylog.domain.booking.entity.Booking;
 import com.staylog.staylog.domain.booking.mapper.BookingMapper;
 import com.staylog.staylog.domain.booking.service.BookingService;
+import com.staylog.staylog.domain.booking.service.RoomAvailabilityIndex;
+import com.staylog.staylog.domain.booking.service.RoomStripedLock;
+import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingCreatedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
+import com.staylog.staylog.global.event.BookingsExpiredEvent;
+import com.staylog.staylog.global.exception.custom.booking.BookingException;
 import com.staylog.staylog.global.exception.custom.booking.BookingExpiredException;
 import com.staylog.staylog.global.exception.custom.booking.BookingNotFoundException;
 import com.staylog.staylog.global.exception.custom.booking.BookingNotPendingException;
 import com.staylog.staylog.global.exception.custom.booking.RoomNotAvailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +32,7 @@ import java.util.*;
 /**
  * 예약 서비스 구현
  * - 예약 생성 (PENDING 상태)
- * - 객실 가용성 검증
+ * - 객실 가용성 검증 (인메모리 인덱스 -> 객실 스트라이프 락 -> ROOM_NIGHT 유니크 인덱스)
  * - 5분 타임아웃 처리
  */
 @Service
@@ -31,10 +41,20 @@ import java.util.*;
 public class BookingServiceImpl implements BookingService {
 
     private final BookingMapper bookingMapper;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final RoomStripedLock roomStripedLock;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 만료 예약 일괄 취소 1회당 최대 건수 (Oracle IN 절 제한으로 1000 이하)
+    @Value("${booking.expiry.chunk-size:500}")
+    private int expiryChunkSize;
 
     /**
      * 예약 생성
      * - 객실 가용성 검증
+     *   1) 인메모리 인덱스로 이미 점유된 구간을 DB 조회 없이 거절
+     *   2) 객실 단위 스트라이프 락으로 같은 객실 요청만 직렬화 (다른 객실은 경합 없음)
+     *   3) ROOM_NIGHT 유니크 인덱스에 박 단위로 INSERT -> 노드와 무관하게 중복 예약 불가
      * - 예약 생성 (PENDING 상태)
      * - 5분 타임아웃 설정
      */
@@ -44,18 +64,27 @@ public class BookingServiceImpl implements BookingService {
         log.info("예약 생성 시작: userId={}, guestName={}, roomId={}, checkIn={}, checkOut={}",
                 userId, guestName, request.getRoomId(), request.getCheckIn(), request.getCheckOut());
 
+        // 숙박 구간 검증 (ROOM_NIGHT는 최소 1박을 전제로 함)
+        if (!request.getCheckIn().isBefore(request.getCheckOut())) {
+            throw new BookingException(ErrorCode.INVALID_BOOKING_DATE);
+        }
+
         // 1. 객실 가용성 체크 (중복 예약 확인)
-        int conflictCount = bookingMapper.checkRoomAvailability(
+        RoomAvailabilityIndex.Availability availability = roomAvailabilityIndex.check(
                 request.getRoomId(),
                 request.getCheckIn(),
                 request.getCheckOut()
         );
 
-        if (conflictCount > 0) {
-            log.warn("객실 예약 불가: roomId={}, 중복 예약 {}건", request.getRoomId(), conflictCount);
+        if (availability == RoomAvailabilityIndex.Availability.BOOKED) {
+            log.warn("객실 예약 불가(인덱스): roomId={}, checkIn={}, checkOut={}",
+                    request.getRoomId(), request.getCheckIn(), request.getCheckOut());
             throw new RoomNotAvailableException();
         }
 
+        // 같은 객실 요청만 직렬화 (트랜잭션 종료 시 해제)
+        roomStripedLock.lockUntilTransactionEnds(request.getRoomId());
+
         // 2. 주문번호 생성
         String bookingNum = generateBookingNum();
 
@@ -90,6 +119,20 @@ public class BookingServiceImpl implements BookingService {
         // DB insert → bookingId 자동 채워짐
         bookingMapper.insertBooking(booking);
 
+        // 최종 판정: 객실-박 점유 행 INSERT (유니크 인덱스 위반 시 이미 점유된 박이 있음)
+        try {
+            bookingMapper.insertRoomNights(booking.getBookingId(), booking.getRoomId(),
+                    booking.getCheckIn(), booking.getCheckOut());
+        } catch (DuplicateKeyException e) {
+            log.warn("객실 예약 불가: roomId={}, checkIn={}, checkOut={} 중 이미 점유된 날짜 존재",
+                    request.getRoomId(), request.getCheckIn(), request.getCheckOut());
+            throw new RoomNotAvailableException();
+        }
+
+        // 커밋 후 가용성 인덱스, 만료 타이머에 반영
+        eventPublisher.publishEvent(new BookingCreatedEvent(
+                booking.getBookingId(), booking.getRoomId(), booking.getCheckIn(), booking.getCheckOut(), expiresAt));
+
         // 6. bookingId로 상세 조회
         BookingDetailResponse result = bookingMapper.findBookingById(booking.getBookingId());
 
@@ -153,37 +196,66 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     public void updateBookingStatus(Long bookingId, String status) {
         bookingMapper.updateBookingStatus(bookingId, status);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, status));
         log.info("예약 상태 업데이트: bookingId={}, status={}", bookingId, status);
     }
 
     /**
-     * 만료된 예약 자동 취소
+     * 만료된 예약 자동 취소 (일괄 처리, 1회 호출 = 최대 chunkSize 건)
      * - EXPIRES_AT이 현재 시간보다 이전인 PENDING 예약을 CANCELED로 변경
      * - 결제 수단에 따라 만료 시간이 다름 (카드 5분, 가상계좌 7일 등)
+     * - 대상 행을 FOR UPDATE SKIP LOCKED로 잠근 뒤 UPDATE 1회로 변경
+     *   -> 결제 승인 중(잠긴) 예약은 건너뛰고, 아직 RES_PENDING인 행만 변경
      */
     @Override
     @Transactional
     public int cancelExpiredBookings() {
+        return cancelExpired(null);
+    }
+
+    /**
+     * 지정한 예약 중 만료된 PENDING 예약 취소 (만료 타이머용)
+     * - 만료 시각이 연장되었거나 이미 확정/취소된 예약은 건너뜀
+     */
+    @Override
+    @Transactional
+    public int expireBookings(List<Long> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return 0;
+        }
+        int canceledCount = 0;
+        for (int from = 0; from < bookingIds.size(); from += expiryChunkSize) {
+            canceledCount += cancelExpired(bookingIds.subList(from, Math.min(from + expiryChunkSize, bookingIds.size())));
+        }
+        return canceledCount;
+    }
+
+    /**
+     * 만료 예약 일괄 취소 공통 처리
+     * @param bookingIds 대상 예약 ID (null이면 전체에서 최대 chunkSize 건)
+     */
+    private int cancelExpired(List<Long> bookingIds) {
         LocalDateTime now = LocalDateTime.now();
-        List<Booking> expiredBookings = bookingMapper.findExpiredBookings(now);
+        List<Long> expiredBookingIds = bookingMapper.lockExpiredBookingIds(now, bookingIds, expiryChunkSize);
 
-        if (expiredBookings.isEmpty()) {
+        if (expiredBookingIds.isEmpty()) {
             return 0;
         }
 
-        int canceledCount = 0;
-        for (Booking booking : expiredBookings) {
-            Long bookingId = booking.getBookingId();
-            String bookingNum = booking.getBookingNum();
-
-            try {
-                bookingMapper.updateBookingStatus(bookingId, ReservationStatus.RES_CANCELED.getCode());
-                log.info("만료된 예약 취소: bookingId={}, bookingNum={}", bookingId, bookingNum);
-                canceledCount++;
-            } catch (Exception e) {
-                log.error("예약 취소 실패: bookingId={}, error={}", bookingId, e.getMessage(), e);
-            }
+        int canceledCount = bookingMapper.cancelPendingBookings(expiredBookingIds);
+        List<Long> canceledBookingIds = expiredBookingIds;
+        if (canceledCount != expiredBookingIds.size()) {
+            // 잠근 행이므로 보통은 같지만, 다르면 실제로 취소된 예약만 점유 해제 대상으로 넘긴다
+            log.warn("만료 예약 일괄 취소 건수 불일치: 대상={}, 변경={}", expiredBookingIds.size(), canceledCount);
+            canceledBookingIds = bookingMapper.findBookingIdsByStatus(expiredBookingIds, ReservationStatus.RES_CANCELED.getCode());
         }
+        if (canceledBookingIds.isEmpty()) {
+            return 0;
+        }
+
+        // 점유 해제(ROOM_NIGHT, 가용성 인덱스)
+        eventPublisher.publishEvent(new BookingsExpiredEvent(canceledBookingIds));
+        log.info("만료된 예약 일괄 취소: {}건, bookingIds={}", canceledCount, canceledBookingIds);
 
         return canceledCount;
     }
@@ -0,0 +1,40 @@
+package com.staylog.staylog.domain.home.listener;
+
+import com.staylog.staylog.domain.home.service.HomeFeedSnapshot;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
+import com.staylog.staylog.global.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 홈 숙소 스냅샷 이벤트 리스너
+ * - 커밋된 리뷰 작성/수정/삭제(별점/리뷰 수), 숙소/객실 변경(최저가, 노출 여부)을 스냅샷 재구성으로 반영
+ * - 재구성은 HomeFeedSnapshot의 별도 스레드에서 합쳐서 처리되므로 요청 스레드를 막지 않음
+ */
+@RequiredArgsConstructor
+@Component
+public class HomeSnapshotEventListener {
+
+    private final HomeFeedSnapshot homeFeedSnapshot;
+
+    /**
+     * 리뷰 집계 변경 반영(리뷰 변경 이벤트리스너)
+     *
+     * @param event 리뷰 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        homeFeedSnapshot.requestRebuild();
+    }
+
+    /**
+     * 숙소/객실 변경 반영(숙소 변경 이벤트리스너)
+     *
+     * @param event 숙소 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAccommodationChanged(AccommodationChangedEvent event) {
+        homeFeedSnapshot.requestRebuild();
+    }
+}
@@ -17,4 +17,10 @@ public interface HomeMapper {
 			@Param("limit") int limit //한번에 몇개 가져올 지
 			
 			);
-}
\ No newline at end of file
+	
+	/*
+	 * 홈 숙소 스냅샷용 전체 숙소 + 리뷰/최저가 집계 (정렬/페이징은 HomeFeedSnapshot에서 수행)
+	 * @return : 삭제되지 않은 전체 숙소
+	 * */
+	List<HomeAccommodationListResponse> selectHomeSnapshotRows();
+}
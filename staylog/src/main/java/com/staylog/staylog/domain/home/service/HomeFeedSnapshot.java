@@ -0,0 +1,179 @@
+package com.staylog.staylog.domain.home.service;
+
+import com.staylog.staylog.domain.home.dto.response.HomeAccommodationListResponse;
+import com.staylog.staylog.domain.home.mapper.HomeMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 홈 숙소 목록 스냅샷
+ * - 전체 숙소와 리뷰/최저가 집계를 한 번 조회해 (정렬, 지역)별로 미리 정렬된 목록을 메모리에 보관
+ * - 재구성은 새 스냅샷을 만든 뒤 참조를 통째로 교체하므로 조회 중인 요청은 이전 스냅샷을 끝까지 사용
+ * - 재구성 시점: 기동 완료, 주기 갱신(HomeSnapshotScheduler), 리뷰/객실 변경 이벤트(HomeSnapshotEventListener)
+ *   이벤트가 몰려도 대기 중인 재구성은 하나만 남도록 합쳐서 처리
+ * - 지표: staylog.home.snapshot.age (Gauge, 초), staylog.home.snapshot.rebuild (Timer, outcome)
+ */
+@Slf4j
+@Component
+public class HomeFeedSnapshot {
+
+    // HomeServiceImpl.ALLOWED_SORT와 동일, 정렬값이 없거나 허용되지 않으면 별점 순
+    public static final String DEFAULT_SORT = "rating";
+    private static final String ALL_REGIONS = "";
+
+    private static final Map<String, Comparator<HomeAccommodationListResponse>> SORTS = Map.of(
+            "rating", Comparator.comparing(HomeAccommodationListResponse::getRatingAvg, descending())
+                    .thenComparing(HomeAccommodationListResponse::getCreatedAt, descending())
+                    .thenComparing(HomeAccommodationListResponse::getAccommodationId),
+            "review", Comparator.comparing(HomeAccommodationListResponse::getReviewCnt, descending())
+                    .thenComparing(HomeAccommodationListResponse::getCreatedAt, descending())
+                    .thenComparing(HomeAccommodationListResponse::getAccommodationId),
+            "price", Comparator.comparing(HomeAccommodationListResponse::getMinPrice, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(HomeAccommodationListResponse::getAccommodationId),
+            "latest", Comparator.comparing(HomeAccommodationListResponse::getCreatedAt, descending())
+                    .thenComparing(HomeAccommodationListResponse::getAccommodationId));
+
+    private final HomeMapper homeMapper;
+    private final Timer rebuildSuccessTimer;
+    private final Timer rebuildErrorTimer;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(false);
+
+    // 이벤트로 요청된 재구성은 요청 스레드를 막지 않도록 별도 스레드에서 수행
+    private final ExecutorService rebuildWorker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "staylog-home-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HomeFeedSnapshot(HomeMapper homeMapper, MeterRegistry meterRegistry) {
+        this.homeMapper = homeMapper;
+        this.rebuildSuccessTimer = Timer.builder("staylog.home.snapshot.rebuild")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.rebuildErrorTimer = Timer.builder("staylog.home.snapshot.rebuild")
+                .tag("outcome", "error")
+                .register(meterRegistry);
+        Gauge.builder("staylog.home.snapshot.age", current, ref -> {
+                    Snapshot snapshot = ref.get();
+                    return snapshot == null ? Double.NaN : (System.currentTimeMillis() - snapshot.builtAtMillis()) / 1000.0;
+                })
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 기동 완료 후 최초 스냅샷 생성 (실패 시 DB 직접 조회로 동작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    /**
+     * 스냅샷 페이지 조회
+     *
+     * @param regionCode 지역 코드 (없으면 전체)
+     * @param sort 정렬 (ALLOWED_SORT 중 하나, null이면 기본 정렬)
+     * @return 스냅샷이 아직 없으면 null (호출 측에서 DB 조회)
+     */
+    public List<HomeAccommodationListResponse> page(String regionCode, String sort, int offset, int limit) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            return null;
+        }
+        Map<String, List<HomeAccommodationListResponse>> byRegion =
+                snapshot.lists().get(sort == null ? DEFAULT_SORT : sort);
+        List<HomeAccommodationListResponse> list = byRegion.getOrDefault(
+                regionCode == null || regionCode.isEmpty() ? ALL_REGIONS : regionCode, Collections.emptyList());
+        if (offset >= list.size()) {
+            return Collections.emptyList();
+        }
+        return list.subList(offset, Math.min(list.size(), offset + limit));
+    }
+
+    /**
+     * 재구성 요청 (이미 대기 중인 재구성이 있으면 합쳐짐)
+     */
+    public void requestRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildWorker.execute(() -> {
+            rebuildQueued.set(false);
+            rebuild();
+        });
+    }
+
+    /**
+     * 스냅샷 재구성 후 교체 (실패하면 기존 스냅샷 유지)
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            List<HomeAccommodationListResponse> rows = homeMapper.selectHomeSnapshotRows();
+
+            Map<String, Map<String, List<HomeAccommodationListResponse>>> lists = new HashMap<>();
+            SORTS.forEach((sort, comparator) -> {
+                List<HomeAccommodationListResponse> sorted = new ArrayList<>(rows);
+                sorted.sort(comparator);
+
+                Map<String, List<HomeAccommodationListResponse>> byRegion = new HashMap<>();
+                byRegion.put(ALL_REGIONS, sorted);
+                for (HomeAccommodationListResponse row : sorted) {
+                    if (row.getRegionCode() != null) {
+                        byRegion.computeIfAbsent(row.getRegionCode(), region -> new ArrayList<>()).add(row);
+                    }
+                }
+                byRegion.replaceAll((region, list) -> Collections.unmodifiableList(list));
+                lists.put(sort, byRegion);
+            });
+
+            current.set(new Snapshot(System.currentTimeMillis(), lists));
+            rebuildSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("홈 숙소 스냅샷 재구성 완료: {}건", rows.size());
+        } catch (Exception e) {
+            rebuildErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("홈 숙소 스냅샷 재구성 실패 - 기존 스냅샷을 유지합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 재구성 스레드 정리
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        rebuildWorker.shutdownNow();
+    }
+
+    /**
+     * 내림차순 (Oracle ORDER BY ... DESC와 같이 null이 먼저)
+     */
+    private static <T extends Comparable<? super T>> Comparator<T> descending() {
+        return Comparator.nullsLast(Comparator.<T>naturalOrder()).reversed();
+    }
+
+    /**
+     * 불변 스냅샷 - 정렬 -> 지역 코드("" = 전체) -> 정렬된 숙소 목록
+     */
+    private record Snapshot(long builtAtMillis, Map<String, Map<String, List<HomeAccommodationListResponse>>> lists) {
+    }
+}
@@ -4,6 +4,7 @@ package com.staylog.staylog.domain.home.service.impl;
 import com.staylog.staylog.domain.home.dto.request.HomeAccommodationListRequest;
 import com.staylog.staylog.domain.home.dto.response.HomeAccommodationListResponse;
 import com.staylog.staylog.domain.home.mapper.HomeMapper;
+import com.staylog.staylog.domain.home.service.HomeFeedSnapshot;
 import com.staylog.staylog.domain.home.service.HomeService;
 
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 public class HomeServiceImpl implements HomeService {
 
 	private final HomeMapper homeMapper;
+	private final HomeFeedSnapshot homeFeedSnapshot;
 	
 	//정나영 : 정렬가능한 값만 허용하겠다. / Set : 중복을 허용하지 않는 배역
 	private static final Set<String> ALLOWED_SORT = Set.of("rating", "review", "price", "latest");
@@ -41,6 +43,12 @@ public class HomeServiceImpl implements HomeService {
 		if(!ALLOWED_SORT.contains(sort)) {
 			sort = null;
 		}
+		
+		//미리 정렬된 스냅샷에서 페이징, 스냅샷이 아직 없을 때(기동 직후 등)만 DB 조회
+		List<HomeAccommodationListResponse> page = homeFeedSnapshot.page(regionCode, sort, offset, limit);
+		if(page != null) {
+			return page;
+		}
  				
 		return homeMapper.selectAccommodationMain(regionCode, sort, offset, limit);
 	}
@@ -1,15 +1,17 @@
 package com.staylog.staylog.domain.image.assembler;
 
 import com.staylog.staylog.domain.image.dto.ImageData;
-import com.staylog.staylog.domain.image.dto.ImageDto;
 import com.staylog.staylog.domain.image.dto.ImageResponse;
-import com.staylog.staylog.domain.image.mapper.ImageMapper;
 import com.staylog.staylog.domain.image.service.ImageService;
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import com.staylog.staylog.global.constant.ImageVariant;
+import com.staylog.staylog.global.trace.DiagnosticTrace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -22,7 +24,8 @@ import java.util.stream.Collectors;
 public class ImageAssembler {
 
     private final ImageService imageService;
-    private final ImageMapper imageMapper;
+    private final ImageStorage imageStorage;
+    private final ImageBatchLoader imageBatchLoader;
 
     /**
      * 메인 데이터 목록에 '이미지 목록 전체'를 조합하는 범용 메서드.
@@ -100,52 +103,37 @@ public class ImageAssembler {
                 .map(idExtractor)
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
-        
-        log.info("==> [ImageAssembler] assembleFirstImage 호출");
-        log.info("==> targetType: {}", prefixedTargetType);
-        log.info("==> targetIds: {}", targetIds);
+
+        DiagnosticTrace.add("image.mainImage", () -> prefixedTargetType + " " + targetIds);
 
         // ID가 없으면 이미지 조회 불필요
         if (targetIds.isEmpty()) {
             mainDataList.forEach(data -> imageSetter.accept(data, null)); // 대표 이미지가 없으면 null 설정
-            log.info("==> targetIds가 비어있어 null로 설정 후 반환");
             return;
         }
 
-        // 2. ImageMapper를 통해 여러 targetId에 대한 대표 이미지들을 조회합니다. (ImageDto 반환)
-        List<ImageDto> representativeImageDtos = imageMapper.selectFirstImageByTargetIds(prefixedTargetType, targetIds);
-        log.info("==> DB에서 조회된 대표 이미지 DTO 개수: {}", representativeImageDtos.size());
-        if (!representativeImageDtos.isEmpty()) {
-        	log.info("==> 첫 번째 조회된 이미지 DTO: {}", representativeImageDtos.get(0));
-        }
+        // 2. 요청 범위 로더를 통해 여러 targetId에 대한 대표 이미지들을 조회합니다. (batch 안이면 구간 끝에 모아서 조회)
+        imageBatchLoader.load(prefixedTargetType, targetIds, null, representativeImageDtos -> {
+            // 3. 조회된 ImageDto를 ImageData로 변환합니다. (키는 targetId)
+            Map<Long, ImageData> representativeImageMap = new HashMap<>();
+            representativeImageDtos.forEach((targetId, imageDto) -> representativeImageMap.put(targetId, ImageData.builder()
+                    .imageId(imageDto.getImageId())
+                    .imageUrl(imageStorage.publicUrl(imageDto.getSavedUrl()))
+                    .displayOrder(imageDto.getDisplayOrder())
+                    .originalName(imageDto.getOriginalName())
+                    .build()));
+            DiagnosticTrace.add("image.mainImage.found", representativeImageMap::keySet);
 
-        // 3. 조회된 ImageDto 리스트를 targetId를 키로, 변환된 ImageData를 값으로 하는 Map으로 변환합니다.
-        Map<Long, ImageData> representativeImageMap = representativeImageDtos.stream()
-                .collect(Collectors.toMap(
-                        ImageDto::getTargetId, // 키는 ImageDto에서 가져옵니다.
-                        imageDto -> ImageData.builder() // 값은 ImageDto를 ImageData로 변환하여 생성합니다.
-                                .imageId(imageDto.getImageId())
-                                .imageUrl("/images/" + imageDto.getSavedUrl())
-                                .displayOrder(imageDto.getDisplayOrder())
-                                .originalName(imageDto.getOriginalName())
-                                .build()
-                ));
-        log.info("==> 생성된 대표 이미지 Map 크기: {}", representativeImageMap.size());
-
-        // 4. 메인 데이터 목록을 순회하며 각 데이터에 맞는 대표 이미지 정보를 설정합니다.
-        mainDataList.forEach(data -> {
-            Long id = idExtractor.apply(data);
-            if (id != null) {
-                ImageData representativeImage = representativeImageMap.get(id);
-                imageSetter.accept(data, representativeImage); // 대표 이미지가 없으면 null이 설정됨
-                if (representativeImage != null) {
-                    log.info("==> targetId {}에 대표 이미지 설정 완료: {}", id, representativeImage.getImageUrl());
+            // 4. 메인 데이터 목록을 순회하며 각 데이터에 맞는 대표 이미지 정보를 설정합니다.
+            mainDataList.forEach(data -> {
+                Long id = idExtractor.apply(data);
+                if (id != null) {
+                    ImageData representativeImage = representativeImageMap.get(id);
+                    imageSetter.accept(data, representativeImage); // 대표 이미지가 없으면 null이 설정됨
                 } else {
-                    log.info("==> targetId {}에 해당하는 대표 이미지가 없어 null로 설정", id);
+                    imageSetter.accept(data, null); // ID가 없으면 null 설정
                 }
-            } else {
-                imageSetter.accept(data, null); // ID가 없으면 null 설정
-            }
+            });
         });
     }
 
@@ -163,9 +151,28 @@ public class ImageAssembler {
             Function<T, Long> idExtractor,
             BiConsumer<T, String> imageUrlSetter, // String 타입의 URL을 설정
             String targetType) {
+        assembleMainImageUrl(mainDataList, idExtractor, imageUrlSetter, targetType, ImageVariant.ORIGINAL);
+    }
+
+    /**
+     * 메인 데이터 목록에 '대표 이미지 URL'을 원하는 크기 변형으로 조합하는 범용 메서드.
+     * 변형이 아직 생성되지 않았거나(비동기 생성) 원본이 변형보다 작으면 원본 URL을 설정합니다.
+     *
+     * @param mainDataList   메인 데이터 목록
+     * @param idExtractor    메인 데이터에서 targetId를 추출하는 함수
+     * @param imageUrlSetter 메인 데이터에 대표 이미지 URL(String)을 설정하는 BiConsumer
+     * @param targetType     이미지를 조회할 targetType
+     * @param variant        화면에 맞는 크기 변형 (e.g., 목록 카드는 W480, 프로필은 W160)
+     * @param <T>            메인 데이터의 타입
+     */
+    public <T> void assembleMainImageUrl(
+            List<T> mainDataList,
+            Function<T, Long> idExtractor,
+            BiConsumer<T, String> imageUrlSetter,
+            String targetType,
+            ImageVariant variant) {
     		String prefixedTargetType = "IMG_FROM_"+targetType;
         if (mainDataList == null || mainDataList.isEmpty()) {
-        		log.info("==> targetIds가 비어있어 null로 설정 후 반환");
             return;
         }
 
@@ -175,40 +182,33 @@ public class ImageAssembler {
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
 
-        log.info("==> [ImageAssembler] assembleFirstImage 호출");
-        log.info("==> targetType: {}", targetType);
-        log.info("==> targetIds: {}", targetIds);
-        
+        DiagnosticTrace.add("image.mainImageUrl", () -> prefixedTargetType + " " + targetIds);
+
         // ID가 없으면 이미지 조회 불필요
         if (targetIds.isEmpty()) {
             mainDataList.forEach(data -> imageUrlSetter.accept(data, null));
             return;
         }
 
-        // 2. ImageMapper를 통해 여러 targetId에 대한 대표 이미지들을 조회합니다. (ImageDto 반환)
-        List<ImageDto> representativeImageDtos = imageMapper.selectFirstImageByTargetIds(prefixedTargetType, targetIds);
+        // 2. 요청 범위 로더를 통해 여러 targetId에 대한 대표 이미지들을 조회합니다. (batch 안이면 구간 끝에 모아서 조회)
+        String imageType = variant == ImageVariant.ORIGINAL ? null : variant.getCode();
+        imageBatchLoader.load(prefixedTargetType, targetIds, imageType, representativeImageDtos -> {
+            // 3. 조회된 ImageDto를 완성된 이미지 URL(String)로 변환합니다. (키는 targetId)
+            Map<Long, String> representativeImageUrlMap = new HashMap<>();
+            representativeImageDtos.forEach((targetId, imageDto) ->
+                    representativeImageUrlMap.put(targetId, imageStorage.publicUrl(imageDto.getSavedUrl())));
+            DiagnosticTrace.add("image.mainImageUrl.found", representativeImageUrlMap::keySet);
 
-        // 3. 조회된 ImageDto 리스트를 targetId를 키로, 완성된 이미지 URL(String)을 값으로 하는 Map으로 변환합니다.
-        Map<Long, String> representativeImageUrlMap = representativeImageDtos.stream()
-                .collect(Collectors.toMap(
-                        ImageDto::getTargetId,
-                        imageDto -> "/images/" + imageDto.getSavedUrl() // 값으로 URL 문자열을 생성
-                ));
-
-        // 4. 메인 데이터 목록을 순회하며 각 데이터에 맞는 대표 이미지 URL을 설정합니다.
-        mainDataList.forEach(data -> {
-            Long id = idExtractor.apply(data);
-            if (id != null) {
-                String imageUrl = representativeImageUrlMap.get(id);
-                imageUrlSetter.accept(data, imageUrl); // 이미지가 없으면 null이 설정됨
-                if (imageUrl != null) {
-                    log.info("==> targetId {}에 대표 이미지 설정 완료: {}", id, imageUrl);
+            // 4. 메인 데이터 목록을 순회하며 각 데이터에 맞는 대표 이미지 URL을 설정합니다.
+            mainDataList.forEach(data -> {
+                Long id = idExtractor.apply(data);
+                if (id != null) {
+                    String imageUrl = representativeImageUrlMap.get(id);
+                    imageUrlSetter.accept(data, imageUrl); // 이미지가 없으면 null이 설정됨
                 } else {
-                    log.info("==> targetId {}에 해당하는 대표 이미지가 없어 null로 설정", id);
+                    imageUrlSetter.accept(data, null);
                 }
-            } else {
-                imageUrlSetter.accept(data, null);
-            }
+            });
         });
     }
 
@@ -227,6 +227,26 @@ public class ImageAssembler {
             Function<T, Long> idExtractor,
             BiConsumer<T, String> imageUrlSetter,
             Function<T, String> targetTypeExtractor) { // targetType을 동적으로 생성하는 함수
+        assembleMainImageUrl(mainDataList, idExtractor, imageUrlSetter, targetTypeExtractor, ImageVariant.ORIGINAL);
+    }
+
+    /**
+     * 메인 데이터 목록에 '대표 이미지 URL'을 원하는 크기 변형으로 조합하는 범용 메서드.
+     * targetType을 각 데이터에서 동적으로 추출합니다.
+     *
+     * @param mainDataList        메인 데이터 목록
+     * @param idExtractor         메인 데이터에서 targetId를 추출하는 함수
+     * @param imageUrlSetter      메인 데이터에 대표 이미지 URL(String)을 설정하는 BiConsumer
+     * @param targetTypeExtractor 메인 데이터에서 targetType(String)을 추출하는 함수
+     * @param variant             화면에 맞는 크기 변형
+     * @param <T>                 메인 데이터의 타입
+     */
+    public <T> void assembleMainImageUrl(
+            List<T> mainDataList,
+            Function<T, Long> idExtractor,
+            BiConsumer<T, String> imageUrlSetter,
+            Function<T, String> targetTypeExtractor,
+            ImageVariant variant) {
 
         if (mainDataList == null || mainDataList.isEmpty()) {
             return;
@@ -238,8 +258,19 @@ public class ImageAssembler {
 
         // 2. 각 그룹(targetType)에 대해 기존의 assembleMainImageUrl 메소드를 호출합니다.
         //    기존 메소드에서 "IMG_FROM_" 접두사를 붙여줄 것이므로, 여기서는 순수한 targetType만 전달합니다.
-        groupedData.forEach((targetType, group) -> {
-            assembleMainImageUrl(group, idExtractor, imageUrlSetter, targetType);
-        });
+        //    그룹별 조회는 batch로 묶어 한 번의 쿼리로 처리됩니다.
+        batch(() -> groupedData.forEach((targetType, group) -> {
+            assembleMainImageUrl(group, idExtractor, imageUrlSetter, targetType, variant);
+        }));
+    }
+
+    /**
+     * 구간 안의 대표 이미지 조합(assembleMainImage, assembleMainImageUrl)을 모아 구간이 끝날 때 한 번의 쿼리로 조회.
+     * 대상 타입이나 크기 변형이 달라도 함께 조회되며, 값은 구간이 끝난 뒤에 설정됩니다.
+     *
+     * @param work 조합 메서드를 호출하는 작업
+     */
+    public void batch(Runnable work) {
+        imageBatchLoader.batch(work);
     }
 }
\ No newline at end of file
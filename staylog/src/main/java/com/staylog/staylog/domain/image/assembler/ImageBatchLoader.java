@@ -0,0 +1,184 @@
+package com.staylog.staylog.domain.image.assembler;
+
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.dto.ImageLookupKey;
+import com.staylog.staylog.domain.image.service.MainImageCache;
+import com.staylog.staylog.global.trace.DiagnosticTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 요청 범위 대표 이미지 로더 (DataLoader 방식)
+ * - ImageAssembler 호출들이 (targetType, targetId, 크기 변형) 키를 등록하고, batch 구간이 끝날 때
+ *   대상 타입이 달라도 한 번에 모아서 공유 캐시(MainImageCache)에 조회 (캐시에 없는 키만 쿼리 한 번으로 적재)
+ * - 조회 결과(없는 이미지 포함)는 요청이 끝날 때까지 기억해, 같은 요청에서 다시 묻는 키는 캐시에도 가지 않음
+ * - batch 밖의 호출은 호출마다 바로 조회 (기억은 동일하게 적용)
+ * - 요청 밖(스케줄러, 비동기 리스너)에서는 batch 구간 동안만 모으고 기억하지 않음
+ * - 요청 중 이미지가 바뀌면 ImageLookupEventListener가 해당 대상의 기억을 지움
+ * - 지표: staylog.image.lookup.keys (Counter, result=hit|miss), staylog.image.lookup.queries (Counter, 공유 캐시 일괄 조회 횟수)
+ */
+@Slf4j
+@Component
+public class ImageBatchLoader {
+
+    private static final String STATE_ATTRIBUTE = ImageBatchLoader.class.getName() + ".STATE";
+
+    // 요청 컨텍스트가 없는 스레드의 batch 구간 상태
+    private final ThreadLocal<State> localBatch = new ThreadLocal<>();
+
+    private final MainImageCache mainImageCache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter queries;
+
+    public ImageBatchLoader(MainImageCache mainImageCache, MeterRegistry meterRegistry) {
+        this.mainImageCache = mainImageCache;
+        this.hits = meterRegistry.counter("staylog.image.lookup.keys", "result", "hit");
+        this.misses = meterRegistry.counter("staylog.image.lookup.keys", "result", "miss");
+        this.queries = meterRegistry.counter("staylog.image.lookup.queries");
+    }
+
+    /**
+     * 구간 안의 load 요청을 모아 구간이 끝날 때 한 번에 조회 (중첩 가능, 가장 바깥 구간이 끝날 때 조회)
+     */
+    public void batch(Runnable work) {
+        State state = state();
+        boolean local = state.local && localBatch.get() == null;
+        if (local) {
+            localBatch.set(state);
+        }
+        state.depth++;
+        boolean completed = false;
+        try {
+            work.run();
+            completed = true;
+        } finally {
+            state.depth--;
+            if (state.depth == 0) {
+                if (completed) {
+                    dispatch(state);
+                } else {
+                    state.pending.clear();
+                }
+            }
+            if (local) {
+                localBatch.remove();
+            }
+        }
+    }
+
+    /**
+     * 대표 이미지 조회 등록 (batch 밖이면 바로 조회)
+     *
+     * @param prefixedTargetType 접두사가 붙은 targetType (IMG_FROM_...)
+     * @param targetIds 대상 ID 목록
+     * @param imageType 크기 변형 코드 (원본이면 null)
+     * @param callback targetId -> 대표 이미지(변형이 있으면 변형 경로) 맵을 받는 콜백, 없는 대상은 맵에 없음
+     */
+    public void load(String prefixedTargetType, Collection<Long> targetIds, String imageType,
+                     Consumer<Map<Long, ImageDto>> callback) {
+        State state = state();
+        state.pending.add(new Pending(prefixedTargetType, List.copyOf(targetIds), imageType, callback));
+        if (state.depth == 0) {
+            dispatch(state);
+        }
+    }
+
+    /**
+     * 현재 요청에서 기억한 대상의 조회 결과 삭제
+     *
+     * @param prefixedTargetType 접두사가 붙은 targetType
+     * @param targetId 대상 ID
+     */
+    public void forget(String prefixedTargetType, long targetId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        State state = attributes == null ? null
+                : (State) attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state != null) {
+            state.memo.keySet().removeIf(key -> key.targetType().equals(prefixedTargetType) && key.targetId() == targetId);
+        }
+    }
+
+    private void dispatch(State state) {
+        // 콜백이 다시 load를 부를 수 있으므로 대기열이 빌 때까지 반복
+        while (!state.pending.isEmpty()) {
+            List<Pending> pending = new ArrayList<>(state.pending);
+            state.pending.clear();
+
+            Set<ImageLookupKey> missing = new LinkedHashSet<>();
+            int requested = 0;
+            for (Pending p : pending) {
+                for (Long targetId : p.targetIds()) {
+                    ImageLookupKey key = new ImageLookupKey(p.targetType(), targetId, p.imageType());
+                    requested++;
+                    if (!state.memo.containsKey(key)) {
+                        missing.add(key);
+                    }
+                }
+            }
+            hits.increment(requested - missing.size());
+            misses.increment(missing.size());
+
+            if (!missing.isEmpty()) {
+                queries.increment();
+                DiagnosticTrace.add("image.lookup", () -> missing.size() + " keys");
+                Map<ImageLookupKey, ImageDto> found = mainImageCache.getAll(missing);
+                for (ImageLookupKey key : missing) {
+                    state.memo.put(key, Optional.ofNullable(found.get(key)));
+                }
+            }
+
+            for (Pending p : pending) {
+                Map<Long, ImageDto> result = new HashMap<>();
+                for (Long targetId : p.targetIds()) {
+                    state.memo.get(new ImageLookupKey(p.targetType(), targetId, p.imageType()))
+                            .ifPresent(image -> result.put(targetId, image));
+                }
+                p.callback().accept(result);
+            }
+        }
+    }
+
+    private State state() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            State batch = localBatch.get();
+            return batch != null ? batch : new State(true);
+        }
+        State state = (State) attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new State(false);
+            attributes.setAttribute(STATE_ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return state;
+    }
+
+    private record Pending(String targetType, List<Long> targetIds, String imageType,
+                           Consumer<Map<Long, ImageDto>> callback) {
+    }
+
+    private static final class State {
+        private final boolean local;
+        private final Map<ImageLookupKey, Optional<ImageDto>> memo = new HashMap<>();
+        private final List<Pending> pending = new ArrayList<>();
+        private int depth;
+
+        private State(boolean local) {
+            this.local = local;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.staylog.staylog.domain.image.controller;
+
+import com.staylog.staylog.domain.image.service.ImageFileServer;
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * 저장된 이미지 파일 제공 (ImageServiceImpl이 반환하는 /images/{savedUrl} 경로)
+ * - 오브젝트 스토리지 저장소는 미리 서명된 URL로 리다이렉트 (리다이렉트는 서명 만료보다 짧게 1분만 캐시)
+ * - 로컬 저장소는 ImageFileServer가 직접 제공
+ */
+@Hidden
+@Controller
+@RequiredArgsConstructor
+public class ImageFileController {
+
+    private static final String PREFIX = "/images/";
+
+    private final ImageFileServer imageFileServer;
+    private final ImageStorage imageStorage;
+
+    @RequestMapping(value = "/images/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        String key = path.startsWith(PREFIX) ? path.substring(PREFIX.length()) : null;
+        if (!ImageStorage.isValidKey(key)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        URI redirect = imageStorage.redirectUrl(key);
+        if (redirect != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=60");
+            response.setHeader(HttpHeaders.LOCATION, redirect.toString());
+            response.setStatus(HttpServletResponse.SC_FOUND);
+            return;
+        }
+        imageFileServer.serve(key, request, response);
+    }
+}
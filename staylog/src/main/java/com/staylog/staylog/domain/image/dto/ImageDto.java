@@ -22,10 +22,8 @@ public class ImageDto {
 	private String mimeType;
 	private long displayOrder;
 	private String uploadDate;
+	private String contentHash; // 내용 SHA-256 (IMAGE_CONTENT 참조), 기존 이미지는 null
 	
 	// 이미지 삭제 시 필요한 필드
 	private Long deletedDisplayOrder;
-	
-	// 카운터 값 설정을 위한 필드
-	private Long counterValue;
 }
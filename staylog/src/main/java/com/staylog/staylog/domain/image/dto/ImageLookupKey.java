@@ -0,0 +1,11 @@
+package com.staylog.staylog.domain.image.dto;
+
+/**
+ * 대표 이미지 조회 키 (ImageBatchLoader, ImageMapper.selectFirstImagesByKeys)
+ *
+ * @param targetType 접두사가 붙은 targetType (IMG_FROM_...)
+ * @param targetId 대상 ID
+ * @param imageType 크기 변형 코드 (IMG_W160 등), 원본이면 null
+ */
+public record ImageLookupKey(String targetType, long targetId, String imageType) {
+}
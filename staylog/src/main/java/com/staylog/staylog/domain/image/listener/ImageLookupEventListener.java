@@ -0,0 +1,29 @@
+package com.staylog.staylog.domain.image.listener;
+
+import com.staylog.staylog.domain.image.assembler.ImageBatchLoader;
+import com.staylog.staylog.global.event.ImageChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 요청 범위 대표 이미지 조회 결과 무효화 리스너
+ * - 같은 요청 안에서 이미지를 바꾼 뒤 다시 조합할 때 바뀌기 전 대표 이미지가 쓰이지 않도록 ImageBatchLoader의 기억을 지움
+ * - 커밋 후 같은 요청 스레드에서 동기로 실행
+ */
+@RequiredArgsConstructor
+@Component
+public class ImageLookupEventListener {
+
+    private final ImageBatchLoader imageBatchLoader;
+
+    /**
+     * 대상의 조회 결과 삭제(이미지 변경 이벤트리스너)
+     *
+     * @param event 이미지 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleImageChanged(ImageChangedEvent event) {
+        imageBatchLoader.forget("IMG_FROM_" + event.getTargetType(), event.getTargetId());
+    }
+}
@@ -0,0 +1,29 @@
+package com.staylog.staylog.domain.image.listener;
+
+import com.staylog.staylog.domain.image.service.ImageVariantGenerator;
+import com.staylog.staylog.global.event.ImageChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이미지 크기 변형 이벤트 리스너
+ * - 커밋된 업로드의 원본으로 변형을 만들도록 ImageVariantGenerator에 넘김 (생성은 전용 풀에서 비동기 수행)
+ * - 삭제/순서 변경 이벤트는 변형 없는 원본이 없으므로 조회만 하고 끝남
+ */
+@RequiredArgsConstructor
+@Component
+public class ImageVariantEventListener {
+
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    /**
+     * 변형 생성 요청(이미지 변경 이벤트리스너)
+     *
+     * @param event 이미지 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleImageChanged(ImageChangedEvent event) {
+        imageVariantGenerator.generateAsync(event.getTargetType(), event.getTargetId());
+    }
+}
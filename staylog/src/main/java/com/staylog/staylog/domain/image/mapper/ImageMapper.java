@@ -5,33 +5,65 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param; // Import Param annotation
 
 import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.dto.ImageLookupKey;
 
 import java.util.List;
 
 @Mapper
 public interface ImageMapper {
-	void insertImage(ImageDto imageDto);
+	/**
+	 * 이미지 PK 여러 개를 한 번에 채번
+	 * @param count 채번할 개수
+	 * @return 새 image_id 목록
+	 */
+	List<Long> selectImageIds(@Param("count") int count);
+	/**
+	 * 이미지 여러 건을 한 번의 INSERT ALL로 저장 (imageId가 채워져 있어야 함)
+	 * @param images 저장할 이미지 목록
+	 */
+	void insertImages(@Param("images") List<ImageDto> images);
 	ImageDto selectProfileByUserId(String targetType, @Param("targetId") long userId);
 
-	Long selectForUpdate(ImageDto imageDto);
-	void updateCounter(ImageDto imageDto);
-	void createCounter(ImageDto imageDto);
+	/**
+	 * displayOrder 블록 예약 (카운터를 size만큼 올림, 카운터가 없거나 실제 이미지보다 뒤처져 있으면 MAX(display_order)+1부터)
+	 * DisplayOrderAllocator의 짧은 독립 트랜잭션 안에서 호출 (행 잠금은 그 트랜잭션 동안만 유지)
+	 * 이미지 일괄 수정 트랜잭션에서는 size 0으로 호출해 카운터를 수정 결과의 MAX(display_order)+1 이상으로만 올림
+	 * @param targetType 접두사가 붙은 targetType
+	 * @param targetId 대상 ID
+	 * @param size 예약할 개수 (0이면 예약 없이 카운터만 맞춤)
+	 */
+	void reserveDisplayOrderBlock(@Param("targetType") String targetType,
+								  @Param("targetId") long targetId,
+								  @Param("size") long size);
+	/**
+	 * 카운터의 다음 displayOrder 조회 (reserveDisplayOrderBlock 직후 같은 트랜잭션에서 예약 끝 값 확인용)
+	 */
+	Long selectNextDisplayOrder(@Param("targetType") String targetType, @Param("targetId") long targetId);
+	/**
+	 * displayOrder가 1부터 빈틈없이 이어지지 않는 대상 조회 (블록 예약/삭제로 생긴 빈 번호 정리 대상)
+	 * @param limit 최대 대상 수
+	 * @return targetType, targetId만 채운 Dto 목록
+	 */
+	List<ImageDto> selectTargetsWithOrderGaps(@Param("limit") int limit);
+	/**
+	 * 대상들의 displayOrder를 기존 순서대로 1부터 다시 매김
+	 * @param targets targetType, targetId를 담은 Dto 목록 (최대 500개)
+	 * @return 번호가 바뀐 이미지 수
+	 */
+	int compactDisplayOrders(@Param("targets") List<ImageDto> targets);
 
 	void deleteImage(long imageId);
 	void updateDisplayOrderAfterDelete(ImageDto imageDto);
-	void decrementCounter(ImageDto imageDto);
 	
 	List<ImageDto> selectImagesByTarget(String targetType, long targetId);
 	ImageDto selectImageById(long imageId);
 	// 일괄 삭제
 	void deleteImagesByTarget(ImageDto imageDto);
-	void deleteCounterByTarget(ImageDto imageDto);
 	/**
 	 * 특정 이미지의 displayOrder를 업데이트.
 	 * @param imageDto imageId와 변경될 displayOrder 값을 담은 Dto
 	 */
 	void updateImageDisplayOrder(ImageDto imageDto);
-	void setCounterValue(ImageDto imageDto);
 	
 	/**
      * 여러 targetId에 해당하는 이미지 목록을 조회 (N+1 문제 해결용)
@@ -43,18 +75,96 @@ public interface ImageMapper {
     									@Param("targetIds") List<Long> targetIds);
     
     /**
-     * 여러 targetId에 대한 대표이미지 조회 (displayOrder기준)
-     * @param targetType 이미지 타입
-     * @param targetIds 조회할 target ID 목록
-     * @return 대표 이미지 DTO 목록
+     * 여러 (targetType, targetId, 크기 변형) 키의 대표이미지를 한 번에 조회 (대상 타입이 섞여도 됨)
+     * @param keys 조회 키 목록
+     * @return 대표 이미지 DTO 목록 (imageType에는 요청한 크기 변형 코드, 원본 요청이면 null)
+     */
+    List<ImageDto> selectFirstImagesByKeys(@Param("keys") List<ImageLookupKey> keys);
+
+    /**
+     * 이미지가 있는 대상 ID를 오름차순으로 조회 (대표 이미지 캐시 예열용 키셋 페이징)
+     * @param targetType 접두사가 붙은 targetType
+     * @param afterId 이 ID보다 큰 대상부터
+     * @param limit 최대 개수
+     * @return 대상 ID 목록
+     */
+    List<Long> selectTargetIdsWithImages(@Param("targetType") String targetType,
+                                         @Param("afterId") long afterId,
+                                         @Param("limit") int limit);
+
+    /**
+     * 크기 변형이 아직 없는 원본 이미지 조회 (image_id 오름차순)
+     * @param targetType 접두사가 붙은 targetType, null이면 전체
+     * @param targetId 대상 PK, null이면 전체
+     * @param afterImageId 이 ID 이후부터 조회
+     * @param limit 최대 건수
+     * @return 원본 이미지 DTO 목록
+     */
+    List<ImageDto> selectOriginalsWithoutVariants(String targetType, Long targetId, long afterImageId, int limit);
+
+    /**
+     * 크기 변형 저장 (원본이 그 사이 삭제되었거나 같은 변형이 이미 있으면 저장하지 않음)
+     * @param imageDto targetId에 원본 image_id를 담은 변형 Dto
+     * @return 저장된 행 수
+     */
+    int insertVariant(ImageDto imageDto);
+
+    /**
+     * 원본 이미지들의 크기 변형 조회 / 일괄 삭제
+     * @param sourceImageIds 원본 image_id 목록
      */
-    List<ImageDto> selectFirstImageByTargetIds(String targetType, List<Long> targetIds);
+    List<ImageDto> selectVariantsBySourceIds(@Param("sourceImageIds") List<Long> sourceImageIds);
+    void deleteVariantsBySourceIds(@Param("sourceImageIds") List<Long> sourceImageIds);
+
+
+	/**
+	 * 내용 참조 수 증가 (처음 보는 내용이면 주어진 경로로 등록)
+	 * @param contentHash 내용 SHA-256
+	 * @param savedUrl 이번 업로드 파일 경로
+	 * @param fileSize 파일 크기
+	 */
+	void mergeContentRef(@Param("contentHash") String contentHash,
+						 @Param("savedUrl") String savedUrl,
+						 @Param("fileSize") long fileSize);
+	/**
+	 * 내용의 물리 파일 경로 조회
+	 * @param contentHash 내용 SHA-256
+	 * @return 저장 경로, 없으면 null
+	 */
+	String selectContentUrl(@Param("contentHash") String contentHash);
+	void decrementContentRef(@Param("contentHash") String contentHash);
+	/**
+	 * 참조가 남지 않은 내용 삭제
+	 * @param contentHash 내용 SHA-256
+	 * @return 삭제된 행 수 (1이면 물리 파일도 삭제해야 함)
+	 */
+	int deleteUnreferencedContent(@Param("contentHash") String contentHash);
+	/**
+	 * 아직 이미지 행이 가리키는 저장 경로 조회
+	 * @param savedUrls 확인할 저장 경로 목록
+	 * @return 참조가 남아 있는 저장 경로 목록
+	 */
+	List<String> selectReferencedUrls(@Param("savedUrls") List<String> savedUrls);
+
+	/**
+	 * 삭제할 파일 묘비 기록 (이미 있는 경로는 그대로 둠)
+	 * @param savedUrls 저장 경로 목록 (최대 500개)
+	 */
+	void insertTombstones(@Param("savedUrls") List<String> savedUrls);
 
+	/**
+	 * 처리 기한이 된 묘비의 저장 경로 (기한 오름차순)
+	 * @param limit 최대 개수
+	 */
+	List<String> selectDueTombstones(@Param("limit") int limit);
+
+	/**
+	 * 처리가 끝난 묘비 삭제
+	 */
+	void deleteTombstones(@Param("savedUrls") List<String> savedUrls);
 
 	/**
-	 * 대표이미지 1개 조회
-	 * @param imageDto 이미지 객체
-	 * @return String 저장된 이미지 명
+	 * 파일 삭제에 실패한 묘비의 다음 시도 시각을 늦춤
 	 */
-	String getMainImgByTargetTypeAndId(ImageDto imageDto);
+	void postponeTombstones(@Param("savedUrls") List<String> savedUrls);
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이미지 displayOrder 블록 할당기
+ * - 대상(targetType, targetId)마다 DB 카운터(IMAGE_TARGET_COUNTER)에서 번호 블록을 한 번에 예약해 두고,
+ *   업로드에는 메모리의 블록에서 번호를 나눠줌 (블록이 모자랄 때만 DB에 감)
+ * - 예약은 짧은 독립 트랜잭션(REQUIRES_NEW)으로 처리해 카운터 행 잠금이 업로드 트랜잭션 동안 유지되지 않음
+ * - 카운터는 올라가기만 하므로 인스턴스가 여러 개여도 번호가 겹치지 않음
+ *   (대신 다 쓰지 못한 블록, 롤백된 업로드, 삭제로 빈 번호가 생김 -> compact가 주기적으로 1부터 다시 매김)
+ * - 오래 쓰지 않은 대상의 블록은 메모리에서 버림 (남은 번호는 빈 번호가 됨)
+ * - 이미지 일괄 수정은 클라이언트가 보낸 순서(1..n)를 그대로 쓰므로, 수정 트랜잭션에서 realign으로
+ *   카운터를 수정 결과 뒤로 올리고 이 노드의 블록을 버림 (이후 업로드가 수정된 이미지보다 앞 번호를 받지 않도록)
+ * - 지표: staylog.image.display-order.allocations (Counter, source=memory|reserved),
+ *   staylog.image.display-order.reserve (Timer, 블록 예약 트랜잭션 시간)
+ */
+@Slf4j
+@Component
+public class DisplayOrderAllocator {
+
+    private final ImageMapper imageMapper;
+    private final MainImageCache mainImageCache;
+    private final TransactionTemplate reserveTransaction;
+    private final Cache<Target, Block> blocks;
+    private final long blockSize;
+    private final Counter fromMemory;
+    private final Counter fromReserve;
+    private final Timer reserveTimer;
+
+    public DisplayOrderAllocator(ImageMapper imageMapper,
+                                 MainImageCache mainImageCache,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${image.display-order.block-size:16}") long blockSize,
+                                 @Value("${image.display-order.max-targets:10000}") long maxTargets,
+                                 @Value("${image.display-order.idle-seconds:600}") long idleSeconds) {
+        this.imageMapper = imageMapper;
+        this.mainImageCache = mainImageCache;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reserveTransaction.setTimeout(5);
+        this.blocks = Caffeine.newBuilder()
+                .maximumSize(maxTargets)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+        this.blockSize = blockSize;
+        this.fromMemory = meterRegistry.counter("staylog.image.display-order.allocations", "source", "memory");
+        this.fromReserve = meterRegistry.counter("staylog.image.display-order.allocations", "source", "reserved");
+        this.reserveTimer = meterRegistry.timer("staylog.image.display-order.reserve");
+    }
+
+    /**
+     * 연속된 displayOrder count개를 할당
+     * 업로드 트랜잭션 밖에서 호출하는 것을 권장 (안에서 호출해도 예약은 별도 트랜잭션으로 커밋됨)
+     *
+     * @param prefixedTargetType 접두사가 붙은 targetType
+     * @param targetId 대상 ID
+     * @param count 할당할 개수
+     * @return 할당된 displayOrder의 시작 번호 (start ~ start + count - 1)
+     */
+    public long allocate(String prefixedTargetType, long targetId, int count) {
+        Target target = new Target(prefixedTargetType, targetId);
+        Block block = blocks.get(target, key -> new Block());
+        // 같은 대상의 동시 업로드만 이 블록에서 잠깐 대기 (DB 예약 중에도 다른 대상은 영향 없음)
+        synchronized (block) {
+            if (block.limit - block.next < count) {
+                // 남은 번호로 모자라면 버리고(빈 번호) 새 블록 예약
+                long size = Math.max(blockSize, count);
+                block.next = reserve(target, size);
+                block.limit = block.next + size;
+                fromReserve.increment();
+            } else {
+                fromMemory.increment();
+            }
+            long start = block.next;
+            block.next += count;
+            return start;
+        }
+    }
+
+    /**
+     * 이미지 일괄 수정 후 카운터와 블록 정리 (수정 트랜잭션 안에서 호출)
+     * - 카운터를 GREATEST(카운터, MAX(display_order)+1)로 올림 (같은 트랜잭션이므로 커밋 전 수정 결과 기준)
+     * - 이 노드의 블록을 버림 (커밋 전에 다른 업로드가 새 블록을 받아 갈 수 있으므로 커밋 후 한 번 더)
+     *
+     * @param prefixedTargetType 접두사가 붙은 targetType
+     * @param targetId 대상 ID
+     */
+    public void realign(String prefixedTargetType, long targetId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("DisplayOrderAllocator.realign은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+        Target target = new Target(prefixedTargetType, targetId);
+        try {
+            imageMapper.reserveDisplayOrderBlock(prefixedTargetType, targetId, 0);
+        } catch (DuplicateKeyException e) {
+            imageMapper.reserveDisplayOrderBlock(prefixedTargetType, targetId, 0);
+        }
+        blocks.invalidate(target);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                blocks.invalidate(target);
+            }
+        });
+    }
+
+    /**
+     * displayOrder 빈 번호 정리 (기존 순서를 유지한 채 1부터 다시 매김)
+     * 카운터는 그대로 두므로 이후 업로드는 계속 뒤쪽 번호를 받음
+     *
+     * @param batchSize 한 번에 정리할 최대 대상 수 (최대 500)
+     * @return 정리한 대상 수
+     */
+    @Transactional
+    public int compact(int batchSize) {
+        List<ImageDto> targets = imageMapper.selectTargetsWithOrderGaps(Math.min(batchSize, 500));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        int renumbered = imageMapper.compactDisplayOrders(targets);
+        for (ImageDto target : targets) {
+            mainImageCache.invalidate(target.getTargetType(), target.getTargetId());
+        }
+        log.debug("displayOrder 정리: 대상 {}개, 이미지 {}건", targets.size(), renumbered);
+        return targets.size();
+    }
+
+    private long reserve(Target target, long size) {
+        return reserveTimer.record(() -> reserveTransaction.execute(status -> {
+            try {
+                imageMapper.reserveDisplayOrderBlock(target.targetType(), target.targetId(), size);
+            } catch (DuplicateKeyException e) {
+                // 같은 대상의 카운터를 다른 인스턴스가 먼저 만듦 -> 이번에는 MATCHED로 처리됨
+                imageMapper.reserveDisplayOrderBlock(target.targetType(), target.targetId(), size);
+            }
+            return imageMapper.selectNextDisplayOrder(target.targetType(), target.targetId()) - size;
+        }));
+    }
+
+    private record Target(String targetType, long targetId) {
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,108 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.domain.image.service.ImageUploadStager.StagedImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 내용 주소(SHA-256) 기반 이미지 중복 제거
+ * - 같은 내용의 업로드는 처음 저장된 물리 파일 하나를 공유하고, IMAGE_CONTENT.REF_COUNT로 참조 수를 센다
+ * - 중복 업로드의 새 파일과 참조가 0이 된 파일은 ImageFileCollector 묘비로 남겨 커밋 후 비동기 삭제 (롤백되면 그대로 둠)
+ * - CONTENT_HASH가 없는 기존 이미지는 행마다 파일을 소유하므로 예전처럼 바로 삭제 대상
+ * - 트랜잭션 안에서만 사용 (MERGE의 행 잠금으로 같은 내용의 동시 업로드/삭제를 직렬화)
+ * - 지표: staylog.image.dedup.uploads (result=new|duplicate), staylog.image.dedup.bytes.saved, staylog.image.dedup.ratio
+ */
+@Slf4j
+@Component
+public class ImageContentStore {
+
+    private final ImageMapper imageMapper;
+    private final ImageFileCollector imageFileCollector;
+    private final Counter newUploads;
+    private final Counter duplicateUploads;
+    private final Counter bytesSaved;
+
+    public ImageContentStore(ImageMapper imageMapper,
+                             MeterRegistry meterRegistry,
+                             ImageFileCollector imageFileCollector) {
+        this.imageMapper = imageMapper;
+        this.imageFileCollector = imageFileCollector;
+        this.newUploads = Counter.builder("staylog.image.dedup.uploads")
+                .tag("result", "new")
+                .register(meterRegistry);
+        this.duplicateUploads = Counter.builder("staylog.image.dedup.uploads")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.bytesSaved = Counter.builder("staylog.image.dedup.bytes.saved")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("staylog.image.dedup.ratio", this, ImageContentStore::dedupRatio)
+                .description("기동 이후 업로드 중 중복 내용 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기록된 업로드 파일의 내용 참조를 하나 늘리고, 이미지 행이 가리킬 저장 경로를 반환
+     * 같은 내용이 이미 있으면 기존 경로를 반환하고, 이번에 기록한 파일은 커밋 후 수집기가 삭제
+     *
+     * @param image ImageUploadStager가 기록한 파일
+     * @return IMAGE_FILE.SAVED_URL에 넣을 경로
+     */
+    public String acquire(StagedImage image) {
+        requireTransaction();
+        try {
+            imageMapper.mergeContentRef(image.sha256(), image.relativePath(), image.size());
+        } catch (DuplicateKeyException e) {
+            // 같은 내용을 동시에 처음 등록한 트랜잭션이 먼저 커밋함 -> 이번에는 MATCHED로 처리됨
+            imageMapper.mergeContentRef(image.sha256(), image.relativePath(), image.size());
+        }
+        String savedUrl = imageMapper.selectContentUrl(image.sha256());
+
+        if (image.relativePath().equals(savedUrl)) {
+            newUploads.increment();
+            return savedUrl;
+        }
+        duplicateUploads.increment();
+        bytesSaved.increment(image.size());
+        log.debug("중복 이미지 업로드: {} -> {}", image.relativePath(), savedUrl);
+        imageFileCollector.tombstone(List.of(image.relativePath()));
+        return savedUrl;
+    }
+
+    /**
+     * 삭제되는 이미지 행의 내용 참조를 하나 줄이고, 더 이상 참조가 없으면 커밋 후 수집기가 물리 파일 삭제
+     *
+     * @param image 삭제되는 원본 이미지 행
+     */
+    public void release(ImageDto image) {
+        requireTransaction();
+        if (image.getContentHash() == null) {
+            imageFileCollector.tombstone(List.of(image.getSavedUrl()));
+            return;
+        }
+        imageMapper.decrementContentRef(image.getContentHash());
+        if (imageMapper.deleteUnreferencedContent(image.getContentHash()) > 0) {
+            imageFileCollector.tombstone(List.of(image.getSavedUrl()));
+        }
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("ImageContentStore는 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+    }
+
+    private double dedupRatio() {
+        double total = newUploads.count() + duplicateUploads.count();
+        return total == 0 ? 0 : duplicateUploads.count() / total;
+    }
+}
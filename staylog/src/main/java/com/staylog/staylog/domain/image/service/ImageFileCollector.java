@@ -0,0 +1,241 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import com.staylog.staylog.domain.image.storage.ImageStorage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 물리 파일 수집기
+ * - 이미지 행을 지우는 트랜잭션 안에서 저장 경로를 묘비(IMAGE_FILE_TOMBSTONE)로 남기고,
+ *   커밋 후 imageGcExecutor에서 파일을 삭제 (요청 스레드는 파일 삭제를 기다리지 않음)
+ * - 롤백되면 묘비도 함께 사라지므로 파일이 남고, 삭제에 실패한 묘비는 늦춰서 ImageGcScheduler가 다시 처리
+ * - 삭제 직전에 이미지 행이 다시 가리키게 된 경로(같은 내용의 변형 재사용 등)는 지우지 않고 묘비만 정리
+ * - 정리 스윕: 저장소를 순회 단위(로컬은 yyyy/MM/dd 디렉터리)별로 병렬 순회하며 어떤 이미지 행도 가리키지 않는 파일 삭제
+ *   (기록 후 커밋 전인 업로드를 지우지 않도록 image.gc.sweep-min-age-hours보다 오래된 파일만, .br/.gz 압축본은 원본 기준)
+ * - 지표: staylog.image.gc.files (Counter, source=tombstone|sweep, result=deleted|failed)
+ */
+@Slf4j
+@Component
+public class ImageFileCollector {
+
+    // IN 목록 1000개 제한 이내
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> PRECOMPRESSED_SUFFIXES = List.of(".br", ".gz");
+
+    private final ImageMapper imageMapper;
+    private final ImageStorage imageStorage;
+    private final Executor imageGcExecutor;
+    private final Duration sweepMinAge;
+    private final boolean sweepDryRun;
+    private final Counter tombstoneDeleted;
+    private final Counter tombstoneFailed;
+    private final Counter sweepDeleted;
+    private final Counter sweepFailed;
+
+    public ImageFileCollector(ImageMapper imageMapper,
+                              ImageStorage imageStorage,
+                              @Qualifier("imageGcExecutor") Executor imageGcExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.gc.sweep-min-age-hours:24}") long sweepMinAgeHours,
+                              @Value("${image.gc.sweep-dry-run:false}") boolean sweepDryRun) {
+        this.imageMapper = imageMapper;
+        this.imageStorage = imageStorage;
+        this.imageGcExecutor = imageGcExecutor;
+        this.sweepMinAge = Duration.ofHours(sweepMinAgeHours);
+        this.sweepDryRun = sweepDryRun;
+        this.tombstoneDeleted = meterRegistry.counter("staylog.image.gc.files", "source", "tombstone", "result", "deleted");
+        this.tombstoneFailed = meterRegistry.counter("staylog.image.gc.files", "source", "tombstone", "result", "failed");
+        this.sweepDeleted = meterRegistry.counter("staylog.image.gc.files", "source", "sweep", "result", "deleted");
+        this.sweepFailed = meterRegistry.counter("staylog.image.gc.files", "source", "sweep", "result", "failed");
+    }
+
+    /**
+     * 파일 삭제 예약 (트랜잭션 안에서만 사용, 커밋되면 비동기로 삭제하고 롤백되면 예약도 취소)
+     *
+     * @param savedUrls 삭제할 저장 경로 목록
+     */
+    public void tombstone(Collection<String> savedUrls) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("ImageFileCollector.tombstone은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+        List<String> keys = savedUrls.stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        for (List<String> batch : batches(keys)) {
+            try {
+                imageMapper.insertTombstones(batch);
+            } catch (DuplicateKeyException e) {
+                // 같은 경로의 묘비를 다른 트랜잭션이 먼저 커밋함 -> 이번에는 MATCHED로 건너뜀
+                imageMapper.insertTombstones(batch);
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    imageGcExecutor.execute(() -> collect(keys));
+                } catch (RejectedExecutionException e) {
+                    log.debug("파일 수집 대기열 포화, 주기 처리로 넘김: {}건", keys.size());
+                }
+            }
+        });
+    }
+
+    /**
+     * 처리 기한이 된 묘비 처리 (커밋 직후 처리에 실패했거나 거절된 묘비)
+     *
+     * @param limit 한 번에 처리할 최대 묘비 수
+     * @return 처리한 묘비 수
+     */
+    public int collectDue(int limit) {
+        List<String> due = imageMapper.selectDueTombstones(limit);
+        collect(due);
+        return due.size();
+    }
+
+    /**
+     * 어떤 이미지 행도 가리키지 않는 파일 정리 (순회 단위별 병렬)
+     *
+     * @return 삭제한 파일 수 (dry-run이면 삭제 대상 수)
+     */
+    public int sweep() throws IOException {
+        List<String> partitions = imageStorage.listPartitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(sweepMinAge);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (String partition : partitions) {
+            futures.add(submit(() -> sweepPartition(partition, cutoff)));
+        }
+        int removed = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            removed += future.join();
+        }
+        log.info("이미지 파일 정리 스윕{}: 순회 단위 {}개, 미참조 파일 {}건",
+                sweepDryRun ? "(dry-run)" : "", partitions.size(), removed);
+        return removed;
+    }
+
+    private void collect(List<String> keys) {
+        for (List<String> batch : batches(keys)) {
+            try {
+                collectBatch(batch);
+            } catch (Exception e) {
+                // 묘비가 남아 있으므로 주기 처리에서 다시 시도
+                log.warn("파일 수집 실패: {}건, {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void collectBatch(List<String> keys) {
+        Set<String> referenced = new HashSet<>(imageMapper.selectReferencedUrls(keys));
+        List<String> done = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            if (referenced.contains(key)) {
+                done.add(key);
+            } else if (imageStorage.delete(key)) {
+                tombstoneDeleted.increment();
+                done.add(key);
+            } else {
+                tombstoneFailed.increment();
+                failed.add(key);
+            }
+        }
+        if (!done.isEmpty()) {
+            imageMapper.deleteTombstones(done);
+        }
+        if (!failed.isEmpty()) {
+            imageMapper.postponeTombstones(failed);
+        }
+    }
+
+    private int sweepPartition(String partition, Instant cutoff) {
+        try {
+            List<String> candidates = imageStorage.listObjects(partition).stream()
+                    .filter(object -> object.lastModified().isBefore(cutoff))
+                    .map(StoredObject::key)
+                    .toList();
+            int removed = 0;
+            for (List<String> batch : batches(candidates)) {
+                removed += sweepBatch(batch);
+            }
+            return removed;
+        } catch (Exception e) {
+            log.warn("이미지 파일 정리 스윕 실패: {}, {}", partition, e.getMessage());
+            return 0;
+        }
+    }
+
+    private int sweepBatch(List<String> keys) {
+        List<String> sourceKeys = keys.stream().map(ImageFileCollector::sourceKey).distinct().toList();
+        Set<String> referenced = new HashSet<>(imageMapper.selectReferencedUrls(sourceKeys));
+        int removed = 0;
+        for (String key : keys) {
+            if (referenced.contains(sourceKey(key))) {
+                continue;
+            }
+            removed++;
+            if (sweepDryRun) {
+                log.info("미참조 이미지 파일(dry-run): {}", key);
+            } else if (imageStorage.delete(key)) {
+                sweepDeleted.increment();
+            } else {
+                sweepFailed.increment();
+            }
+        }
+        return removed;
+    }
+
+    private CompletableFuture<Integer> submit(Supplier<Integer> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, imageGcExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차면 스케줄러 스레드가 직접 순회
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    // 미리 압축본(.br/.gz)은 원본 경로의 참조 여부를 따름
+    private static String sourceKey(String key) {
+        for (String suffix : PRECOMPRESSED_SUFFIXES) {
+            if (key.endsWith(suffix)) {
+                return key.substring(0, key.length() - suffix.length());
+            }
+        }
+        return key;
+    }
+
+    private static List<List<String>> batches(List<String> keys) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+            batches.add(keys.subList(from, Math.min(from + BATCH_SIZE, keys.size())));
+        }
+        return batches;
+    }
+}
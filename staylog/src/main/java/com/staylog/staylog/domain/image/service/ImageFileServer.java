@@ -0,0 +1,385 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 이미지 파일 제공 (/images/**, 로컬 저장소일 때 - LocalImageStorage)
+ * - 저장 파일명은 UUID라 내용이 바뀌지 않으므로 1년 immutable 캐시 + 내용 해시(SHA-256 앞 128비트) ETag
+ * - If-None-Match / If-Modified-Since -> 304, 단일 Range(If-Range 포함) -> 206, 범위 밖 -> 416
+ *   여러 구간 Range는 전체 응답으로 대체 (RFC 9110 허용)
+ * - 원본 옆에 .br / .gz 미리 압축본이 있으면 Accept-Encoding에 맞춰 제공 (Range 요청은 원본으로)
+ * - 본문 전송은 Tomcat sendfile(커널 zero-copy)을 쓰고, 지원하지 않는 커넥터에서는 FileChannel.transferTo 사용
+ * - 파일 메타(크기, 수정 시각, ETag, 압축본 유무)는 경로별로 캐시해 요청마다 파일을 해시하지 않음
+ * - 지표: staylog.image.serve (Counter, status), cache.gets 등 (cache=image.file.meta)
+ */
+@Slf4j
+@Component
+public class ImageFileServer {
+
+    private static final String CACHE_NAME = "image.file.meta";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    // 선호 순서대로 (Content-Encoding, 파일 확장자)
+    private static final Map<String, String> PRECOMPRESSED = new LinkedHashMap<>();
+
+    static {
+        PRECOMPRESSED.put("br", ".br");
+        PRECOMPRESSED.put("gzip", ".gz");
+    }
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path root;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Path, FileMeta> metaCache;
+
+    public ImageFileServer(@Value("${file.image-location}") String imageLocation,
+                           MeterRegistry meterRegistry,
+                           @Value("${image.serve.meta-cache-size:20000}") long metaCacheSize) {
+        this.root = Paths.get(imageLocation).toAbsolutePath().normalize();
+        this.meterRegistry = meterRegistry;
+        this.metaCache = Caffeine.newBuilder()
+                .maximumSize(metaCacheSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, metaCache, CACHE_NAME);
+    }
+
+    /**
+     * 이미지 파일 응답 작성 (GET/HEAD)
+     *
+     * @param relativePath file.image-location 기준 상대 경로 (yyyy/MM/dd/파일명)
+     */
+    public void serve(String relativePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(relativePath);
+        FileMeta meta = file == null ? null : metaCache.get(file, this::load);
+        if (meta == null) {
+            respond(response, HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String encoding = rangeHeader == null ? negotiateEncoding(request, meta) : null;
+        String etag = meta.etag(encoding);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, meta.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (!meta.precompressed().isEmpty()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (isNotModified(request, etag, meta.lastModified())) {
+            respond(response, HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(meta.contentType());
+
+        if (rangeHeader != null && ifRangeMatches(request, etag, meta.lastModified())) {
+            long[] range = parseRange(rangeHeader, meta.length());
+            if (range != null && range.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + meta.length());
+                respond(response, HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + range[0] + "-" + range[1] + "/" + meta.length());
+                transfer(request, response, file, range[0], range[1] - range[0] + 1);
+                count(HttpServletResponse.SC_PARTIAL_CONTENT);
+                return;
+            }
+        }
+
+        Path body = file;
+        long length = meta.length();
+        if (encoding != null) {
+            body = file.resolveSibling(file.getFileName() + PRECOMPRESSED.get(encoding));
+            length = meta.precompressed().get(encoding);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        transfer(request, response, body, 0, length);
+        count(HttpServletResponse.SC_OK);
+    }
+
+    /**
+     * 이미지 루트 밖을 가리키거나 숨김 파일이면 null
+     */
+    private Path resolve(String relativePath) {
+        if (relativePath == null || relativePath.isBlank() || relativePath.contains("..") || relativePath.contains("\\")) {
+            return null;
+        }
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root) || file.getFileName().toString().startsWith(".")) {
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * 파일 메타 적재 (없으면 null - 캐시에 남지 않음)
+     */
+    private FileMeta load(Path file) {
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            Map<String, Long> precompressed = new LinkedHashMap<>();
+            PRECOMPRESSED.forEach((encoding, extension) -> {
+                Path sibling = file.resolveSibling(file.getFileName() + extension);
+                try {
+                    if (Files.isRegularFile(sibling)) {
+                        precompressed.put(encoding, Files.size(sibling));
+                    }
+                } catch (IOException e) {
+                    log.debug("미리 압축본 확인 실패: {}", sibling);
+                }
+            });
+            String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            return new FileMeta(attrs.size(), attrs.lastModifiedTime().toMillis(), contentHash(file),
+                    contentType, Collections.unmodifiableMap(precompressed));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentHash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        byte[] hash = digest.digest();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+    }
+
+    /**
+     * Accept-Encoding 중 미리 압축본이 있는 첫 인코딩 (q=0은 거부로 처리)
+     */
+    private static String negotiateEncoding(HttpServletRequest request, FileMeta meta) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || meta.precompressed().isEmpty()) {
+            return null;
+        }
+        for (String encoding : PRECOMPRESSED.keySet()) {
+            if (!meta.precompressed().containsKey(encoding)) {
+                continue;
+            }
+            for (String token : acceptEncoding.split(",")) {
+                String[] parts = token.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(encoding) && !isZeroQuality(parts)) {
+                    return encoding;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isNotAfter(request, HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+    }
+
+    /**
+     * If-Range가 없거나 현재 표현과 일치하면 Range를 적용 (일치하지 않으면 전체 응답)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        return isNotAfter(request, HttpHeaders.IF_RANGE, lastModified);
+    }
+
+    /**
+     * 날짜 헤더 값이 파일 수정 시각(초 단위) 이후인지 여부 (헤더가 없거나 형식이 잘못되면 false)
+     */
+    private static boolean isNotAfter(HttpServletRequest request, String header, long lastModified) {
+        try {
+            long since = request.getDateHeader(header);
+            return since != -1 && lastModified / 1000 <= since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * 단일 구간 Range 해석
+     *
+     * @return {시작, 끝(포함)}, 범위 밖이면 빈 배열, 해석할 수 없거나 여러 구간이면 null (전체 응답)
+     */
+    static long[] parseRange(String header, long length) {
+        Matcher matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (matcher.group(1).isEmpty()) {
+                // bytes=-N : 마지막 N바이트
+                long suffix = Long.parseLong(matcher.group(2));
+                if (suffix == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(matcher.group(1));
+                end = length - 1;
+                if (!matcher.group(2).isEmpty()) {
+                    long last = Long.parseLong(matcher.group(2));
+                    if (last < start) {
+                        return null;
+                    }
+                    end = Math.min(last, end);
+                }
+            }
+            return start >= length ? new long[0] : new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 본문 전송 (HEAD는 길이만)
+     */
+    private void transfer(HttpServletRequest request, HttpServletResponse response,
+                          Path file, long start, long length) throws IOException {
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException e) {
+            // 메타 캐시 이후 파일이 삭제됨
+            metaCache.invalidate(file);
+            throw e;
+        }
+    }
+
+    private void respond(HttpServletResponse response, int status) {
+        response.setStatus(status);
+        count(status);
+    }
+
+    private void count(int status) {
+        meterRegistry.counter("staylog.image.serve", "status", String.valueOf(status)).increment();
+    }
+
+    /**
+     * 파일 메타
+     *
+     * @param hash 원본 내용 해시 (ETag 본체)
+     * @param precompressed Content-Encoding -> 미리 압축본 크기
+     */
+    record FileMeta(long length, long lastModified, String hash, String contentType, Map<String, Long> precompressed) {
+
+        /**
+         * 표현별 ETag (압축본은 원본과 다른 강한 ETag)
+         */
+        String etag(String encoding) {
+            return encoding == null ? "\"" + hash + "\"" : "\"" + hash + "-" + encoding + "\"";
+        }
+    }
+}
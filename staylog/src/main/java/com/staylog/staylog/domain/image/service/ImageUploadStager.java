@@ -0,0 +1,154 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import com.staylog.staylog.global.common.code.ErrorCode;
+import com.staylog.staylog.global.common.util.FileUtil;
+import com.staylog.staylog.global.common.util.MessageUtil;
+import com.staylog.staylog.global.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 기록기
+ * - 각 파트를 ImageStorage의 staging 디렉터리에 스트리밍하며 SHA-256을 계산하고, fsync 후 저장소에 저장
+ *   (로컬 저장소는 원자적 이름 변경, S3는 업로드) - 메모리에는 복사 버퍼만 둠
+ * - 여러 파일은 imageUploadExecutor에서 병렬로 기록 (풀이 가득 차면 요청 스레드가 직접 기록)
+ * - 하나라도 실패하면 이미 기록한 파일까지 지우고 예외를 던짐
+ * - ImageServiceImpl이 트랜잭션 전에 호출하므로 이미지 메타 트랜잭션이 디스크 I/O 동안 열려 있지 않음
+ * - 지표: staylog.image.upload.write (Timer, outcome)
+ */
+@Slf4j
+@Component
+public class ImageUploadStager {
+
+    private final Executor imageUploadExecutor;
+    private final MessageUtil messageUtil;
+    private final MeterRegistry meterRegistry;
+    private final ImageStorage imageStorage;
+
+    public ImageUploadStager(@Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                             MessageUtil messageUtil,
+                             MeterRegistry meterRegistry,
+                             ImageStorage imageStorage) {
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.messageUtil = messageUtil;
+        this.meterRegistry = meterRegistry;
+        this.imageStorage = imageStorage;
+    }
+
+    /**
+     * 파일들을 병렬로 디스크에 기록
+     *
+     * @param files 업로드 파일 목록
+     * @return 입력과 같은 순서의 기록 결과 (null이거나 빈 파일 자리는 null)
+     */
+    public List<StagedImage> stage(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<StagedImage>> writes = files.stream()
+                .map(file -> file == null || file.isEmpty()
+                        ? CompletableFuture.<StagedImage>completedFuture(null)
+                        : CompletableFuture.supplyAsync(() -> write(file), imageUploadExecutor))
+                .toList();
+        try {
+            // allOf는 모든 기록이 끝난 뒤에 완료되므로 실패 시 정리할 파일이 더 생기지 않음
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            discard(writes.stream()
+                    .filter(write -> !write.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList());
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw e;
+        }
+        return writes.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 기록한 파일 삭제 (DB 저장 실패, 사용되지 않은 파일 정리)
+     */
+    public void discard(List<StagedImage> staged) {
+        staged.stream()
+                .filter(Objects::nonNull)
+                .forEach(image -> imageStorage.delete(image.relativePath()));
+    }
+
+    private StagedImage write(MultipartFile file) {
+        long start = System.nanoTime();
+        String relativePath = FileUtil.newSavedPath(file.getOriginalFilename());
+        Path temp = null;
+        try {
+            temp = imageStorage.stagingDirectory().resolve(UUID.randomUUID() + ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp);
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            imageStorage.put(relativePath, temp, file.getContentType());
+            record("success", start);
+            return new StagedImage(relativePath, file.getOriginalFilename(), file.getContentType(),
+                    size, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(temp);
+            record("error", start);
+            log.error("이미지 업로드 중 IO 오류 발생: {}", relativePath, e);
+            String message = messageUtil.getMessage(ErrorCode.FILE_UPLOAD_FAILED.getMessageKey());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, message, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private void record(String outcome, long startNanos) {
+        Timer.builder("staylog.image.upload.write")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 디스크에 기록된 업로드 파일
+     *
+     * @param relativePath ImageStorage 저장 경로 (IMAGE_FILE.SAVED_URL)
+     * @param sha256 내용 SHA-256 (16진수)
+     */
+    public record StagedImage(String relativePath, String originalName, String contentType, long size, String sha256) {
+    }
+}
@@ -0,0 +1,416 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import com.staylog.staylog.global.constant.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 크기 변형 생성기
+ * - 업로드가 커밋된 뒤(ImageVariantEventListener) 원본을 읽어 1080/480/160px 너비의 JPEG을 만들고
+ *   IMAGE_FILE에 변형 행(target_type = IMG_VARIANT, target_id = 원본 image_id)으로 저장
+ * - 생성은 imageVariantExecutor(고정 크기 풀)에서 수행하고, 풀이 가득 차 거절된 원본이나 기존 원본은
+ *   ImageVariantScheduler가 image_id 순으로 보충
+ * - 변형을 저장하면 대표 이미지 캐시(MainImageCache)에서 대상을 지워 다음 조회부터 변형 경로를 사용
+ * - 원본보다 넓은 변형은 만들지 않으며, ImageIO가 읽지 못하는 형식(WebP 등)은 건너뛴다 (조회 시 원본으로 대체)
+ * - 지표: staylog.image.variant.generate (Timer, outcome: success/skipped/error), staylog.image.variant.rejected (Counter)
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    // 큰 변형부터 만들어 다음 변형의 입력으로 재사용
+    private static final List<ImageVariant> VARIANTS = List.of(ImageVariant.W1080, ImageVariant.W480, ImageVariant.W160);
+    private static final int MAX_VARIANT_WIDTH = ImageVariant.W1080.getWidth();
+    private static final int TARGET_BATCH_SIZE = 100;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final ImageMapper imageMapper;
+    private final Executor imageVariantExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ImageStorage imageStorage;
+    private final MainImageCache mainImageCache;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+
+    // 같은 원본을 이벤트와 보충 작업이 동시에 처리하지 않도록 처리 중인 image_id 보관
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong backfillCursor = new AtomicLong();
+
+    public ImageVariantGenerator(ImageMapper imageMapper,
+                                 @Qualifier("imageVariantExecutor") Executor imageVariantExecutor,
+                                 MeterRegistry meterRegistry,
+                                 ImageStorage imageStorage,
+                                 MainImageCache mainImageCache,
+                                 @Value("${image.variant.jpeg-quality:0.82}") float jpegQuality,
+                                 @Value("${image.variant.max-source-pixels:50000000}") long maxSourcePixels) {
+        this.imageMapper = imageMapper;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.meterRegistry = meterRegistry;
+        this.imageStorage = imageStorage;
+        this.mainImageCache = mainImageCache;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    /**
+     * 대상의 변형 없는 원본들을 비동기로 처리 (풀이 가득 차면 보충 작업으로 넘김)
+     *
+     * @param targetType 접두사 없는 대상 타입 (ACCOMMODATION, PROFILE 등)
+     * @param targetId 대상 PK
+     */
+    public void generateAsync(String targetType, long targetId) {
+        try {
+            imageVariantExecutor.execute(() -> generateForTarget("IMG_FROM_" + targetType, targetId));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("staylog.image.variant.rejected").increment();
+            log.warn("이미지 변형 생성 대기열 포화 - 주기 보충으로 넘깁니다: {}-{}", targetType, targetId);
+        }
+    }
+
+    /**
+     * 변형 없는 원본을 image_id 순으로 이어서 처리 (호출 스레드에서 실행)
+     *
+     * @param batchSize 1회 처리 건수
+     * @return 이번에 확인한 원본 수
+     */
+    public int backfill(int batchSize) {
+        List<ImageDto> originals = imageMapper.selectOriginalsWithoutVariants(null, null, backfillCursor.get(), batchSize);
+        for (ImageDto original : originals) {
+            generate(original);
+            backfillCursor.accumulateAndGet(original.getImageId(), Math::max);
+        }
+        return originals.size();
+    }
+
+    private void generateForTarget(String prefixedTargetType, long targetId) {
+        imageMapper.selectOriginalsWithoutVariants(prefixedTargetType, targetId, 0, TARGET_BATCH_SIZE)
+                .forEach(this::generate);
+    }
+
+    /**
+     * 원본 1장의 변형 생성 (실패해도 예외를 던지지 않음 - 조회 시 원본으로 대체되므로)
+     */
+    private void generate(ImageDto original) {
+        if (!inFlight.add(original.getImageId())) {
+            return;
+        }
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            if (writeVariants(original) > 0) {
+                outcome = "success";
+                mainImageCache.invalidate(original.getTargetType(), original.getTargetId());
+            } else {
+                outcome = "skipped";
+            }
+        } catch (Exception e) {
+            log.warn("이미지 변형 생성 실패: imageId={}, {}", original.getImageId(), e.getMessage());
+        } finally {
+            inFlight.remove(original.getImageId());
+            Timer.builder("staylog.image.variant.generate")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return 저장된 변형 수
+     */
+    private int writeVariants(ImageDto original) throws IOException {
+        String source = original.getSavedUrl();
+        if (!imageStorage.exists(source)) {
+            log.warn("변형 생성 대상 원본 파일 없음: {}", source);
+            return 0;
+        }
+        // 같은 내용의 다른 원본(ImageContentStore로 파일 공유)이 이미 만든 변형 파일은 다시 인코딩하지 않고 재사용
+        BufferedImage base = null;
+        boolean decoded = false;
+        int saved = 0;
+        for (ImageVariant variant : VARIANTS) {
+            String savedUrl = variantUrl(original.getSavedUrl(), variant);
+            boolean created = !imageStorage.exists(savedUrl);
+            long size;
+            if (created) {
+                if (!decoded) {
+                    base = decode(source);
+                    decoded = true;
+                }
+                if (base == null || variant.getWidth() >= base.getWidth()) {
+                    continue;
+                }
+                base = resize(base, variant.getWidth());
+                size = writeJpeg(base, savedUrl);
+            } else {
+                size = imageStorage.size(savedUrl);
+            }
+
+            ImageDto variantDto = ImageDto.builder()
+                    .imageType(variant.getCode())
+                    .targetId(original.getImageId())
+                    .savedUrl(savedUrl)
+                    .fileSize(String.valueOf(size))
+                    .mimeType("image/jpeg")
+                    .displayOrder(variant.getWidth())
+                    .build();
+            try {
+                if (imageMapper.insertVariant(variantDto) == 0) {
+                    // 그 사이 원본이 삭제되었거나 다른 인스턴스가 먼저 저장함
+                    deleteIfCreated(savedUrl, created);
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                deleteIfCreated(savedUrl, created);
+                throw e;
+            }
+            saved++;
+        }
+        log.debug("이미지 변형 생성: imageId={}, {}건", original.getImageId(), saved);
+        return saved;
+    }
+
+    private void deleteIfCreated(String savedUrl, boolean created) {
+        if (created) {
+            imageStorage.delete(savedUrl);
+        }
+    }
+
+    /**
+     * 원본 디코딩 (가장 큰 변형의 2배 너비까지만 서브샘플링해 읽고, EXIF 방향을 적용)
+     *
+     * @return 읽을 수 없는 형식이거나 픽셀 수 제한을 넘으면 null
+     */
+    private BufferedImage decode(String source) throws IOException {
+        // 로컬 저장소는 파일을 직접 읽고, 오브젝트 스토리지는 내려받으며 읽는다
+        Path localFile = imageStorage.localFile(source);
+        if (localFile != null) {
+            try (ImageInputStream in = ImageIO.createImageInputStream(localFile.toFile())) {
+                return decode(source, in);
+            }
+        }
+        try (InputStream stream = imageStorage.open(source);
+             ImageInputStream in = ImageIO.createImageInputStream(stream)) {
+            return decode(source, in);
+        }
+    }
+
+    private BufferedImage decode(String source, ImageInputStream in) throws IOException {
+        Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+        if (readers == null || !readers.hasNext()) {
+            log.debug("ImageIO 미지원 형식 - 변형 생략: {}", source);
+            return null;
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(in, true, false);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxSourcePixels) {
+                log.warn("픽셀 수 제한 초과 - 변형 생략: {} ({}x{})", source, width, height);
+                return null;
+            }
+            int orientation = exifOrientation(reader);
+            int displayWidth = orientation >= 5 ? height : width;
+            int subsampling = Math.max(1, displayWidth / (MAX_VARIANT_WIDTH * 2));
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return orient(reader.read(0, param), orientation);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 절반씩 줄인 뒤 마지막에 목표 너비로 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+     */
+    private static BufferedImage resize(BufferedImage image, int width) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = scale(current, current.getWidth() / 2);
+        }
+        return current.getWidth() == width ? current : scale(current, width);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, Color.WHITE, null); // 투명 영역은 흰 배경
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * staging 디렉터리에 JPEG을 쓴 뒤 저장소에 저장 (중간에 실패한 파일이 최종 경로로 남지 않음)
+     *
+     * @return 저장된 파일 크기
+     */
+    private long writeJpeg(BufferedImage image, String savedUrl) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            Path temp = imageStorage.stagingDirectory().resolve(UUID.randomUUID() + ".part");
+            try {
+                try (OutputStream os = Files.newOutputStream(temp);
+                     ImageOutputStream out = new MemoryCacheImageOutputStream(os)) {
+                    writer.setOutput(out);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                }
+                long size = Files.size(temp);
+                imageStorage.put(savedUrl, temp, "image/jpeg");
+                return size;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 원본 경로에서 변형 경로 생성 (2025/10/17/uuid.png -> 2025/10/17/uuid_w480.jpg)
+     */
+    static String variantUrl(String savedUrl, ImageVariant variant) {
+        int slash = savedUrl.lastIndexOf('/');
+        int dot = savedUrl.lastIndexOf('.');
+        String base = dot > slash ? savedUrl.substring(0, dot) : savedUrl;
+        return base + "_w" + variant.getWidth() + ".jpg";
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 Orientation 값 (없거나 읽을 수 없으면 1 = 정방향)
+     */
+    private static int exifOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return 1;
+            }
+            Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+            for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (!"markerSequence".equals(node.getNodeName())) {
+                    continue;
+                }
+                for (Node marker = node.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                    if ("unknown".equals(marker.getNodeName())
+                            && String.valueOf(APP1_MARKER).equals(((IIOMetadataNode) marker).getAttribute("MarkerTag"))
+                            && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] app1) {
+                        int orientation = parseOrientation(app1);
+                        if (orientation != 0) {
+                            return orientation;
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("EXIF 방향 읽기 실패 - 정방향으로 처리: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    /**
+     * "Exif\0\0" + TIFF 헤더 + IFD0에서 Orientation 태그 검색
+     *
+     * @return Orientation 값, Exif 세그먼트가 아니거나 태그가 없으면 0
+     */
+    private static int parseOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        int count = Short.toUnsignedInt(tiff.getShort(ifd));
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == EXIF_ORIENTATION_TAG) {
+                return Short.toUnsignedInt(tiff.getShort(entry + 8));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * EXIF Orientation(2~8)을 픽셀에 적용해 정방향 이미지로 변환
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(w, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(w, h); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, h); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1, 1); }
+            case 6 -> { transform.translate(h, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(h, w); transform.rotate(Math.PI / 2); transform.scale(-1, 1); }
+            case 8 -> { transform.translate(0, w); transform.rotate(-Math.PI / 2); }
+            default -> {
+                return image;
+            }
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+}
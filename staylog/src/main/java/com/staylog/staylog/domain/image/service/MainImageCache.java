@@ -0,0 +1,196 @@
+package com.staylog.staylog.domain.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.dto.ImageLookupKey;
+import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.global.constant.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대표 이미지 공유 캐시 ((targetType, targetId, 크기 변형) -> 대표 이미지)
+ * - 검색/홈/리뷰/마이페이지(ImageBatchLoader)와 알림 아이콘(NotificationServiceImpl)이 같은 캐시를 사용
+ * - 없는 키는 DB에서 한 번에 적재 (selectFirstImagesByKeys, LOAD_CHUNK_SIZE개씩)
+ * - 이미지가 없는 대상도 EMPTY로 캐시해 반복 조회를 막음
+ * - 값은 경로/이름/ID만 담은 작은 레코드로 보관 (ImageDto 전체를 들고 있지 않음)
+ * - 변경 시 ImageServiceImpl과 ImageVariantGenerator가 대상의 모든 크기 변형 키를 무효화
+ *   (바로 한 번, 트랜잭션 중이면 커밋 후 한 번 더 지워 커밋 전 값을 다시 적재한 경우도 정리)
+ * - 다른 인스턴스의 변경은 TTL 안에서 반영
+ * - image.main-cache.warm-on-startup=true면 기동 후 이미지가 있는 숙소 전체를 미리 적재
+ * - 지표: /actuator/metrics/cache.gets 등 (cache=image.main, result=hit|miss로 적중률 확인)
+ */
+@Slf4j
+@Component
+public class MainImageCache {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final String ACCOMMODATION_TARGET_TYPE = "IMG_FROM_ACCOMMODATION";
+    private static final MainImage EMPTY = new MainImage(0, null, null, 0);
+
+    private final ImageMapper imageMapper;
+    private final Cache<ImageLookupKey, MainImage> cache;
+    private final boolean warmOnStartup;
+    private final List<String> warmImageTypes;
+
+    public MainImageCache(ImageMapper imageMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${image.main-cache.max-size:200000}") long maxSize,
+                          @Value("${image.main-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${image.main-cache.warm-on-startup:false}") boolean warmOnStartup,
+                          @Value("${image.main-cache.warm-variants:W480,W160}") List<ImageVariant> warmVariants) {
+        this.imageMapper = imageMapper;
+        this.warmOnStartup = warmOnStartup;
+        this.warmImageTypes = warmVariants.stream()
+                .map(variant -> variant == ImageVariant.ORIGINAL ? null : variant.getCode())
+                .toList();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "image.main");
+    }
+
+    /**
+     * 대표 이미지 일괄 조회 (캐시에 없는 키만 DB에서 적재)
+     *
+     * @param keys 조회 키 목록
+     * @return 키 -> 대표 이미지(변형이 있으면 변형 경로, imageType은 요청한 변형 코드), 이미지가 없는 키는 맵에 없음
+     */
+    public Map<ImageLookupKey, ImageDto> getAll(Collection<ImageLookupKey> keys) {
+        Map<ImageLookupKey, ImageDto> result = new HashMap<>();
+        cache.getAll(keys, this::load).forEach((key, image) -> {
+            if (image != EMPTY) {
+                result.put(key, image.toDto(key));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 대표 이미지 단건 조회
+     *
+     * @return 이미지가 없으면 null
+     */
+    public ImageDto get(ImageLookupKey key) {
+        return getAll(List.of(key)).get(key);
+    }
+
+    /**
+     * 대상의 모든 크기 변형 키 무효화 (트랜잭션 중이면 커밋 후 한 번 더)
+     *
+     * @param prefixedTargetType 접두사가 붙은 targetType (IMG_FROM_...)
+     * @param targetId 대상 ID
+     */
+    public void invalidate(String prefixedTargetType, long targetId) {
+        List<ImageLookupKey> keys = keysOf(prefixedTargetType, targetId);
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * 기동 후 숙소 대표 이미지 미리 적재 (image.main-cache.warm-on-startup)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmOnStartup) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        int targets = 0;
+        try {
+            while (true) {
+                List<Long> targetIds = imageMapper.selectTargetIdsWithImages(ACCOMMODATION_TARGET_TYPE, afterId, LOAD_CHUNK_SIZE);
+                if (targetIds.isEmpty()) {
+                    break;
+                }
+                for (String imageType : warmImageTypes) {
+                    List<ImageLookupKey> keys = targetIds.stream()
+                            .map(targetId -> new ImageLookupKey(ACCOMMODATION_TARGET_TYPE, targetId, imageType))
+                            .toList();
+                    cache.getAll(keys, this::load);
+                }
+                targets += targetIds.size();
+                afterId = targetIds.get(targetIds.size() - 1);
+            }
+            log.info("대표 이미지 캐시 예열 완료: 숙소 {}개, {}ms", targets, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("대표 이미지 캐시 예열 실패 (숙소 {}개까지 적재): {}", targets, e.getMessage());
+        }
+    }
+
+    private Map<ImageLookupKey, MainImage> load(Set<? extends ImageLookupKey> keys) {
+        Map<ImageLookupKey, MainImage> loaded = new HashMap<>();
+        List<ImageLookupKey> missing = new ArrayList<>(keys);
+        for (int from = 0; from < missing.size(); from += LOAD_CHUNK_SIZE) {
+            List<ImageLookupKey> chunk = missing.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missing.size()));
+            for (ImageDto image : imageMapper.selectFirstImagesByKeys(List.copyOf(chunk))) {
+                ImageLookupKey key = new ImageLookupKey(image.getTargetType(), image.getTargetId(), image.getImageType());
+                // 변형 생성이 경합해 같은 원본에 두 행이 생긴 경우 먼저 조회된 값을 사용
+                loaded.putIfAbsent(key, MainImage.of(image));
+            }
+        }
+        for (ImageLookupKey key : keys) {
+            loaded.putIfAbsent(key, EMPTY);
+        }
+        return loaded;
+    }
+
+    private static List<ImageLookupKey> keysOf(String prefixedTargetType, long targetId) {
+        Set<ImageLookupKey> keys = new LinkedHashSet<>();
+        keys.add(new ImageLookupKey(prefixedTargetType, targetId, null));
+        Arrays.stream(ImageVariant.values())
+                .filter(variant -> variant != ImageVariant.ORIGINAL)
+                .forEach(variant -> keys.add(new ImageLookupKey(prefixedTargetType, targetId, variant.getCode())));
+        return List.copyOf(keys);
+    }
+
+    /**
+     * 캐시에 보관하는 대표 이미지 값
+     */
+    private record MainImage(long imageId, String savedUrl, String originalName, long displayOrder) {
+
+        static MainImage of(ImageDto image) {
+            return new MainImage(image.getImageId(), image.getSavedUrl(), image.getOriginalName(), image.getDisplayOrder());
+        }
+
+        ImageDto toDto(ImageLookupKey key) {
+            return ImageDto.builder()
+                    .imageId(imageId)
+                    .imageType(key.imageType())
+                    .targetType(key.targetType())
+                    .targetId(key.targetId())
+                    .savedUrl(savedUrl)
+                    .originalName(originalName)
+                    .displayOrder(displayOrder)
+                    .build();
+        }
+    }
+}
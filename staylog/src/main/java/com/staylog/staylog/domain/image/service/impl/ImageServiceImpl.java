@@ -6,29 +6,34 @@ import com.staylog.staylog.domain.image.dto.ImageResponse;
 import com.staylog.staylog.domain.image.dto.ImageUpdateItemDto;
 import com.staylog.staylog.domain.image.dto.ImageUpdateRequest;
 import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.domain.image.service.DisplayOrderAllocator;
+import com.staylog.staylog.domain.image.service.ImageContentStore;
+import com.staylog.staylog.domain.image.service.ImageFileCollector;
 import com.staylog.staylog.domain.image.service.ImageService;
+import com.staylog.staylog.domain.image.service.ImageUploadStager;
+import com.staylog.staylog.domain.image.service.ImageUploadStager.StagedImage;
+import com.staylog.staylog.domain.image.service.MainImageCache;
+import com.staylog.staylog.domain.image.storage.ImageStorage;
 import com.staylog.staylog.global.common.code.ErrorCode;
-import com.staylog.staylog.global.common.dto.FileUploadDto;
-import com.staylog.staylog.global.common.util.FileUtil;
-import com.staylog.staylog.global.common.util.MessageUtil;
+import com.staylog.staylog.global.event.ImageChangedEvent;
 import com.staylog.staylog.global.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DuplicateKeyException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,16 +43,25 @@ import java.util.stream.Collectors;
 public class ImageServiceImpl implements ImageService {
 
     private final ImageMapper imageMapper;
-    private final MessageUtil messageUtil;
-
-    @Value("${file.image-location}")
-    private String uploadPath;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageUploadStager imageUploadStager;
+    private final ImageContentStore imageContentStore;
+    private final ImageFileCollector imageFileCollector;
+    private final ImageStorage imageStorage;
+    private final MainImageCache mainImageCache;
+    private final DisplayOrderAllocator displayOrderAllocator;
+    private final TransactionTemplate transactionTemplate;
 
     // displayOrder 계산 로직 보호용 락 객체 -> DB 잠금으로 대체되어 더 이상 필요 없음
 //	private final Object displaObjectLock = new Object();
     
+    /**
+     * 파일은 트랜잭션 밖에서 병렬로 디스크에 기록하고(ImageUploadStager),
+     * displayOrder는 DisplayOrderAllocator의 메모리 블록에서 받고, 메타 일괄 저장만 짧은 트랜잭션으로 처리.
+     * DB 저장이 실패하면 기록한 파일을 지운다 (할당된 번호는 빈 번호로 남음).
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageResponse saveImages(List<MultipartFile> files, String targetType, long targetId){
     	log.info("ImageService.saveImages 호출됨 - targetType: {}, targetId: {}", targetType, targetId);
     	String prefixedTargetType = "IMG_FROM_"+targetType;
@@ -55,50 +69,38 @@ public class ImageServiceImpl implements ImageService {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
         
+        // 1. 디스크 기록 (빈 파일은 스킵)
+        List<StagedImage> staged = imageUploadStager.stage(files).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (staged.isEmpty()) {
+            return buildImageResponse(targetType, targetId, new ArrayList<>());
+        }
 
-        // 필요한 displayOrder 개수만큼 한 번에 예약하고 시작 번호를 가져온다.
-        long startOrder = DisplayOrderRange(prefixedTargetType, targetId, files.size());
-        long currentDisplayOrder = startOrder;
-        
-        List<ImageDto> newImages = new ArrayList<>();
-        
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) {
-                continue; // 빈 파일은 스킵
+        // 2. displayOrder 할당 (메모리 블록에서, 모자라면 짧은 독립 트랜잭션으로 블록 예약)
+        //    업로드 트랜잭션 밖에서 할당해 예약용 커넥션을 따로 잡지 않음
+        long firstDisplayOrder;
+        try {
+            firstDisplayOrder = displayOrderAllocator.allocate(prefixedTargetType, targetId, staged.size());
+        } catch (RuntimeException e) {
+            imageUploadStager.discard(staged);
+            throw e;
+        }
+
+        // 3. 메타 일괄 저장
+        List<ImageDto> newImages = inTransaction(staged, () -> {
+            long currentDisplayOrder = firstDisplayOrder;
+            List<ImageDto> images = new ArrayList<>();
+            for (StagedImage image : staged) {
+                images.add(toImageDto(image, prefixedTargetType, targetId, currentDisplayOrder++));
             }
-            
-            FileUploadDto fileUploadDto = null;
-    		try {
-    			fileUploadDto = FileUtil.saveFile(file, uploadPath);
-    			log.info("저장된 파일 경로"+uploadPath);
-	        } catch (IOException e) {
-	            log.error("이미지 업로드 중 IO 오류 발생", e);
-	            // GlobalExceptionHandler에서 처리하도록 예외를 다시 던집니다.
-	            String message = messageUtil.getMessage(ErrorCode.FILE_UPLOAD_FAILED.getMessageKey());
-	            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, message, e);
-	        } catch (IllegalArgumentException e) {
-	            log.error("이미지 업로드 인자 오류 발생", e);
-	            // GlobalExceptionHandler에서 처리하도록 예외를 다시 던집니다.
-	            String message = messageUtil.getMessage(ErrorCode.INVALID_FILE_TYPE.getMessageKey());
-	            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE, message, e);
-	        }
-    		
-            ImageDto imageDto = ImageDto.builder()
-                    .imageType("IMG_ORIGINAL")
-                    .targetType(prefixedTargetType)
-                    .targetId(targetId)
-                    .savedUrl(fileUploadDto.getRelativePath()) // savedUrl 필드에 FileUtil에서 반환된 상대 경로 저장
-                    .originalName(fileUploadDto.getOriginalName())
-                    .fileSize(String.valueOf(file.getSize()))
-                    .mimeType(file.getContentType())
-                    .displayOrder(currentDisplayOrder++)
-                    .build();
+            insertImages(images);
+
+            mainImageCache.invalidate(prefixedTargetType, targetId);
+            eventPublisher.publishEvent(new ImageChangedEvent(targetType, targetId));
+            return images;
+        });
 
-            imageMapper.insertImage(imageDto);
-            // 방금 삽입된 ImageDto를 반환 리스트에 추가
-            newImages.add(imageDto);
-        }
-        
         // 새로 업로드된 ImageDto 리스트를 ImageResponse 리스트로 변환하여 반환.
         return buildImageResponse(targetType, targetId, newImages);
     }
@@ -125,20 +127,20 @@ public class ImageServiceImpl implements ImageService {
 			return; // 예외처리 예정
 		}
 		
-		// 물리적 파일 삭제 (올바른 url 전달)
-		String fullPath = Paths.get(uploadPath, imageInfo.getSavedUrl()).toString();
-		log.info("물리적 파일 삭제 시도: "+fullPath);
-		FileUtil.deleteFile(fullPath);
+		// 내용 참조 해제 (같은 내용을 쓰는 이미지가 없으면 커밋 후 물리적 파일 삭제)
+		imageContentStore.release(imageInfo);
 		
-		// DB에서 이미지 레코드 삭제
+		// DB에서 이미지 레코드 삭제 (크기 변형 포함)
+		deleteVariants(List.of(imageId));
 		imageMapper.deleteImage(imageId);
 		
 		// displayOrder 재정렬
 		imageInfo.setDeletedDisplayOrder(imageInfo.getDisplayOrder());
 		imageMapper.updateDisplayOrderAfterDelete(imageInfo);
 		
-		// 카운터 감소
-		imageMapper.decrementCounter(imageInfo);
+		mainImageCache.invalidate(imageInfo.getTargetType(), imageInfo.getTargetId());
+		eventPublisher.publishEvent(new ImageChangedEvent(
+				imageInfo.getTargetType().replaceFirst("^IMG_FROM_", ""), imageInfo.getTargetId()));
 		
 		log.info("이미지 삭제 완료. imageId: "+imageId);
 		
@@ -152,26 +154,51 @@ public class ImageServiceImpl implements ImageService {
 		// 삭제할 이미지 목록 조회
 		List<ImageDto> imagesInfo = imageMapper.selectImagesByTarget(prefixedTargetType, targetId);
 		
-		// 물리삭제
+		// 내용 참조 해제 (물리삭제는 참조가 0이 된 파일만)
 		for (ImageDto image : imagesInfo) {
-	        String fullPath = Paths.get(uploadPath, image.getSavedUrl()).toString();
-	        FileUtil.deleteFile(fullPath);
+			imageContentStore.release(image);
 		}
 		
+		// 크기 변형 삭제
+		deleteVariants(imagesInfo.stream().map(ImageDto::getImageId).collect(Collectors.toList()));
+		
 		// 이미지 레코드 일괄 삭제
 		ImageDto dto = new ImageDto();
 	    dto.setTargetType(prefixedTargetType);
 	    dto.setTargetId(targetId);
 	    imageMapper.deleteImagesByTarget(dto);
-	    imageMapper.deleteCounterByTarget(dto);
+	    
+	    mainImageCache.invalidate(prefixedTargetType, targetId);
+	    eventPublisher.publishEvent(new ImageChangedEvent(targetType, targetId));
 	    
 	    log.info("일괄 이미지 삭제 완료. target: "+targetType+targetId);
 	}
 
+	/**
+	 * 신규 파일은 트랜잭션 밖에서 먼저 디스크에 기록하고, 삭제/순서 변경/신규 메타 저장만 트랜잭션으로 처리.
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void updateImages(ImageUpdateRequest request, List<MultipartFile> files) {
 		log.info("이미지 일괄 업데이트 시작. target: "+request.getTargetType()+request.getTargetId());
+		
+		List<StagedImage> staged = imageUploadStager.stage(files);
+		List<StagedImage> used = inTransaction(staged, () -> applyImageUpdate(request, staged));
+		
+		// 요청 순서에 포함되지 않아 저장되지 않은 파일 정리
+		imageUploadStager.discard(staged.stream()
+				.filter(image -> image != null && !used.contains(image))
+				.collect(Collectors.toList()));
+	}
+	
+	/**
+	 * 이미지 일괄 업데이트의 DB 작업 (트랜잭션 안에서 호출)
+	 * 
+	 * @param request 업데이트할 이미지 정보 Dto
+	 * @param staged 디스크에 기록된 신규 파일 (files와 같은 순서)
+	 * @return 신규 이미지로 저장된 파일 목록
+	 */
+	private List<StagedImage> applyImageUpdate(ImageUpdateRequest request, List<StagedImage> staged) {
 		String prefixedTargetType = "IMG_FROM_" + request.getTargetType();
 		
 		// 1. DB 에 저장된 현재 이미지 목록 조회
@@ -194,10 +221,10 @@ public class ImageServiceImpl implements ImageService {
 	    
 	    // 3-1. 삭제 로직 구현
 	    if (!imagesToDelete.isEmpty()) {
+	    	deleteVariants(imagesToDelete.stream().map(ImageDto::getImageId).collect(Collectors.toList()));
 		    for (ImageDto image : imagesToDelete) {
-		        // 물리적 파일 삭제
-		        String fullPath = Paths.get(uploadPath, image.getSavedUrl()).toString();
-		        FileUtil.deleteFile(fullPath);
+		        // 내용 참조 해제 (참조가 0이 되면 커밋 후 물리적 파일 삭제)
+		        imageContentStore.release(image);
 		        
 		        // DB 레코드 삭제
 		        imageMapper.deleteImage(image.getImageId());
@@ -207,37 +234,24 @@ public class ImageServiceImpl implements ImageService {
 	    // 4. 추가/수정할 이미지 목록 처리
 	    log.info("추가/수정할 이미지 개수: "+request.getImageOrders().size());
 	    int newFileIndex = 0;
+	    List<StagedImage> used = new ArrayList<>();
+	    List<ImageDto> newImages = new ArrayList<>();
 	    for (ImageUpdateItemDto item : request.getImageOrders()) {
 	    	if (item.getImageId() == null) {
 	    		// 4-1. 신규 이미지 추가
-	    		if (files == null || files.size() <= newFileIndex) {
+	    		if (staged.size() <= newFileIndex) {
 	    			// TODO: 공통 예외처리로 넘길 예정
 	    			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "요청된 신규 이미지 개수와 실제 파일 개수가 일치하지 않습니다.");
 	    		}
-	    		MultipartFile file = files.get(newFileIndex++);
+	    		StagedImage image = staged.get(newFileIndex++);
 	    		
 	    		// file 이 null 이거나 비어있을 경우를 대비한 방어 코드
-	            if (file == null || file.isEmpty()) {
-	                log.warn("요청된 신규 이미지 순서에 해당하는 파일이 비어있습니다. index: ", newFileIndex - 1);
+	            if (image == null) {
+	                log.warn("요청된 신규 이미지 순서에 해당하는 파일이 비어있습니다. index: {}", newFileIndex - 1);
 	                continue; // 다음 항목으로 넘어감
 	            }
-	    		try {
-		            FileUploadDto fileUploadDto = FileUtil.saveFile(file, uploadPath);
-		            ImageDto newImage = ImageDto.builder()
-		                    .imageType("IMG_ORIGINAL")
-		                    .targetType(prefixedTargetType)
-		                    .targetId(request.getTargetId())
-		                    .savedUrl(fileUploadDto.getRelativePath())
-		                    .originalName(fileUploadDto.getOriginalName())
-		                    .fileSize(String.valueOf(file.getSize()))
-		                    .mimeType(file.getContentType())
-		                    .displayOrder(item.getDisplayOrder())
-		                    .build();
-		            imageMapper.insertImage(newImage);
-		        } catch (IOException e) {
-		        	// TODO: 공통 예외처리로 넘길 예정
-		            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 업로드에 실패했습니다.", e);
-		        }
+	            newImages.add(toImageDto(image, prefixedTargetType, request.getTargetId(), item.getDisplayOrder()));
+	            used.add(image);
 	    	} else {
 		        // 4-2. 기존 이미지 순서 업데이트
 		        ImageDto existingImage = existingImageMap.get(item.getImageId());
@@ -248,35 +262,18 @@ public class ImageServiceImpl implements ImageService {
 		        }
 		    }
 	    }
+	    // 4-3. 신규 이미지 메타 일괄 저장
+	    insertImages(newImages);
 	
-	    // 5. 최종 카운터 업데이트
+	    // 5. 요청 순서를 그대로 썼으므로 카운터를 그 뒤로 올리고 이 노드의 블록을 버림 - 생긴 빈 번호는 DisplayOrderCompactionScheduler가 정리
+	    displayOrderAllocator.realign(prefixedTargetType, request.getTargetId());
 		long finalImageCount = request.getImageOrders().size();
-		
-		ImageDto counterDto = new ImageDto();
-	    counterDto.setTargetType(prefixedTargetType);
-	    counterDto.setTargetId(request.getTargetId());
-		   
-	    // 카운터가 존재하는지 확인 후, 없으면 생성/삭제, 있으면 업데이트
-	    Long currentCounter = imageMapper.selectForUpdate(counterDto);
 	    
-	    if (currentCounter != null) {
-	        if (finalImageCount > 0) {
-	            // 카운터가 있고, 최종 이미지도 있으면 -> 카운터 값 업데이트
-	        	counterDto.setCounterValue(finalImageCount);
-	        	imageMapper.setCounterValue(counterDto);
-	        } else {
-	            // 카운터는 있는데, 최종 이미지가 없으면 -> 카운터 레코드 삭제
-	        	imageMapper.deleteCounterByTarget(counterDto);
-	        }
-	    } else if (finalImageCount > 0) {
-	        // 카운터가 없고, 최종 이미지가 있으면 -> 카운터 레코드 생성
-	    	counterDto.setCounterValue(finalImageCount);
-	    	imageMapper.createCounter(counterDto);
-	    }
-	    // 카운터도 없고, 최종 이미지도 없으면 -> 아무것도 안 함
+	    mainImageCache.invalidate(prefixedTargetType, request.getTargetId());
+	    eventPublisher.publishEvent(new ImageChangedEvent(request.getTargetType(), request.getTargetId()));
 	   
 	    log.info("이미지 일괄 업데이트 완료. 최종 이미지 개수: "+finalImageCount);
-	    
+	    return used;
 	}
 	
 	@Override
@@ -302,42 +299,28 @@ public class ImageServiceImpl implements ImageService {
 	}
 	
 	/**
-	 * 필요한 개수(count)만큼의 displayOrder 범위를 예약하고, 시작 번호를 반환.
+	 * 원본 이미지들의 크기 변형 레코드를 삭제하고, 같은 내용의 다른 원본이 더 이상 쓰지 않는 변형 파일만 삭제 예약 (커밋 후 ImageFileCollector가 삭제).
 	 * 
-	 * @param targetType 접두사가 붙은 targetType
-	 * @param targetId
-	 * @param count 예약할 displayOrder의 개수
-	 * @return 예약된 displayOrder의 시작 번호
+	 * @param sourceImageIds 원본 image_id 목록
 	 */
-	@SuppressWarnings("unused")
-	private long DisplayOrderRange(String targetType, long targetId, int count) {
-		ImageDto dto = new ImageDto();
-		dto.setTargetType(targetType);
-		dto.setTargetId(targetId);
-		
-		while(true) {
-			// 1. 행을 잠그고 현재 카운터 값을 조회
-			Long startOrder = imageMapper.selectForUpdate(dto);
-			
-			if (startOrder != null) {
-				// 2a. 카운터가 존재하면, 필요한 만큼(count) 증가시킨 값을 DB에 저장
-				dto.setCounterValue(startOrder + count);
-				imageMapper.updateCounter(dto);
-				return startOrder; // 시작 번호 반환
-			} else {
-				// 2b. 카운터가 없으면 새로 생성
-				try {
-					dto.setCounterValue(1L + count);
-					imageMapper.createCounter(dto);
-					return 1L; // 시작 번호는 1
-				} catch (DuplicateKeyException e) {
-					// 3. INSERT가 실패하면 (다른 트랜잭션이 방금 생성), 다시 시도
-					log.warn("Race condition detected on counter creation for {}-{}, retrying.", targetType, targetId);
-					// 다음 루프에서는 이미 생성된 카운터를 조회(selectForUpdate)하여 처리함.
-					continue;
-				}
-			}
+	private void deleteVariants(List<Long> sourceImageIds) {
+		if (sourceImageIds.isEmpty()) {
+			return;
 		}
+		List<String> variantUrls = imageMapper.selectVariantsBySourceIds(sourceImageIds).stream()
+				.map(ImageDto::getSavedUrl)
+				.distinct()
+				.collect(Collectors.toList());
+		imageMapper.deleteVariantsBySourceIds(sourceImageIds);
+		if (variantUrls.isEmpty()) {
+			return;
+		}
+		
+		// 같은 내용의 다른 원본이 아직 쓰는 변형 파일은 남기고, 나머지는 커밋 후 수집기가 삭제
+		Set<String> sharedUrls = Set.copyOf(imageMapper.selectReferencedUrls(variantUrls));
+		imageFileCollector.tombstone(variantUrls.stream()
+				.filter(savedUrl -> !sharedUrls.contains(savedUrl))
+				.collect(Collectors.toList()));
 	}
 	
 	/**
@@ -351,7 +334,7 @@ public class ImageServiceImpl implements ImageService {
 		List<ImageData> imageDataList = imageDtos.stream()
 			.map(image -> ImageData.builder()
 	            .imageId(image.getImageId())
-	            .imageUrl("/images/" + image.getSavedUrl())
+	            .imageUrl(imageStorage.publicUrl(image.getSavedUrl()))
 	            .displayOrder(image.getDisplayOrder())
 	            .originalName(image.getOriginalName())
 	            .build())
@@ -364,47 +347,84 @@ public class ImageServiceImpl implements ImageService {
 	        .build();
 	}
 
+	/**
+	 * 새 파일을 트랜잭션 밖에서 먼저 디스크에 기록한 뒤, 기존 프로필 삭제와 새 메타 저장을 한 트랜잭션으로 처리.
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public String uploadProfileImage(MultipartFile file, String targetType, Long targetId) {
-		// 기존 프로필 이미지가 있는지 확인하고, 있다면 삭제
-		deleteImagesByTarget(targetType, targetId);
 		String prefixedTargetType = "IMG_FROM_"+targetType;
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
 		// 새 이미지 업로드
-		FileUploadDto fileUploadDto = null;
-		try {
-			fileUploadDto = FileUtil.saveFile(file, uploadPath);
-			log.info("저장된 파일 경로"+uploadPath);
-        } catch (IOException e) {
-            log.error("이미지 업로드 중 IO 오류 발생", e);
-            // GlobalExceptionHandler에서 처리하도록 예외를 다시 던집니다.
-            String message = messageUtil.getMessage(ErrorCode.FILE_UPLOAD_FAILED.getMessageKey());
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, message, e);
-        } catch (IllegalArgumentException e) {
-            log.error("이미지 업로드 인자 오류 발생", e);
-            // GlobalExceptionHandler에서 처리하도록 예외를 다시 던집니다.
-            String message = messageUtil.getMessage(ErrorCode.INVALID_FILE_TYPE.getMessageKey());
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE, message, e);
-        }
-		String savedUrl = fileUploadDto.getRelativePath();
+		List<StagedImage> staged = imageUploadStager.stage(List.of(file));
+		StagedImage image = staged.get(0);
 		
-		// DB에 새 이미지 정보 저장
-		ImageDto imageDto = ImageDto.builder()
+		ImageDto profile = inTransaction(staged, () -> {
+			// 기존 프로필 이미지가 있는지 확인하고, 있다면 삭제
+			deleteImagesByTarget(targetType, targetId);
+			
+			// DB에 새 이미지 정보 저장
+			ImageDto newImage = toImageDto(image, prefixedTargetType, targetId, 1);
+			insertImages(List.of(newImage));
+			
+			mainImageCache.invalidate(prefixedTargetType, targetId);
+			eventPublisher.publishEvent(new ImageChangedEvent(targetType, targetId));
+			return newImage;
+		});
+				
+		return imageStorage.publicUrl(profile.getSavedUrl());
+	}
+	
+	/**
+	 * 디스크에 기록된 파일의 DB 작업을 하나의 트랜잭션으로 실행. 실패하면 기록한 파일을 지우고 예외를 다시 던진다.
+	 * 
+	 * @param staged 이번 요청에서 기록한 파일 목록
+	 * @param work 트랜잭션 안에서 실행할 DB 작업
+	 * @return work의 결과
+	 */
+	private <T> T inTransaction(List<StagedImage> staged, Supplier<T> work) {
+		try {
+			return transactionTemplate.execute(status -> work.get());
+		} catch (RuntimeException e) {
+			imageUploadStager.discard(staged);
+			throw e;
+		}
+	}
+	
+	/**
+	 * 여러 이미지 메타를 PK 일괄 채번 후 한 번의 INSERT로 저장.
+	 * 
+	 * @param images 저장할 이미지 목록 (imageId가 채워짐)
+	 */
+	private void insertImages(List<ImageDto> images) {
+		if (images.isEmpty()) {
+			return;
+		}
+		List<Long> imageIds = imageMapper.selectImageIds(images.size());
+		for (int i = 0; i < images.size(); i++) {
+			images.get(i).setImageId(imageIds.get(i));
+		}
+		imageMapper.insertImages(images);
+	}
+	
+	/**
+	 * 기록된 파일의 내용 참조를 얻고 저장할 이미지 메타 생성 (트랜잭션 안에서 호출)
+	 * 같은 내용이 이미 저장되어 있으면 기존 파일 경로를 가리키고, 이번에 기록한 파일은 커밋 후 삭제된다.
+	 */
+	private ImageDto toImageDto(StagedImage image, String prefixedTargetType, long targetId, long displayOrder) {
+		return ImageDto.builder()
                 .imageType("IMG_ORIGINAL")
                 .targetType(prefixedTargetType)
                 .targetId(targetId)
-                .savedUrl(fileUploadDto.getRelativePath()) // savedUrl 필드에 FileUtil에서 반환된 상대 경로 저장
-                .originalName(fileUploadDto.getOriginalName())
-                .fileSize(String.valueOf(file.getSize()))
-                .mimeType(file.getContentType())
-                .displayOrder(1)
+                .savedUrl(imageContentStore.acquire(image)) // 내용이 같은 파일이 있으면 그 경로
+                .contentHash(image.sha256())
+                .originalName(image.originalName())
+                .fileSize(String.valueOf(image.size()))
+                .mimeType(image.contentType())
+                .displayOrder(displayOrder)
                 .build();
-		imageMapper.insertImage(imageDto);
-				
-		return "/images/"+savedUrl;
 	}
 
 }
\ No newline at end of file
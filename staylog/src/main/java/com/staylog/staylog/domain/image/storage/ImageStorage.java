@@ -0,0 +1,106 @@
+package com.staylog.staylog.domain.image.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 이미지 바이트 저장소
+ * - key는 IMAGE_FILE.SAVED_URL과 같은 상대 경로 (yyyy/MM/dd/파일명)
+ * - 구현: LocalImageStorage (file.image-location 디스크), S3ImageStorage (S3 호환 오브젝트 스토리지)
+ * - image.storage.type 으로 선택 (ImageStorageConfig)
+ */
+public interface ImageStorage {
+
+    /**
+     * 업로드/변형 파일을 저장 전에 기록할 로컬 디렉터리
+     * (로컬 저장소는 저장 위치와 같은 파일 시스템이라 put이 이름 변경으로 끝난다)
+     */
+    Path stagingDirectory() throws IOException;
+
+    /**
+     * 로컬 파일을 key로 저장. 성공하면 source는 이동되었거나 삭제된 상태
+     *
+     * @param key 저장 경로
+     * @param source stagingDirectory 아래에 기록된 파일
+     * @param contentType MIME 타입 (없으면 null)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 저장된 파일 읽기
+     *
+     * @throws java.nio.file.NoSuchFileException 없는 key
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 로컬 파일로 바로 읽을 수 있으면 그 경로, 아니면 null
+     */
+    Path localFile(String key);
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * @throws java.nio.file.NoSuchFileException 없는 key
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * 저장된 파일 삭제 (실패하면 경고 로그를 남기고 false)
+     *
+     * @return 삭제했거나 이미 없으면 true
+     */
+    boolean delete(String key);
+
+    /**
+     * /images/** 요청을 보낼 곳 (예: 미리 서명된 GET URL). null이면 이 서버가 직접 제공
+     */
+    URI redirectUrl(String key);
+
+    /**
+     * 응답에 내려줄 이미지 URL
+     */
+    default String publicUrl(String key) {
+        return "/images/" + key;
+    }
+
+    /**
+     * 저장된 파일을 나눠 순회할 단위 목록 (ImageFileCollector의 정리 작업이 단위별로 병렬 순회)
+     * 순회를 지원하지 않는 저장소는 빈 목록
+     */
+    default List<String> listPartitions() throws IOException {
+        return List.of();
+    }
+
+    /**
+     * 순회 단위 아래에 저장된 파일 목록 (기록 중인 파일, 숨김 경로 제외)
+     */
+    default List<StoredObject> listObjects(String partition) throws IOException {
+        return List.of();
+    }
+
+    /**
+     * 저장 경로로 쓸 수 있는 key인지 (절대 경로, 상위/숨김 경로, 역슬래시 거부)
+     */
+    static boolean isValidKey(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.indexOf('\\') >= 0) {
+            return false;
+        }
+        for (String segment : key.split("/", -1)) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 저장된 파일 (key, 마지막 수정 시각)
+     */
+    record StoredObject(String key, Instant lastModified) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.staylog.staylog.domain.image.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 이미지 저장소 (file.image-location)
+ * - 기록 중인 파일은 저장 위치 아래 숨김 디렉터리(.staging)에 두고, put에서 원자적 이름 변경으로 공개
+ * - /images/** 는 ImageFileServer가 이 디렉터리에서 직접 제공
+ * - 정리 작업(ImageFileCollector)은 yyyy/MM/dd 디렉터리 단위로 나눠 순회
+ */
+@Slf4j
+public class LocalImageStorage implements ImageStorage {
+
+    // 저장 경로 앞부분 yyyy/MM/dd (FileUtil.newSavedPath)
+    private static final int PARTITION_DEPTH = 3;
+    private static final List<String> PRECOMPRESSED_SUFFIXES = List.of(".br", ".gz");
+
+    private final Path root;
+    private final Path staging;
+
+    public LocalImageStorage(String location) {
+        this.root = Paths.get(location).toAbsolutePath().normalize();
+        this.staging = root.resolve(".staging");
+    }
+
+    @Override
+    public Path stagingDirectory() throws IOException {
+        return Files.createDirectories(staging);
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // staging이 다른 파일 시스템에 마운트된 경우
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Path localFile(String key) {
+        return resolve(key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Path path = resolve(key);
+        try {
+            if (!Files.deleteIfExists(path)) {
+                log.warn("삭제할 파일이 존재하지 않음: {}", path);
+            }
+            // ImageFileServer가 제공하는 미리 압축본도 함께 정리
+            for (String suffix : PRECOMPRESSED_SUFFIXES) {
+                Files.deleteIfExists(path.resolveSibling(path.getFileName() + suffix));
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * 저장 위치 아래 yyyy/MM/dd 디렉터리 목록
+     */
+    @Override
+    public List<String> listPartitions() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(root, PARTITION_DEPTH)) {
+            return paths
+                    .filter(path -> root.relativize(path).getNameCount() == PARTITION_DEPTH)
+                    .filter(Files::isDirectory)
+                    .map(this::keyOf)
+                    .filter(ImageStorage::isValidKey)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Override
+    public List<StoredObject> listObjects(String partition) throws IOException {
+        Path directory = resolve(partition);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<StoredObject> objects = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String key = keyOf(path);
+                if (ImageStorage.isValidKey(key) && Files.isRegularFile(path)) {
+                    objects.add(new StoredObject(key, Files.getLastModifiedTime(path).toInstant()));
+                }
+            }
+        }
+        return objects;
+    }
+
+    @Override
+    public URI redirectUrl(String key) {
+        return null;
+    }
+
+    private String keyOf(Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private Path resolve(String key) {
+        if (!ImageStorage.isValidKey(key)) {
+            throw new IllegalArgumentException("잘못된 이미지 저장 경로: " + key);
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 이미지 저장 경로: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,303 @@
+package com.staylog.staylog.domain.image.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * S3 호환 오브젝트 스토리지 이미지 저장소 (AWS S3, MinIO 등, path-style 주소)
+ * - multipart-threshold 이상인 파일은 멀티파트 업로드로 나누고, 파트는 imageStorageExecutor에서 병렬 전송
+ *   (파트 하나씩 메모리에 읽으므로 메모리 사용량은 part-size x 풀 크기 이내), 실패하면 업로드를 중단(Abort)
+ * - /images/** 요청은 미리 서명된 GET URL로 리다이렉트해 앱 서버가 이미지 바이트를 중계하지 않음
+ * - public-base-url(CDN 등)이 있으면 응답 URL을 그 주소로 바로 내려줌
+ * - 저장소 순회(listPartitions)는 지원하지 않아 미참조 파일 정리 스윕은 건너뜀 (삭제 묘비 처리는 동일하게 동작)
+ * - 지표: staylog.image.storage.request (Timer, operation, outcome)
+ */
+@Slf4j
+public class S3ImageStorage implements ImageStorage {
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("<UploadId>([^<]+)</UploadId>");
+
+    private final HttpClient httpClient;
+    private final S3RequestSigner signer;
+    private final Settings settings;
+    private final Executor partExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public S3ImageStorage(Settings settings, Executor partExecutor, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.signer = new S3RequestSigner(settings.region(), settings.accessKey(), settings.secretKey());
+        this.partExecutor = partExecutor;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public Path stagingDirectory() throws IOException {
+        return Files.createDirectories(Paths.get(settings.stagingLocation()));
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        if (size < settings.multipartThreshold()) {
+            HttpRequest.Builder request = request("PUT", objectUri(key, null))
+                    .PUT(HttpRequest.BodyPublishers.ofFile(source));
+            if (contentType != null) {
+                request.header("Content-Type", contentType);
+            }
+            expectSuccess(send("put", request.build(), HttpResponse.BodyHandlers.ofString()), key);
+        } else {
+            multipartUpload(key, source, size, contentType);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpResponse<InputStream> response = send("get", request("GET", objectUri(key, null)).GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 404) {
+            response.body().close();
+            throw new NoSuchFileException(key);
+        }
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw new IOException("S3 GET 실패: " + key + " (" + response.statusCode() + ")");
+        }
+        return response.body();
+    }
+
+    @Override
+    public Path localFile(String key) {
+        return null;
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return head(key) >= 0;
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        long size = head(key);
+        if (size < 0) {
+            throw new NoSuchFileException(key);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            HttpResponse<String> response = send("delete",
+                    request("DELETE", objectUri(key, null)).DELETE().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2 && response.statusCode() != 404) {
+                log.warn("파일 삭제 실패: {} ({})", key, response.statusCode());
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public URI redirectUrl(String key) {
+        return signer.presign("GET", objectUri(key, null), settings.presignTtl(), Instant.now());
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        String base = settings.publicBaseUrl();
+        return base == null || base.isBlank() ? ImageStorage.super.publicUrl(key) : base + "/" + key;
+    }
+
+    /**
+     * 멀티파트 업로드 (생성 -> 파트 병렬 전송 -> 완료, 실패 시 중단)
+     */
+    private void multipartUpload(String key, Path source, long size, String contentType) throws IOException {
+        HttpRequest.Builder create = request("POST", objectUri(key, "uploads="))
+                .POST(HttpRequest.BodyPublishers.noBody());
+        if (contentType != null) {
+            create.header("Content-Type", contentType);
+        }
+        HttpResponse<String> created = expectSuccess(send("multipart-create", create.build(),
+                HttpResponse.BodyHandlers.ofString()), key);
+        Matcher matcher = UPLOAD_ID.matcher(created.body());
+        if (!matcher.find()) {
+            throw new IOException("S3 멀티파트 업로드 ID 없음: " + key);
+        }
+        String uploadId = matcher.group(1);
+
+        try {
+            int partCount = (int) ((size + settings.partSize() - 1) / settings.partSize());
+            List<CompletableFuture<String>> parts = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                int partNumber = i + 1;
+                long offset = i * settings.partSize();
+                int length = (int) Math.min(settings.partSize(), size - offset);
+                parts.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(key, uploadId, partNumber, source, offset, length), partExecutor));
+            }
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+
+            StringBuilder body = new StringBuilder("<CompleteMultipartUpload>");
+            for (int i = 0; i < partCount; i++) {
+                body.append("<Part><PartNumber>").append(i + 1).append("</PartNumber><ETag>")
+                        .append(parts.get(i).join()).append("</ETag></Part>");
+            }
+            body.append("</CompleteMultipartUpload>");
+            HttpResponse<String> completed = expectSuccess(send("multipart-complete",
+                    request("POST", objectUri(key, "uploadId=" + S3RequestSigner.encode(uploadId)))
+                            .header("Content-Type", "application/xml")
+                            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()), key);
+            // 완료 요청은 200과 함께 본문에 오류를 돌려줄 수 있음
+            if (completed.body().contains("<Error>")) {
+                throw new IOException("S3 멀티파트 완료 실패: " + key + " " + completed.body());
+            }
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId);
+            if (e instanceof CompletionException && e.getCause() instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String uploadPart(String key, String uploadId, int partNumber, Path source, long offset, int length) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("파일이 예상보다 짧음: " + source);
+                    }
+                }
+            }
+            URI uri = objectUri(key, "partNumber=" + partNumber + "&uploadId=" + S3RequestSigner.encode(uploadId));
+            HttpResponse<String> response = expectSuccess(send("multipart-part",
+                    request("PUT", uri).PUT(HttpRequest.BodyPublishers.ofByteArray(buffer.array())).build(),
+                    HttpResponse.BodyHandlers.ofString()), key);
+            return response.headers().firstValue("ETag")
+                    .orElseThrow(() -> new IOException("S3 파트 ETag 없음: " + key + " #" + partNumber));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            send("multipart-abort", request("DELETE", objectUri(key, "uploadId=" + S3RequestSigner.encode(uploadId)))
+                    .DELETE().build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패 (버킷 수명 주기 규칙으로 정리 필요): {} {}", key, uploadId, e);
+        }
+    }
+
+    /**
+     * @return 객체 크기, 없으면 -1
+     */
+    private long head(String key) throws IOException {
+        HttpResponse<Void> response = send("head",
+                request("HEAD", objectUri(key, null)).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return -1;
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 HEAD 실패: " + key + " (" + response.statusCode() + ")");
+        }
+        return response.headers().firstValueAsLong("Content-Length").orElse(0);
+    }
+
+    private URI objectUri(String key, String rawQuery) {
+        if (!ImageStorage.isValidKey(key)) {
+            throw new IllegalArgumentException("잘못된 이미지 저장 경로: " + key);
+        }
+        StringBuilder path = new StringBuilder(settings.endpoint().replaceAll("/+$", ""))
+                .append('/').append(S3RequestSigner.encode(settings.bucket()));
+        for (String segment : key.split("/")) {
+            path.append('/').append(S3RequestSigner.encode(segment));
+        }
+        if (rawQuery != null) {
+            path.append('?').append(rawQuery);
+        }
+        return URI.create(path.toString());
+    }
+
+    private HttpRequest.Builder request(String method, URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(settings.requestTimeout());
+        signer.sign(method, uri, Instant.now()).forEach(builder::header);
+        return builder;
+    }
+
+    private <T> HttpResponse<T> send(String operation, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            HttpResponse<T> response = httpClient.send(request, handler);
+            outcome = String.valueOf(response.statusCode());
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 요청 중단: " + request.uri(), e);
+        } finally {
+            Timer.builder("staylog.image.storage.request")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static HttpResponse<String> expectSuccess(HttpResponse<String> response, String key) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 요청 실패: " + key + " (" + response.statusCode() + ") " + response.body());
+        }
+        return response;
+    }
+
+    /**
+     * S3 저장소 설정 (image.storage.s3.*)
+     *
+     * @param endpoint 예: https://s3.ap-northeast-2.amazonaws.com, http://localhost:9000
+     * @param publicBaseUrl 응답 URL 기준 주소 (없으면 /images/** 리다이렉트)
+     * @param stagingLocation 업로드 파일을 전송 전에 기록할 로컬 디렉터리
+     */
+    public record Settings(String endpoint, String region, String bucket, String accessKey, String secretKey,
+                           long multipartThreshold, long partSize, Duration presignTtl, Duration requestTimeout,
+                           String publicBaseUrl, String stagingLocation) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.staylog.staylog.domain.image.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * AWS Signature Version 4 서명 (S3 호환 API)
+ * - 본문은 서명하지 않음 (x-amz-content-sha256: UNSIGNED-PAYLOAD)
+ * - 헤더 서명(sign)과 쿼리 서명(presign, 미리 서명된 URL) 지원
+ */
+class S3RequestSigner {
+
+    static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final String region;
+    private final String accessKey;
+    private final String secretKey;
+
+    S3RequestSigner(String region, String accessKey, String secretKey) {
+        this.region = region;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * 요청에 붙일 서명 헤더 (x-amz-date, x-amz-content-sha256, Authorization)
+     */
+    Map<String, String> sign(String method, URI uri, Instant now) {
+        String amzDate = AMZ_DATE.format(now);
+        String scope = scope(now);
+        String signedHeaders = "host;x-amz-content-sha256;x-amz-date";
+        String canonicalHeaders = "host:" + host(uri) + "\n"
+                + "x-amz-content-sha256:" + UNSIGNED_PAYLOAD + "\n"
+                + "x-amz-date:" + amzDate + "\n";
+        String signature = signature(now, method, uri, canonicalQuery(uri.getRawQuery(), Map.of()),
+                canonicalHeaders, signedHeaders);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("x-amz-date", amzDate);
+        headers.put("x-amz-content-sha256", UNSIGNED_PAYLOAD);
+        headers.put("Authorization", ALGORITHM + " Credential=" + accessKey + "/" + scope
+                + ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+        return headers;
+    }
+
+    /**
+     * 미리 서명된 URL (host 헤더만 서명)
+     */
+    URI presign(String method, URI uri, Duration ttl, Instant now) {
+        Map<String, String> auth = new TreeMap<>();
+        auth.put("X-Amz-Algorithm", ALGORITHM);
+        auth.put("X-Amz-Credential", accessKey + "/" + scope(now));
+        auth.put("X-Amz-Date", AMZ_DATE.format(now));
+        auth.put("X-Amz-Expires", String.valueOf(ttl.toSeconds()));
+        auth.put("X-Amz-SignedHeaders", "host");
+
+        String query = canonicalQuery(uri.getRawQuery(), auth);
+        String signature = signature(now, method, uri, query, "host:" + host(uri) + "\n", "host");
+        String base = uri.toString();
+        int q = base.indexOf('?');
+        return URI.create((q < 0 ? base : base.substring(0, q)) + "?" + query + "&X-Amz-Signature=" + signature);
+    }
+
+    private String signature(Instant now, String method, URI uri, String canonicalQuery,
+                             String canonicalHeaders, String signedHeaders) {
+        String canonicalRequest = method + "\n"
+                + (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath()) + "\n"
+                + canonicalQuery + "\n"
+                + canonicalHeaders + "\n"
+                + signedHeaders + "\n"
+                + UNSIGNED_PAYLOAD;
+        String stringToSign = ALGORITHM + "\n"
+                + AMZ_DATE.format(now) + "\n"
+                + scope(now) + "\n"
+                + HexFormat.of().formatHex(sha256(canonicalRequest));
+
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE_STAMP.format(now));
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        return HexFormat.of().formatHex(hmac(key, stringToSign));
+    }
+
+    private String scope(Instant now) {
+        return DATE_STAMP.format(now) + "/" + region + "/" + SERVICE + "/aws4_request";
+    }
+
+    /**
+     * 이름순 정렬 + RFC 3986 인코딩한 쿼리 문자열
+     */
+    private static String canonicalQuery(String rawQuery, Map<String, String> extra) {
+        Map<String, String> params = new TreeMap<>();
+        if (rawQuery != null && !rawQuery.isEmpty()) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                params.put(encode(decode(name)), encode(decode(value)));
+            }
+        }
+        extra.forEach((name, value) -> params.put(encode(name), encode(value)));
+
+        StringBuilder sb = new StringBuilder();
+        params.forEach((name, value) -> {
+            if (sb.length() > 0) {
+                sb.append('&');
+            }
+            sb.append(name).append('=').append(value);
+        });
+        return sb.toString();
+    }
+
+    private static String host(URI uri) {
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    /**
+     * RFC 3986 퍼센트 인코딩 (비예약 문자 외 전부)
+     */
+    static String encode(String value) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~') {
+                sb.append(c);
+            } else {
+                sb.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.staylog.staylog.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 레지스트리와 비동기 전송 엔진
+ * - 연결은 userId 기준으로 나눈 샤드(ConcurrentHashMap)에 보관 (한 유저의 여러 기기 연결 유지)
+ * - 연결마다 크기가 정해진 송신 큐를 두고, 발행 스레드는 큐에 넣기만 함 (소켓 쓰기를 기다리지 않음)
+ * - 큐는 sseWriterExecutor의 쓰기 스레드가 연결 단위로 비움 (한 연결은 한 스레드만 비우므로 이벤트 순서 유지)
+ * - 느린 연결: 큐가 가득 차면 가장 오래된 이벤트를 버리고,
+ *   가득 찬 상태로 마지막 전송 성공 후 notification.sse.stall-timeout-seconds가 지나면 연결을 끊음
+ *   (EventSource가 재연결하고 놓친 알림은 알림 목록 API로 조회)
+ * - 멈춘 전송: SseEmitter.send는 제한 시간 없는 블로킹 쓰기이므로 감시 작업이
+ *   notification.sse.write-timeout-seconds를 넘긴 전송을 찾아 연결을 끊고, 멈춘 스레드 대신 코어 스레드를 하나 늘림
+ *   (멈춘 스레드는 소켓이 닫히거나 Emitter 타임아웃으로 풀려날 때 돌려받음, 최대 max-stalled-writes개)
+ * - 하트비트는 큐가 비어 있는 연결에만 넣음 (보낼 이벤트가 있으면 그 자체가 keep-alive)
+ * - 지표: staylog.sse.connections, staylog.sse.stalled-writes (Gauge),
+ *   staylog.sse.events (Counter, result=sent|dropped|failed), staylog.sse.disconnects (Counter, reason=slow|write-timeout)
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+    private final Map<Long, CopyOnWriteArrayList<Connection>>[] shards;
+    private final ThreadPoolTaskExecutor sseWriterExecutor;
+    private final int writerThreads;
+    private final int maxStalledWrites;
+    private final int queueCapacity;
+    private final long stallTimeoutNanos;
+    private final long writeTimeoutNanos;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    // 멈춘 전송 때문에 늘려 둔 코어 스레드 수 (compensationLock으로 보호)
+    private final AtomicInteger stalledWrites = new AtomicInteger();
+    private final Object compensationLock = new Object();
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Counter slowDisconnects;
+    private final Counter writeTimeoutDisconnects;
+
+    @SuppressWarnings("unchecked")
+    public SseConnectionRegistry(@Qualifier("sseWriterExecutor") ThreadPoolTaskExecutor sseWriterExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.sse.shards:16}") int shardCount,
+                                 @Value("${notification.sse.writer-threads:4}") int writerThreads,
+                                 @Value("${notification.sse.max-stalled-writes:64}") int maxStalledWrites,
+                                 @Value("${notification.sse.queue-capacity:64}") int queueCapacity,
+                                 @Value("${notification.sse.stall-timeout-seconds:30}") long stallTimeoutSeconds,
+                                 @Value("${notification.sse.write-timeout-seconds:10}") long writeTimeoutSeconds) {
+        this.shards = new Map[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.sseWriterExecutor = sseWriterExecutor;
+        this.writerThreads = writerThreads;
+        this.maxStalledWrites = maxStalledWrites;
+        this.queueCapacity = queueCapacity;
+        this.stallTimeoutNanos = TimeUnit.SECONDS.toNanos(stallTimeoutSeconds);
+        this.writeTimeoutNanos = TimeUnit.SECONDS.toNanos(writeTimeoutSeconds);
+        this.sent = meterRegistry.counter("staylog.sse.events", "result", "sent");
+        this.dropped = meterRegistry.counter("staylog.sse.events", "result", "dropped");
+        this.failed = meterRegistry.counter("staylog.sse.events", "result", "failed");
+        this.slowDisconnects = meterRegistry.counter("staylog.sse.disconnects", "reason", "slow");
+        this.writeTimeoutDisconnects = meterRegistry.counter("staylog.sse.disconnects", "reason", "write-timeout");
+        Gauge.builder("staylog.sse.connections", connectionCount, AtomicInteger::get)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("staylog.sse.stalled-writes", stalledWrites, AtomicInteger::get)
+                .description("제한 시간을 넘겨 멈춘 SSE 전송 수 (그만큼 쓰기 스레드를 늘림)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 등록 (완료/타임아웃/오류 시 자동 해제)
+     *
+     * @param userId 사용자 PK
+     * @param emitter 구독 요청의 SseEmitter
+     * @param greeting 새 연결에만 처음으로 보낼 이벤트 (같은 유저의 다른 기기에는 보내지 않음)
+     */
+    public void register(long userId, SseEmitter emitter, SseEmitter.SseEventBuilder greeting) {
+        Connection connection = new Connection(userId, emitter);
+        Runnable cleanup = () -> remove(connection);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+        // 목록에 넣기 전에 큐에만 넣어 이후 발행되는 알림보다 먼저 전송
+        // (전송 예약은 목록에 넣은 뒤에 해야 전송 실패 시 연결 해제가 목록에서 빠짐)
+        connection.queue.offer(greeting.build());
+
+        // 마지막 연결이 빠지며 목록이 맵에서 제거되는 것과 겹치지 않도록 compute 안에서 추가
+        shard(userId).compute(userId, (k, connections) -> {
+            CopyOnWriteArrayList<Connection> list = connections != null ? connections : new CopyOnWriteArrayList<>();
+            list.add(connection);
+            return list;
+        });
+        connectionCount.incrementAndGet();
+        connection.scheduleDrain();
+    }
+
+    /**
+     * 유저의 모든 연결에 이벤트 전송 예약 (연결이 없으면 false)
+     *
+     * @param userId 사용자 PK
+     * @param event 보낼 이벤트 (연결마다 한 번씩 쓰이므로 공유 가능한 값만 담을 것)
+     */
+    public boolean send(long userId, SseEmitter.SseEventBuilder event) {
+        List<Connection> connections = shard(userId).get(userId);
+        if (connections == null || connections.isEmpty()) {
+            return false;
+        }
+        // 빌더는 한 번만 build 가능 -> 만든 결과를 연결들이 공유
+        Set<DataWithMediaType> data = event.build();
+        for (Connection connection : connections) {
+            connection.enqueue(data, false);
+        }
+        return true;
+    }
+
+    /**
+     * 큐가 빈 모든 연결에 keep-alive 주석 전송 예약
+     */
+    public void heartbeat() {
+        Set<DataWithMediaType> data = SseEmitter.event().comment("keep-alive").build();
+        for (Map<Long, CopyOnWriteArrayList<Connection>> shard : shards) {
+            shard.values().forEach(connections -> connections.forEach(connection -> connection.enqueue(data, true)));
+        }
+    }
+
+    /**
+     * 멈춘 전송 감시 (노드별 연결 대상이므로 @SchedulerLease 없이 노드마다 실행)
+     * 제한 시간을 넘긴 전송의 연결을 끊고, 그 스레드 대신 쓰기 스레드를 하나 늘림
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.watchdog-ms:1000}")
+    public void checkStalledWrites() {
+        long now = System.nanoTime();
+        for (Map<Long, CopyOnWriteArrayList<Connection>> shard : shards) {
+            shard.values().forEach(connections -> connections.forEach(connection -> {
+                long startedAt = connection.writeStartedAt;
+                if (startedAt != 0 && now - startedAt > writeTimeoutNanos) {
+                    connection.writeTimedOut();
+                }
+            }));
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 유저 ID (불변 복사본)
+     */
+    public Set<Long> connectedUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        for (Map<Long, CopyOnWriteArrayList<Connection>> shard : shards) {
+            userIds.addAll(shard.keySet());
+        }
+        return Set.copyOf(userIds);
+    }
+
+    /**
+     * 모든 연결 종료 (애플리케이션 종료 시)
+     */
+    public void closeAll() {
+        for (Map<Long, CopyOnWriteArrayList<Connection>> shard : shards) {
+            shard.forEach((userId, connections) -> connections.forEach(connection -> connection.disconnect(null)));
+            shard.clear();
+        }
+        connectionCount.set(0);
+    }
+
+    private Map<Long, CopyOnWriteArrayList<Connection>> shard(long userId) {
+        return shards[Math.floorMod(Long.hashCode(userId), shards.length)];
+    }
+
+    private void remove(Connection connection) {
+        connection.closed.set(true);
+        connection.queue.clear();
+        Map<Long, CopyOnWriteArrayList<Connection>> shard = shard(connection.userId);
+        shard.computeIfPresent(connection.userId, (userId, connections) -> {
+            if (connections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * 멈춘 전송 하나만큼 코어 스레드를 늘림 (최대 maxStalledWrites개)
+     *
+     * @return 늘렸으면 true (전송이 끝나면 releaseStalledWrite로 되돌려야 함)
+     */
+    private boolean compensateStalledWrite() {
+        synchronized (compensationLock) {
+            if (stalledWrites.get() >= maxStalledWrites) {
+                return false;
+            }
+            sseWriterExecutor.setCorePoolSize(writerThreads + stalledWrites.incrementAndGet());
+            return true;
+        }
+    }
+
+    private void releaseStalledWrite() {
+        synchronized (compensationLock) {
+            sseWriterExecutor.setCorePoolSize(writerThreads + stalledWrites.decrementAndGet());
+        }
+    }
+
+    /**
+     * 연결 하나의 송신 큐와 쓰기 상태
+     */
+    private final class Connection {
+
+        private final long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        // 쓰기 스레드에 비우기 작업이 예약되어 있거나 실행 중인지 (Emitter 완료도 이 플래그를 잡은 스레드만 함)
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        // 진행 중인 전송이 제한 시간을 넘겨 코어 스레드를 늘려 두었는지
+        private final AtomicBoolean compensated = new AtomicBoolean();
+        // 마지막 전송 성공 시각 (큐가 비어 있다가 이벤트가 들어오면 그 시각부터 셈, 쉬는 동안은 정체로 보지 않음)
+        private volatile long progressAt = System.nanoTime();
+        // 진행 중인 전송의 시작 시각 (0이면 전송 중 아님)
+        private volatile long writeStartedAt;
+
+        private Connection(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<DataWithMediaType> data, boolean heartbeat) {
+            if (closed.get()) {
+                return;
+            }
+            if (heartbeat && !queue.isEmpty()) {
+                // 비우기 예약이 거절되어 멈춘 큐를 다시 예약
+                scheduleDrain();
+                return;
+            }
+            boolean wasIdle = queue.isEmpty() && !draining.get();
+            if (queue.offer(data)) {
+                if (wasIdle) {
+                    progressAt = System.nanoTime();
+                }
+            } else {
+                if (System.nanoTime() - progressAt > stallTimeoutNanos) {
+                    slowDisconnects.increment();
+                    log.warn("느린 SSE 연결 종료. userId: {}, 대기 이벤트: {}건", userId, queue.size());
+                    disconnect(null);
+                    return;
+                }
+                // 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 (그 사이 다른 발행자가 채웠으면 새 이벤트를 버림)
+                queue.poll();
+                dropped.increment();
+                if (!queue.offer(data)) {
+                    dropped.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sseWriterExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 다음 발행/하트비트 때 다시 예약
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> data;
+                while (!closed.get() && (data = queue.poll()) != null) {
+                    writeStartedAt = System.nanoTime();
+                    emitter.send(data);
+                    writeStartedAt = 0;
+                    progressAt = System.nanoTime();
+                    sent.increment();
+                }
+            } catch (Exception e) {
+                // 클라이언트가 창을 닫는 등 심각하지 않은 예외 -> 연결 해제 (전송이 끝났으므로 이 스레드에서 바로 완료)
+                writeStartedAt = 0;
+                failed.increment();
+                log.warn("SSE 전송 실패로 연결 종료. userId: {}, {}", userId, e.getMessage());
+                remove(this);
+                complete(e);
+            } finally {
+                if (compensated.getAndSet(false)) {
+                    releaseStalledWrite();
+                }
+                draining.set(false);
+                if (closed.get()) {
+                    // 비우는 동안 끊긴 연결은 쓰기가 끝난 지금 완료 (끊은 쪽은 쓰기 중이라 완료하지 못함)
+                    complete(null);
+                } else if (!queue.isEmpty()) {
+                    // 비우는 동안 들어온 이벤트가 있으면 다시 예약
+                    scheduleDrain();
+                }
+            }
+        }
+
+        /**
+         * 진행 중인 전송이 제한 시간을 넘김 (감시 작업에서 호출)
+         * 쓰기 스레드는 소켓이 풀릴 때까지 돌려받을 수 없으므로 그만큼 풀을 늘리고 연결을 끊음
+         */
+        private void writeTimedOut() {
+            if (closed.get()) {
+                return;
+            }
+            if (compensateStalledWrite()) {
+                compensated.set(true);
+                // 보상과 전송 종료가 엇갈렸으면 바로 되돌림
+                if (writeStartedAt == 0 && compensated.getAndSet(false)) {
+                    releaseStalledWrite();
+                }
+            }
+            writeTimeoutDisconnects.increment();
+            log.warn("SSE 전송 시간 초과로 연결 종료. userId: {}", userId);
+            disconnect(null);
+        }
+
+        /**
+         * 연결 해제 후 Emitter 완료
+         * 전송 중이면 Emitter 완료가 그 전송을 기다려야 하므로 호출한 스레드에서 기다리지 않고 쓰기 스레드가 끝날 때 완료
+         */
+        private void disconnect(Throwable error) {
+            if (closed.getAndSet(true) && completed.get()) {
+                return;
+            }
+            remove(this);
+            if (draining.compareAndSet(false, true)) {
+                complete(error);
+            }
+        }
+
+        // 진행 중인 전송이 없을 때만 호출 (끊긴 연결은 새 전송을 시작하지 않으므로 완료가 막히지 않음)
+        private void complete(Throwable error) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (error != null) {
+                    emitter.completeWithError(error);
+                } else {
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                log.debug("SSE Emitter 종료 중 오류. userId: {}, {}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.staylog.staylog.domain.notification.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.staylog.staylog.domain.image.dto.ImageDto;
-import com.staylog.staylog.domain.image.mapper.ImageMapper;
+import com.staylog.staylog.domain.image.dto.ImageLookupKey;
+import com.staylog.staylog.domain.image.service.MainImageCache;
 import com.staylog.staylog.domain.notification.dto.request.*;
 import com.staylog.staylog.domain.notification.dto.response.*;
 import com.staylog.staylog.domain.notification.mapper.NotificationMapper;
 import com.staylog.staylog.domain.notification.service.NotificationService;
 import com.staylog.staylog.global.common.code.ErrorCode;
+import com.staylog.staylog.global.constant.ImageVariant;
 import com.staylog.staylog.global.event.NotificationCreatedAllEvent;
 import com.staylog.staylog.global.event.NotificationCreatedEvent;
 import com.staylog.staylog.global.exception.BusinessException;
@@ -30,7 +32,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationMapper notificationMapper;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
-    private final ImageMapper imageMapper;
+    private final MainImageCache mainImageCache;
 
 
     /**
@@ -290,23 +292,17 @@ public class NotificationServiceImpl implements NotificationService {
      */
     @Override
     public String getImageUrl(String targetType, long targetId) {
-        ImageDto imageDto = ImageDto.builder()
-                .targetType(targetType)
-                .targetId(targetId)
-                .build();
-        String imageUrl = imageMapper.getMainImgByTargetTypeAndId(imageDto);
+        // 알림 아이콘 크기, 대표 이미지 공유 캐시(MainImageCache)에서 조회
+        ImageDto image = mainImageCache.get(new ImageLookupKey(targetType, targetId, ImageVariant.W160.getCode()));
 
-        if(imageUrl != null) {
-            log.info("이미지 조회 완료. imageUrl: {}", imageUrl);
-            return imageUrl;
+        if(image != null) {
+            log.info("이미지 조회 완료. imageUrl: {}", image.getSavedUrl());
+            return image.getSavedUrl();
         } else {
             // 이미지가 없을 경우 기본 이미지로 출력
             log.info("이미지 조회 실패 / 기본 이미지로 출력. targetType: {}, targetId: {}", targetType, targetId);
-            ImageDto defaultImageDto = ImageDto.builder()
-                    .targetType("IMG_FROM_ICON")
-                    .targetId(3)
-                    .build();
-            return imageMapper.getMainImgByTargetTypeAndId(defaultImageDto);
+            ImageDto defaultImage = mainImageCache.get(new ImageLookupKey("IMG_FROM_ICON", 3, null));
+            return defaultImage != null ? defaultImage.getSavedUrl() : null;
         }
 
     }
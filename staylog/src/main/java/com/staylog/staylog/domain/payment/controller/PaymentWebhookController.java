@@ -9,6 +9,7 @@ import com.staylog.staylog.external.toss.config.TossPaymentsConfig;
 import com.staylog.staylog.external.toss.dto.request.TossVirtualAccountWebhookRequest;
 import com.staylog.staylog.global.constant.PaymentStatus;
 import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
 import com.staylog.staylog.global.event.PaymentConfirmEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -85,6 +86,7 @@ public class PaymentWebhookController {
                     OffsetDateTime.now());
 
             bookingMapper.updateBookingStatus(bookingId, ReservationStatus.RES_CONFIRMED.getCode());
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, ReservationStatus.RES_CONFIRMED.getCode()));
             log.info("v2 가상계좌 웹훅 처리 완료: paymentId={}, bookingId={}", paymentId, bookingId);
 
             // 6. 결제 완료 이벤트 발행
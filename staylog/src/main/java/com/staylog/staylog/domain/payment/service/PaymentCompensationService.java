@@ -6,8 +6,10 @@ import com.staylog.staylog.domain.payment.entity.Payment;
 import com.staylog.staylog.domain.payment.mapper.PaymentMapper;
 import com.staylog.staylog.global.constant.PaymentStatus;
 import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class PaymentCompensationService {
     private final PaymentMapper paymentMapper;
     private final BookingMapper bookingMapper;
     private final CouponService couponService;  // 🆕 쿠폰 서비스 추가
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 결제 실패 시 보상 트랜잭션 실행
@@ -55,6 +58,7 @@ public class PaymentCompensationService {
 
             // 2. RESERVATION 상태 -> CANCELED
             bookingMapper.updateBookingStatus(bookingId, ReservationStatus.RES_CANCELED.getCode());
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, ReservationStatus.RES_CANCELED.getCode()));
             log.debug("예약 상태 변경: bookingId={}, status=RES_CANCELED", bookingId);
 
             // 3. 🆕 COUPON 복구 (쿠폰이 사용된 경우)
@@ -106,6 +110,7 @@ public class PaymentCompensationService {
 
             // 2. RESERVATION 상태 -> CANCELED
             bookingMapper.updateBookingStatus(bookingId, ReservationStatus.RES_CANCELED.getCode());
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, ReservationStatus.RES_CANCELED.getCode()));
             log.debug("예약 상태 변경: bookingId={}, status=RES_CANCELED", bookingId);
 
             // 3. 🆕 COUPON 복구 (쿠폰이 사용된 경우)
@@ -23,6 +23,8 @@ import com.staylog.staylog.external.toss.dto.response.TossVirtualAccountResponse
 import com.staylog.staylog.external.toss.dto.response.VirtualAccount;
 import com.staylog.staylog.global.constant.PaymentStatus;
 import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingExpiresAtChangedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
 import com.staylog.staylog.global.event.PaymentConfirmEvent;
 import com.staylog.staylog.global.exception.custom.booking.BookingNotFoundException;
 import com.staylog.staylog.global.exception.custom.payment.PaymentAmountMismatchException;
@@ -120,6 +122,7 @@ public class PaymentServiceImpl implements PaymentService {
         if ("TRANSFER".equals(request.getMethod())) {
             LocalDateTime newExpiresAt = LocalDateTime.now().plusDays(7);
             bookingMapper.updateExpiresAt(request.getBookingId(), newExpiresAt);
+            eventPublisher.publishEvent(new BookingExpiresAtChangedEvent(request.getBookingId(), newExpiresAt));
             log.info("계좌이체 예약 만료 시간 연장: bookingId={}, expiresAt={}", request.getBookingId(), newExpiresAt);
         }
 
@@ -228,6 +231,7 @@ public class PaymentServiceImpl implements PaymentService {
             if ("가상계좌".equals(tossResponse.getMethod())) {
                 LocalDateTime newExpiresAt = LocalDateTime.now().plusHours(24);
                 bookingMapper.updateExpiresAt(bookingId, newExpiresAt);
+                eventPublisher.publishEvent(new BookingExpiresAtChangedEvent(bookingId, newExpiresAt));
                 log.info("가상계좌 예약 만료 시간 연장: bookingId={}, expiresAt={}", bookingId, newExpiresAt);
             }
 
@@ -266,6 +270,7 @@ public class PaymentServiceImpl implements PaymentService {
                     : ReservationStatus.RES_CONFIRMED.getCode();
 
             bookingMapper.updateBookingStatus(bookingId, bookingStatus);
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, bookingStatus));
 
             log.info("결제 승인 성공: paymentId={}, bookingId={}, paymentStatus={}, bookingStatus={} , method = {}",
                      paymentId, bookingId, paymentStatus, bookingStatus, tossResponse.getMethod());
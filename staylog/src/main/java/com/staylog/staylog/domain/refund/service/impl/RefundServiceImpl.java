@@ -14,6 +14,7 @@ import com.staylog.staylog.external.toss.dto.request.TossCancelRequest;
 import com.staylog.staylog.external.toss.dto.response.TossPaymentResponse;
 import com.staylog.staylog.global.constant.RefundType;
 import com.staylog.staylog.global.constant.ReservationStatus;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
 import com.staylog.staylog.global.event.PaymentConfirmEvent;
 import com.staylog.staylog.global.event.RefundConfirmEvent;
 import com.staylog.staylog.global.exception.custom.booking.BookingNotFoundException;
@@ -125,6 +126,7 @@ public class RefundServiceImpl implements RefundService {
 
         // 5. 예약 상태 변경 (RES_REFUND_REQUESTED)
         bookingMapper.updateBookingStatus(request.getBookingId(), "RES_REFUND_REQUESTED");
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(request.getBookingId(), "RES_REFUND_REQUESTED"));
 
         // 6. 생성된 환불 조회
         Map<String, Object> refund = refundMapper.findRefundById(refundId);
@@ -165,6 +167,7 @@ public class RefundServiceImpl implements RefundService {
             refundMapper.updateRefundCompletion(refundId, "REFUND_COMPLETED");
             paymentMapper.updatePaymentApproved(paymentId, "PAY_REFUND", paymentKey, null);
             bookingMapper.updateBookingStatus(bookingId, "RES_REFUNDED");
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, "RES_REFUNDED"));
 
             log.info("환불 처리 성공: refundId={}, paymentKey={}", refundId, paymentKey);
 
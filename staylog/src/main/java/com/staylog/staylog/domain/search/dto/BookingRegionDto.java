@@ -0,0 +1,17 @@
+package com.staylog.staylog.domain.search.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 캐시 무효화 대상 - 예약이 속한 숙소 지역과 숙박 구간
+ */
+@Data
+public class BookingRegionDto {
+
+    private Long bookingId;
+    private String regionCode;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+}
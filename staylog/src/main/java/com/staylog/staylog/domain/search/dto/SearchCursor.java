@@ -0,0 +1,105 @@
+package com.staylog.staylog.domain.search.dto;
+
+import com.staylog.staylog.domain.search.dto.response.AccomListResponse;
+import com.staylog.staylog.global.common.code.ErrorCode;
+import com.staylog.staylog.global.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 숙소 검색 keyset 커서
+ * - 마지막으로 받은 숙소의 (정렬 키, 숙소 ID)를 담아 다음 페이지를 정렬 순서대로 이어서 조회
+ * - 정렬 키 타입은 정렬마다 다르며, 해당 정렬의 키 필드 하나만 채워진다
+ *   lowPrice/highPrice: 최저가, popular: 예약 수, new: 등록일, 그 외(이름순): 숙소명
+ * - 클라이언트에는 "정렬\n숙소ID\n정렬키"를 Base64 URL 인코딩한 불투명 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchCursor {
+
+    // SearchMapper.getAccomListBasic에서 구분하는 정렬 값 (그 외는 이름순)
+    private static final Set<String> KNOWN_ORDERS = Set.of("lowPrice", "highPrice", "new", "popular");
+    private static final Set<String> NUMBER_ORDERS = Set.of("lowPrice", "highPrice", "popular");
+    private static final String NEW_ORDER = "new";
+    private static final String DEFAULT_ORDER = "name";
+
+    private final String order;
+    private final Long accommodationId;
+    private final Long numberKey;
+    private final LocalDateTime dateKey;
+    private final String nameKey;
+
+    /**
+     * 검색 결과 한 건의 커서 생성
+     *
+     * @param order 검색 정렬 값 (request.order)
+     * @param accom 커서를 만들 숙소
+     */
+    public static SearchCursor of(String order, AccomListResponse accom) {
+        order = normalizeOrder(order);
+        if (NUMBER_ORDERS.contains(order)) {
+            Integer key = "popular".equals(order) ? accom.getReservationCount() : accom.getBasePrice();
+            return new SearchCursor(order, accom.getAccommodationId(), key == null ? 0L : key.longValue(), null, null);
+        }
+        if (NEW_ORDER.equals(order)) {
+            return new SearchCursor(order, accom.getAccommodationId(), null, accom.getCreatedAt(), null);
+        }
+        return new SearchCursor(order, accom.getAccommodationId(), null, null, accom.getAccommodationName());
+    }
+
+    /**
+     * 클라이언트 전달용 문자열로 인코딩
+     */
+    public String encode() {
+        String key = numberKey != null ? numberKey.toString()
+                : dateKey != null ? dateKey.toString()
+                : Objects.toString(nameKey, "");
+        String payload = order + "\n" + accommodationId + "\n" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 이전 응답의 cursor 값
+     * @param order 현재 요청의 정렬 값 (커서를 만든 정렬과 같아야 함)
+     * @throws BusinessException 형식이 잘못되었거나 다른 정렬의 커서인 경우
+     */
+    public static SearchCursor decode(String cursor, String order) {
+        order = normalizeOrder(order);
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\n", 3);
+            if (parts.length != 3 || !parts[0].equals(order)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색 정렬과 맞지 않는 커서입니다.");
+            }
+            Long accommodationId = Long.valueOf(parts[1]);
+            if (NUMBER_ORDERS.contains(order)) {
+                return new SearchCursor(order, accommodationId, Long.valueOf(parts[2]), null, null);
+            }
+            if (NEW_ORDER.equals(order)) {
+                return new SearchCursor(order, accommodationId, null, LocalDateTime.parse(parts[2]), null);
+            }
+            return new SearchCursor(order, accommodationId, null, null, parts[2]);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색 커서 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 정렬 값 정규화 - 알 수 없는 값(null 포함)은 이름순으로 통일
+     */
+    public static String normalizeOrder(String order) {
+        // Set.of(...).contains(null)은 NPE이므로 null을 먼저 거른다 (정렬 없는 검색 요청)
+        return order != null && KNOWN_ORDERS.contains(order) ? order : DEFAULT_ORDER;
+    }
+}
@@ -18,5 +18,6 @@ public class AccomListRequest {
     @DateTimeFormat(pattern="yyyy-MM-dd")
     private LocalDate checkOut;
     private String order;          // lowPrice, highPrice, new, popular
-    private Long lastAccomId;         // 무한스크롤 마지막 ID
+    private Long lastAccomId;         // 무한스크롤 마지막 ID (cursor가 없을 때만 사용, 숙소 ID 순서 기준)
+    private String cursor;            // 무한스크롤 커서 (이전 응답 마지막 숙소의 cursor 값)
 }
@@ -1,7 +1,9 @@
 package com.staylog.staylog.domain.search.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -21,4 +23,11 @@ public class AccomListResponse {
 
     //대표이미지 캐러셀 여러개일 수 있음.
     private String imageUrl;
+
+    // 다음 페이지 요청 시 그대로 전달하는 커서 (SearchCursor)
+    private String cursor;
+
+    // 등록일순 커서 생성용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createdAt;
 }
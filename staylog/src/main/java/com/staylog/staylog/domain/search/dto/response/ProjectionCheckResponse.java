@@ -0,0 +1,18 @@
+package com.staylog.staylog.domain.search.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 숙소 검색 프로젝션 정합성 검사 결과
+ */
+@Getter
+@Builder
+public class ProjectionCheckResponse {
+
+    private int mismatchCount;              // 원본 집계와 다른 숙소 수
+    private List<Long> accommodationIds;    // 불일치 숙소 ID (최대 100건)
+    private boolean repaired;               // 불일치 숙소 재반영 여부
+}
@@ -0,0 +1,79 @@
+package com.staylog.staylog.domain.search.listener;
+
+import com.staylog.staylog.domain.search.dto.BookingRegionDto;
+import com.staylog.staylog.domain.search.mapper.SearchMapper;
+import com.staylog.staylog.domain.search.service.SearchResultCache;
+import com.staylog.staylog.global.event.BookingCreatedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
+import com.staylog.staylog.global.event.BookingsExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 검색 결과 캐시 무효화 이벤트 리스너
+ * - 커밋된 예약 생성/점유 해제를 해당 지역·날짜의 검색 캐시에 반영
+ * - 예약 직후 재검색에 바로 반영되도록 비동기 처리하지 않음
+ * - 무효화 실패는 TTL 안에서 해소되므로 로그만 남긴다
+ * - 프로젝션 갱신(SearchProjectionEventListener) 이후에 실행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SearchCacheEventListener {
+
+    private final SearchMapper searchMapper;
+    private final SearchResultCache searchResultCache;
+
+    /**
+     * 예약 생성 반영(예약 생성 이벤트리스너)
+     *
+     * @param event 예약 생성 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void handleBookingCreated(BookingCreatedEvent event) {
+        invalidate(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 점유 변경 반영(예약 상태 변경 이벤트리스너)
+     * - 취소된 예약이 다시 확정되면 가용 숙소가 줄어들 수 있으므로 상태와 관계없이 무효화 (RoomCalendarEventListener와 같음)
+     *
+     * @param event 예약 상태 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void handleBookingStatusChanged(BookingStatusChangedEvent event) {
+        invalidate(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 만료 예약 반영(만료 일괄 취소 이벤트리스너)
+     *
+     * @param event 만료 일괄 취소 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void handleBookingsExpired(BookingsExpiredEvent event) {
+        if (event.getBookingIds() == null || event.getBookingIds().isEmpty()) {
+            return;
+        }
+        invalidate(event.getBookingIds());
+    }
+
+    private void invalidate(List<Long> bookingIds) {
+        try {
+            for (BookingRegionDto booking : searchMapper.findBookingRegions(bookingIds)) {
+                searchResultCache.invalidate(booking.getRegionCode(), booking.getCheckIn(), booking.getCheckOut());
+            }
+        } catch (Exception e) {
+            log.warn("검색 캐시 무효화 실패: bookingIds={}, error={}", bookingIds, e.getMessage());
+        }
+    }
+}
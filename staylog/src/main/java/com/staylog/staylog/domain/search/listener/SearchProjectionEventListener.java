@@ -0,0 +1,90 @@
+package com.staylog.staylog.domain.search.listener;
+
+import com.staylog.staylog.domain.search.service.SearchProjectionService;
+import com.staylog.staylog.domain.search.service.SearchResultCache;
+import com.staylog.staylog.global.event.AccommodationChangedEvent;
+import com.staylog.staylog.global.event.BookingCreatedEvent;
+import com.staylog.staylog.global.event.BookingStatusChangedEvent;
+import com.staylog.staylog.global.event.BookingsExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 숙소 검색 프로젝션 갱신 이벤트 리스너
+ * - 커밋된 숙소/객실 변경은 해당 숙소 행 전체, 예약 변경은 예약 수만 다시 집계
+ * - 검색 캐시가 이전 프로젝션으로 다시 채워지지 않도록 캐시 무효화(SearchCacheEventListener)보다 먼저 실행
+ * - 갱신 실패는 정합성 검사에서 보정되므로 로그만 남긴다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SearchProjectionEventListener {
+
+    private final SearchProjectionService searchProjectionService;
+    private final SearchResultCache searchResultCache;
+
+    /**
+     * 숙소 행 갱신(숙소/객실 변경 이벤트리스너)
+     * - 숙소 정보는 지역/정렬 값이 함께 바뀔 수 있으므로 검색 캐시 전체를 비운다 (관리자 작업이라 빈도 낮음)
+     *
+     * @param event 숙소/객실 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleAccommodationChanged(AccommodationChangedEvent event) {
+        try {
+            searchProjectionService.refreshAccommodation(event.getAccommodationId());
+        } catch (Exception e) {
+            log.warn("숙소 검색 프로젝션 갱신 실패: accommodationId={}, error={}", event.getAccommodationId(), e.getMessage());
+        }
+        searchResultCache.invalidateAll();
+    }
+
+    /**
+     * 예약 수 갱신(예약 생성 이벤트리스너)
+     *
+     * @param event 예약 생성 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleBookingCreated(BookingCreatedEvent event) {
+        refreshReservationCounts(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 예약 수 갱신(예약 상태 변경 이벤트리스너)
+     * - 취소된 예약이 다시 확정되는 경로(관리자 상태 변경, 결제 웹훅)도 있으므로 상태와 관계없이 다시 집계 (재집계는 멱등)
+     *
+     * @param event 예약 상태 변경 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleBookingStatusChanged(BookingStatusChangedEvent event) {
+        refreshReservationCounts(List.of(event.getBookingId()));
+    }
+
+    /**
+     * 예약 수 갱신(만료 일괄 취소 이벤트리스너)
+     *
+     * @param event 만료 일괄 취소 이벤트 객체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleBookingsExpired(BookingsExpiredEvent event) {
+        refreshReservationCounts(event.getBookingIds());
+    }
+
+    private void refreshReservationCounts(List<Long> bookingIds) {
+        try {
+            searchProjectionService.refreshReservationCounts(bookingIds);
+        } catch (Exception e) {
+            log.warn("숙소 검색 프로젝션 예약 수 갱신 실패: bookingIds={}, error={}", bookingIds, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.staylog.staylog.domain.search.mapper;
 
+import com.staylog.staylog.domain.search.dto.BookingRegionDto;
+import com.staylog.staylog.domain.search.dto.SearchCursor;
 import com.staylog.staylog.domain.search.dto.request.AccomListRequest;
 import com.staylog.staylog.domain.search.dto.response.AccomListResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface SearchMapper {
@@ -19,20 +20,21 @@ public interface SearchMapper {
     List<Long> getAvailableAccomIds(AccomListRequest request);
 
     /**
-     * 2단계: 숙소 기본 정보 + 객실 집계 조회 (예약 수 제외)
+     * 2단계: 숙소 기본 정보 + 객실 집계 + 예약 수 조회 (ACCOM_SEARCH_PROJECTION)
      * @param request 검색 조건들 (regionCodes, order 등)
      * @param availableAccomIds 1단계에서 추출된 예약 가능 숙소 ID 리스트
-     * @return 숙소 리스트 예약 수는 0으로 설정되고 인기순 2차정렬 선택시 3단계에서 예약 수 집계로 분리
+     * @param cursor 이전 페이지 마지막 숙소의 커서 (첫 페이지면 null)
+     * @return 정렬 순서대로 커서 이후 최대 20건
      */
     List<AccomListResponse> getAccomListBasic(@Param("request") AccomListRequest request,
-                                                @Param("availableAccomIds") List<Long> availableAccomIds);
+                                                @Param("availableAccomIds") List<Long> availableAccomIds,
+                                                @Param("cursor") SearchCursor cursor);
 
     /**
-     * 3단계: 예약 수만 조회 (popular 인기순 정렬 시만 호출)
-     * @param accommodationIds 2단계에서 조회된 숙소 ID 리스트
-     * @return Map<accommodationId, reservationCount>
+     * 검색 캐시 무효화 대상 조회
+     * @param bookingIds 예약 ID 리스트
+     * @return 예약별 숙소 지역 코드와 숙박 구간
      */
-    List<Map<String, Object>> getReservationCounts(@Param("accommodationIds") List<Long> accommodationIds);
-
+    List<BookingRegionDto> findBookingRegions(@Param("bookingIds") List<Long> bookingIds);
 
 }
@@ -0,0 +1,53 @@
+package com.staylog.staylog.domain.search.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 숙소 검색 프로젝션(ACCOM_SEARCH_PROJECTION) 매퍼
+ * - accommodationId 파라미터가 null이면 전체 숙소 대상
+ */
+@Mapper
+public interface SearchProjectionMapper {
+
+    /**
+     * 원본 테이블 집계로 프로젝션 추가/갱신
+     * @param accommodationId 숙소 ID (null이면 전체)
+     * @return 반영된 행 수
+     */
+    int mergeProjection(@Param("accommodationId") Long accommodationId);
+
+    /**
+     * 검색 대상에서 빠진 숙소의 프로젝션 삭제
+     * @param accommodationId 숙소 ID (null이면 전체)
+     * @return 삭제된 행 수
+     */
+    int deleteStaleProjection(@Param("accommodationId") Long accommodationId);
+
+    /**
+     * 예약이 속한 숙소의 예약 수 재집계
+     * @param bookingIds 예약 ID 리스트
+     * @return 갱신된 행 수
+     */
+    int refreshReservationCounts(@Param("bookingIds") List<Long> bookingIds);
+
+    /**
+     * 원본 집계와 일치하지 않는 숙소 ID 조회
+     * @param accommodationId 숙소 ID (null이면 전체)
+     * @return 누락/잔존/값 불일치 숙소 ID 리스트
+     */
+    List<Long> findInconsistentAccommodationIds(@Param("accommodationId") Long accommodationId);
+
+    /**
+     * 프로젝션 행 존재 여부
+     */
+    boolean existsAnyProjection();
+
+    /**
+     * 전체 프로젝션 삭제 (재구축용)
+     * @return 삭제된 행 수
+     */
+    int deleteAllProjections();
+}
@@ -0,0 +1,33 @@
+package com.staylog.staylog.domain.search.service;
+
+import com.staylog.staylog.domain.search.dto.response.ProjectionCheckResponse;
+
+import java.util.List;
+
+public interface SearchProjectionService {
+
+    /**
+     * 숙소 한 건의 검색 프로젝션을 원본 테이블 기준으로 다시 반영
+     * @param accommodationId 숙소 ID
+     */
+    void refreshAccommodation(Long accommodationId);
+
+    /**
+     * 예약이 속한 숙소의 예약 수 재집계
+     * @param bookingIds 예약 ID 리스트
+     */
+    void refreshReservationCounts(List<Long> bookingIds);
+
+    /**
+     * 검색 프로젝션 전체 재구축
+     * @return 재구축된 숙소 수
+     */
+    int rebuild();
+
+    /**
+     * 검색 프로젝션 정합성 검사
+     * @param repair true면 불일치 숙소를 다시 반영
+     * @return 검사 결과
+     */
+    ProjectionCheckResponse checkConsistency(boolean repair);
+}
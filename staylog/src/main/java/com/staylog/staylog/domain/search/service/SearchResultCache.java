@@ -0,0 +1,130 @@
+package com.staylog.staylog.domain.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staylog.staylog.domain.search.dto.SearchCursor;
+import com.staylog.staylog.domain.search.dto.request.AccomListRequest;
+import com.staylog.staylog.domain.search.dto.response.AccomListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 숙소 검색 결과 캐시
+ * - 정규화된 검색 조건(SearchKey) 단위로 결과 목록을 보관 (최대 개수 + 작성 후 TTL)
+ * - 같은 키의 동시 요청은 한 번만 조회하고 나머지는 결과를 기다린다
+ * - 예약 생성/점유 해제 시 해당 지역·날짜에 걸친 키만 무효화 (SearchCacheEventListener)
+ * - 관리자 숙소/객실 변경 시 전체 무효화 (SearchProjectionEventListener)
+ * - 지표: /actuator/metrics/cache.gets, cache.evictions, cache.size (cache=search.result)
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final String CACHE_NAME = "search.result";
+
+    private static final String POPULAR_ORDER = "popular";
+
+    private final Cache<SearchKey, List<AccomListResponse>> cache;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${search.cache.max-size:10000}") long maxSize,
+                             @Value("${search.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     * - 저장되는 목록은 읽기 전용이므로 호출자는 결과를 수정하지 않는다
+     *
+     * @param request 검색 조건
+     * @param loader 캐시 미스 시 실행할 검색
+     * @return 검색 결과 (읽기 전용)
+     */
+    public List<AccomListResponse> get(AccomListRequest request, Supplier<List<AccomListResponse>> loader) {
+        return cache.get(SearchKey.of(request), key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 예약 변경에 영향을 받는 검색 결과 무효화
+     * - 지역: 키의 지역 조건이 없거나 해당 지역을 포함
+     * - 날짜: 키의 숙박 구간이 예약 구간과 겹침 (인기순은 예약 수가 바뀌므로 날짜와 무관하게 무효화)
+     *
+     * @param regionCode 예약된 숙소의 지역 코드
+     * @param checkIn 예약 체크인
+     * @param checkOut 예약 체크아웃
+     * @return 무효화된 키 개수
+     */
+    public int invalidate(String regionCode, LocalDate checkIn, LocalDate checkOut) {
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> key.isAffectedBy(regionCode, checkIn, checkOut));
+        int removed = Math.max(0, before - cache.asMap().size());
+        log.debug("검색 캐시 무효화: region={}, {}~{}, {}건", regionCode, checkIn, checkOut, removed);
+        return removed;
+    }
+
+    /**
+     * 검색 조건 한 건 무효화 (일부 단계가 생략된 결과를 남기지 않기 위함)
+     */
+    public void evict(AccomListRequest request) {
+        cache.invalidate(SearchKey.of(request));
+    }
+
+    /**
+     * 검색 결과 전체 무효화 (숙소/객실 정보 변경 시)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 정규화된 검색 조건
+     * - 지역 코드는 중복 제거 후 정렬, 알 수 없는 정렬 값은 이름순으로 통일
+     */
+    record SearchKey(Integer people, LocalDate checkIn, LocalDate checkOut,
+                     List<String> regionCodes, String order, Long lastAccomId, String cursor) {
+
+        static SearchKey of(AccomListRequest request) {
+            List<String> regionCodes = request.getRegionCodes() == null
+                    ? List.of()
+                    : request.getRegionCodes().stream()
+                        .filter(code -> code != null && !code.isBlank())
+                        .distinct()
+                        .sorted()
+                        .toList();
+            String order = SearchCursor.normalizeOrder(request.getOrder());
+            String cursor = request.getCursor() == null || request.getCursor().isBlank() ? null : request.getCursor();
+            // 커서가 있으면 lastAccomId는 쓰이지 않으므로 키에서 제외
+            Long lastAccomId = cursor == null ? request.getLastAccomId() : null;
+            return new SearchKey(request.getPeople(), request.getCheckIn(), request.getCheckOut(),
+                    regionCodes, order, lastAccomId, cursor);
+        }
+
+        boolean isAffectedBy(String regionCode, LocalDate bookedFrom, LocalDate bookedTo) {
+            if (!regionCodes.isEmpty() && !regionCodes.contains(regionCode)) {
+                return false;
+            }
+            if (POPULAR_ORDER.equals(order)) {
+                return true;
+            }
+            // 날짜 조건이 없는 검색은 예약 여부와 무관 (SearchMapper.getAvailableAccomIds)
+            if (checkIn == null || checkOut == null) {
+                return false;
+            }
+            return bookedFrom == null || bookedTo == null
+                    || (bookedFrom.isBefore(checkOut) && checkIn.isBefore(bookedTo));
+        }
+    }
+}
@@ -9,8 +9,8 @@ public interface SearchService {
 
     /**
      * - 예약 가능한 숙소 ID 추출
-     * -  숙소 기본 정보 + 객실 집계
-     * - 예약 수 조회 (popular 정렬 시만 실행하는 쿼리)
+     * -  숙소 기본 정보 + 객실 집계 + 예약 수 (검색 프로젝션)
+     * - 예약 수 기준 재정렬 (popular 정렬 시만)
      * @param request 검색 조건
      * @return 숙소 리스트
      */
@@ -0,0 +1,108 @@
+package com.staylog.staylog.domain.search.service.impl;
+
+import com.staylog.staylog.domain.search.dto.response.ProjectionCheckResponse;
+import com.staylog.staylog.domain.search.mapper.SearchProjectionMapper;
+import com.staylog.staylog.domain.search.service.SearchProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 숙소 검색 프로젝션 서비스
+ * - 관리자 숙소/객실 변경, 예약 상태 변경 시 해당 숙소 행만 갱신 (SearchProjectionEventListener)
+ * - 갱신은 원본 트랜잭션 커밋 후 별도 트랜잭션으로 수행하여 예약 처리와 행 락을 다투지 않는다
+ * - 누락된 갱신은 정합성 검사(SearchProjectionScheduler)에서 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchProjectionServiceImpl implements SearchProjectionService {
+
+    // 정합성 검사 결과에 담을 최대 숙소 ID 수
+    private static final int MAX_REPORTED_IDS = 100;
+
+    private final SearchProjectionMapper searchProjectionMapper;
+
+    /**
+     * 서버 기동 시 프로젝션이 비어 있으면 재구축 (테이블 생성 직후 최초 배포 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (!searchProjectionMapper.existsAnyProjection()) {
+                log.info("숙소 검색 프로젝션이 비어 있어 재구축합니다.");
+                // 자기 호출이라 트랜잭션 없이 실행되지만 빈 테이블이므로 merge 한 문장으로 충분
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("숙소 검색 프로젝션 초기 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshAccommodation(Long accommodationId) {
+        if (accommodationId == null) {
+            return;
+        }
+        searchProjectionMapper.mergeProjection(accommodationId);
+        searchProjectionMapper.deleteStaleProjection(accommodationId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshReservationCounts(List<Long> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return;
+        }
+        searchProjectionMapper.refreshReservationCounts(bookingIds);
+    }
+
+    /**
+     * 삭제 후 전체 집계를 다시 넣는다 (커밋 전까지 검색은 기존 행을 본다)
+     */
+    @Override
+    @Transactional
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        searchProjectionMapper.deleteAllProjections();
+        int rebuilt = searchProjectionMapper.mergeProjection(null);
+        log.info("숙소 검색 프로젝션 재구축 완료: {}건, {}ms", rebuilt, System.currentTimeMillis() - start);
+        return rebuilt;
+    }
+
+    @Override
+    public ProjectionCheckResponse checkConsistency(boolean repair) {
+        List<Long> mismatchIds = searchProjectionMapper.findInconsistentAccommodationIds(null);
+
+        if (!mismatchIds.isEmpty()) {
+            log.warn("숙소 검색 프로젝션 불일치: {}건, accommodationIds={}", mismatchIds.size(),
+                    mismatchIds.subList(0, Math.min(mismatchIds.size(), MAX_REPORTED_IDS)));
+            if (repair) {
+                mismatchIds.forEach(this::repair);
+            }
+        }
+
+        return ProjectionCheckResponse.builder()
+                .mismatchCount(mismatchIds.size())
+                .accommodationIds(mismatchIds.subList(0, Math.min(mismatchIds.size(), MAX_REPORTED_IDS)))
+                .repaired(repair && !mismatchIds.isEmpty())
+                .build();
+    }
+
+    // 자기 호출이므로 트랜잭션 없이 문장 단위로 반영 (merge/delete 모두 멱등)
+    private void repair(Long accommodationId) {
+        try {
+            searchProjectionMapper.mergeProjection(accommodationId);
+            searchProjectionMapper.deleteStaleProjection(accommodationId);
+        } catch (Exception e) {
+            log.error("숙소 검색 프로젝션 보정 실패: accommodationId={}, error={}", accommodationId, e.getMessage(), e);
+        }
+    }
+}
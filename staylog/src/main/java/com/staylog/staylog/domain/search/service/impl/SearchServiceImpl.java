@@ -2,147 +2,229 @@ package com.staylog.staylog.domain.search.service.impl;
 
 
 import com.staylog.staylog.domain.image.assembler.ImageAssembler;
+import com.staylog.staylog.domain.search.dto.SearchCursor;
 import com.staylog.staylog.domain.search.dto.request.AccomListRequest;
 import com.staylog.staylog.domain.search.dto.response.AccomListResponse;
 import com.staylog.staylog.domain.search.mapper.SearchMapper;
+import com.staylog.staylog.domain.search.service.SearchResultCache;
 import com.staylog.staylog.domain.search.service.SearchService;
-import lombok.RequiredArgsConstructor;
+import com.staylog.staylog.global.trace.DiagnosticTrace;
+import com.staylog.staylog.global.constant.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 숙소 검색 서비스
+ * - 단계별 소요 시간은 staylog.search.stage (Timer, stage/outcome) 지표로 기록
+ *   stage: availability(예약 가능 숙소), page(숙소 페이지), images(대표 이미지)
+ *   outcome: success, rejected(풀 포화로 생략), error
+ * - 마감 초과로 이미지 없이 반환한 횟수는 staylog.search.stage.timeout (Counter, stage) 지표로 기록
+ * - 전체 소요 시간은 staylog.search.duration (Timer, degraded) 지표로 기록
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SearchServiceImpl implements SearchService {
 
     private final SearchMapper searchMapper;
     private final ImageAssembler imageAssembler;
+    private final SearchResultCache searchResultCache;
+    private final Executor searchTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long deadlineMillis;
+
+    public SearchServiceImpl(SearchMapper searchMapper,
+                             ImageAssembler imageAssembler,
+                             SearchResultCache searchResultCache,
+                             @Qualifier("searchTaskExecutor") Executor searchTaskExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${search.pipeline.deadline-ms:800}") long deadlineMillis) {
+        this.searchMapper = searchMapper;
+        this.imageAssembler = imageAssembler;
+        this.searchResultCache = searchResultCache;
+        this.searchTaskExecutor = searchTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.deadlineMillis = deadlineMillis;
+    }
 
     /**
-     * - 1단계: 예약 가능한 숙소만 필터링
-     * - 2단계: 필터링된 숙소의 기본 정보 + 객실 집계
-     * - 3단계: 인기순 정렬 시만 예약 수 조회
+     * 검색 결과 캐시를 먼저 확인하고, 없을 때만 DB 검색
+     * - 이미지 단계가 생략된 결과는 캐시에 남기지 않는다
      * @Author danjae
      */
     @Override
     public List<AccomListResponse> searchAccommodations(AccomListRequest request) {
-        long startTime = System.currentTimeMillis();
+        boolean[] degraded = {false};
+        List<AccomListResponse> result = searchResultCache.get(request, () -> {
+            SearchResult searchResult = searchFromDatabase(request);
+            degraded[0] = searchResult.degraded();
+            return searchResult.accommodations();
+        });
+        if (degraded[0]) {
+            searchResultCache.evict(request);
+        }
+        return result;
+    }
+
+    /**
+     * - 1단계: 예약 가능한 숙소만 필터링
+     * - 2단계: 필터링된 숙소의 기본 정보 + 객실 집계 + 예약 수 (검색 프로젝션, 정렬별 keyset 페이지)
+     * - 3단계: 대표 이미지 조회는 검색 전용 풀에서 실행하고, 그동안 요청 스레드는 커서를 생성
+     *   마감 시각(deadline-ms)까지 끝나지 않으면 이미지 없이 반환
+     * @Author danjae
+     */
+    private SearchResult searchFromDatabase(AccomListRequest request) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
 
-        log.info("검색 조건 - 인원: {}, 체크인: {}, 체크아웃: {}, 지역: {}, 정렬: {}",
+        DiagnosticTrace.put("search.condition", () -> String.format("people=%s, checkIn=%s, checkOut=%s, regions=%s, order=%s, cursor=%s",
                 request.getPeople(), request.getCheckIn(), request.getCheckOut(),
-                request.getRegionCodes(), request.getOrder());
+                request.getRegionCodes(), request.getOrder(), request.getCursor()));
 
-        // ========== 1단계: 예약 가능한 숙소 ID 추출 ==========
-        long step1Start = System.currentTimeMillis();
-        List<Long> availableAccomIds = searchMapper.getAvailableAccomIds(request);
-        long step1Time = System.currentTimeMillis() - step1Start;
+        // 잘못된 커서는 DB 조회 전에 거절
+        SearchCursor cursor = request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : SearchCursor.decode(request.getCursor(), request.getOrder());
 
-        log.info("[1단계 완료] 예약 가능한 숙소 ID 추출 - 개수: {}, 소요시간: {}ms",
-                availableAccomIds.size(), step1Time);
+        // ========== 1단계: 예약 가능한 숙소 ID 추출 ==========
+        List<Long> availableAccomIds = timed("availability", () -> searchMapper.getAvailableAccomIds(request));
 
         // 예약 가능한 숙소가 없으면 빈 리스트 반환
         if (availableAccomIds.isEmpty()) {
-            log.warn("예약 가능한 숙소가 없습니다.");
-            return Collections.emptyList();
+            recordTotal(startNanos, false);
+            return new SearchResult(Collections.emptyList(), false);
         }
 
         // ========== 2단계: 숙소 기본 정보 + 객실 집계 ==========
-        long step2Start = System.currentTimeMillis();
-        List<AccomListResponse> accommodationList = searchMapper.getAccomListBasic(request, availableAccomIds);
-        long step2Time = System.currentTimeMillis() - step2Start;
-
-        log.info("[2단계 완료] 숙소 기본 정보 조회 - 개수: {}, 소요시간: {}ms",
-                accommodationList.size(), step2Time);
+        List<AccomListResponse> accommodationList =
+                timed("page", () -> searchMapper.getAccomListBasic(request, availableAccomIds, cursor));
 
         // 조회된 숙소가 없으면 빈 리스트 반환
         if (accommodationList.isEmpty()) {
-            log.warn("조회된 숙소가 없습니다.");
-            return Collections.emptyList();
+            recordTotal(startNanos, false);
+            return new SearchResult(Collections.emptyList(), false);
+        }
+
+        // ========== 3단계: 대표 이미지 조회 + 다음 페이지 커서 생성 (동시 실행) ==========
+        // 이미지 URL은 별도 맵에 모았다가 마감 안에 끝난 경우에만 반영 (늦게 끝난 작업이 응답 객체를 건드리지 않도록)
+        Map<Long, String> imageUrls = new HashMap<>();
+        List<AccomListResponse> imageTargets = accommodationList.stream()
+                .map(accom -> AccomListResponse.builder().accommodationId(accom.getAccommodationId()).build())
+                .toList();
+        CompletableFuture<Void> imageStage = submit(() -> {
+            imageAssembler.assembleMainImageUrl(imageTargets, AccomListResponse::getAccommodationId,
+                    AccomListResponse::setImageUrl, "ACCOMMODATION", ImageVariant.W480);
+            imageTargets.forEach(target -> imageUrls.put(target.getAccommodationId(), target.getImageUrl()));
+        });
+
+        accommodationList.forEach(accom ->
+                accom.setCursor(SearchCursor.of(request.getOrder(), accom).encode()));
+
+        boolean imagesLoaded = awaitImages(imageStage, deadlineNanos);
+        if (imagesLoaded) {
+            accommodationList.forEach(accom -> accom.setImageUrl(imageUrls.get(accom.getAccommodationId())));
+        }
+
+        // 개별 숙소 정보는 진단 트레이스가 켜진 요청에서만 기록
+        DiagnosticTrace.put("search.results", () -> accommodationList.stream()
+                .map(accom -> Map.of(
+                        "id", accom.getAccommodationId(),
+                        "name", String.valueOf(accom.getAccommodationName()),
+                        "basePrice", String.valueOf(accom.getBasePrice()),
+                        "reservationCount", String.valueOf(accom.getReservationCount()),
+                        "imageUrl", String.valueOf(accom.getImageUrl())))
+                .toList());
+
+        recordTotal(startNanos, !imagesLoaded);
+        return new SearchResult(accommodationList, !imagesLoaded);
+    }
+
+    /**
+     * 이미지 단계를 검색 전용 풀에 제출 (풀 포화 시 실패한 future 반환)
+     */
+    private CompletableFuture<Void> submit(Runnable task) {
+        long start = System.nanoTime();
+        try {
+            return CompletableFuture.runAsync(task, searchTaskExecutor)
+                    .whenComplete((ignored, ex) -> {
+                        if (ex == null) {
+                            recordStage("images", "success", start);
+                        } else {
+                            log.warn("대표 이미지 조회 실패: {}", ex.getMessage());
+                            recordStage("images", "error", start);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            recordStage("images", "rejected", start);
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
-        // ========== 3단계: 예약 수 조회 (인기순 정렬 시만 실행) ==========
-        boolean isPopularSort = "popular".equals(request.getOrder());
-        long step3Time = 0;
-
-        if (isPopularSort) {
-            long step3Start = System.currentTimeMillis();
-
-            //  조회된 숙소 ID 리스트
-            List<Long> accommodationIds = accommodationList.stream()
-                    .map(AccomListResponse::getAccommodationId)
-                    .collect(Collectors.toList());
-
-            // 예약 수 조회
-            List<Map<String, Object>> reservationCounts = searchMapper.getReservationCounts(accommodationIds);
-
-            log.debug("[3단계 디버그] 예약 수 조회 결과 개수: {}", reservationCounts.size());
-            if (!reservationCounts.isEmpty()) {
-                log.debug("[3단계 디버그] 첫 번째 Map 키: {}", reservationCounts.get(0).keySet());
-            }
-
-            // Map으로 변환 (accommodationId -> reservationCount)
-            // Oracle은 alias를 대문자로 변환하므로 대문자 키 사용
-            Map<Long, Integer> reservationCountMap = reservationCounts.stream()
-                    .collect(Collectors.toMap(
-                            map -> {
-                                Object accomIdObj = map.get("ACCOMMODATIONID"); // Oracle 대문자 키
-                                if (accomIdObj == null) {
-                                    log.error("ACCOMMODATIONID is null in map: {}", map);
-                                    throw new IllegalStateException("ACCOMMODATIONID not found in result map");
-                                }
-                                return ((Number) accomIdObj).longValue();
-                            },
-                            map -> {
-                                Object countObj = map.get("RESERVATIONCOUNT"); // Oracle 대문자 키
-                                if (countObj == null) {
-                                    log.warn("RESERVATIONCOUNT is null for accommodation, defaulting to 0");
-                                    return 0;
-                                }
-                                return ((Number) countObj).intValue();
-                            }
-                    ));
-
-            // 예약 수를 각 숙소 객체에 설정
-            accommodationList.forEach(accom -> {
-                Integer resCount = reservationCountMap.getOrDefault(accom.getAccommodationId(), 0);
-                accom.setReservationCount(resCount);
-            });
-
-            // 예약 수 기준으로 재정렬 (내림차순)
-            accommodationList.sort((a, b) -> {
-                int compareRes = Integer.compare(b.getReservationCount(), a.getReservationCount());
-                if (compareRes != 0) return compareRes;
-                return Long.compare(a.getAccommodationId(), b.getAccommodationId());
-            });
-
-            step3Time = System.currentTimeMillis() - step3Start;
-            log.info("[3단계 완료] 예약 수 조회 및 재정렬 - 소요시간: {}ms", step3Time);
-        } else {
-            log.info("[3단계 스킵] 인기순 정렬이 아니므로 예약 수 조회 생략");
+    /**
+     * 남은 마감 시간 동안 이미지 단계를 기다림
+     * @return 이미지 단계가 정상 완료되었는지 여부
+     */
+    private boolean awaitImages(CompletableFuture<Void> imageStage, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            imageStage.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            imageStage.cancel(true);
+            meterRegistry.counter("staylog.search.stage.timeout", "stage", "images").increment();
+            log.warn("대표 이미지 조회가 마감 시간({}ms)을 넘어 이미지 없이 반환합니다.", deadlineMillis);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // 실패/거절은 submit에서 이미 기록
+            return false;
         }
+    }
 
-        // ========== 결과 로그 출력 ==========
-        long totalTime = System.currentTimeMillis() - startTime;
-        log.info("========== 숙소 검색 완료 ==========");
-        log.info("총 소요시간: {}ms (1단계: {}ms, 2단계: {}ms, 3단계: {}ms)",
-                totalTime, step1Time, step2Time, step3Time);
-        log.info("최종 결과 개수: {}", accommodationList.size());
-
-        // 개별 숙소 정보 로그
-        for (AccomListResponse accom : accommodationList) {
-            log.info("숙소 - ID: {}, 이름: {}, 지역: {}, 최대인원: {}, 최저가: {}, 예약수: {}",
-                    accom.getAccommodationId(),
-                    accom.getAccommodationName(),
-                    accom.getRegionName(),
-                    accom.getMaxCapacity(),
-                    accom.getBasePrice(),
-                    accom.getReservationCount());
+    private <T> T timed(String stage, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            T result = supplier.get();
+            recordStage(stage, "success", start);
+            return result;
+        } catch (RuntimeException e) {
+            recordStage(stage, "error", start);
+            throw e;
         }
-        imageAssembler.assembleMainImageUrl(accommodationList, AccomListResponse::getAccommodationId, AccomListResponse::setImageUrl, "ACCOMMODATION");
+    }
+
+    private void recordStage(String stage, String outcome, long startNanos) {
+        Timer.builder("staylog.search.stage")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
 
-        return accommodationList;
+    private void recordTotal(long startNanos, boolean degraded) {
+        Timer.builder("staylog.search.duration")
+                .tag("degraded", String.valueOf(degraded))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * DB 검색 결과
+     * @param degraded 마감 초과 등으로 일부 단계(이미지)가 생략되었는지 여부
+     */
+    private record SearchResult(List<AccomListResponse> accommodations, boolean degraded) {
     }
 }
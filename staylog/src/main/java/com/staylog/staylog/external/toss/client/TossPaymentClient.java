@@ -9,6 +9,7 @@ import com.staylog.staylog.external.toss.dto.response.TossErrorResponse;
 import com.staylog.staylog.external.toss.dto.response.TossPaymentResponse;
 import com.staylog.staylog.external.toss.dto.response.TossVirtualAccountResponse;
 import com.staylog.staylog.global.exception.custom.payment.TossApiException;
+import com.staylog.staylog.global.trace.DiagnosticTrace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
@@ -16,6 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 토스 페이먼츠 API 클라이언트
  */
@@ -45,10 +49,9 @@ public class TossPaymentClient {
             log.info("토스 결제 승인 요청: paymentKey={}, orderId={}, amount={}",
                      request.getPaymentKey(), request.getOrderId(), request.getAmount());
 
-            // 요청 바디 확인
-            log.info("Request Body: {}", entity.getBody());
-            // 요청 헤더 확인
-            entity.getHeaders().forEach((key, value) -> log.info("Header: {}={}", key, value));
+            // 요청 바디/헤더는 진단 트레이스가 켜진 요청에서만 기록 (Authorization은 마스킹)
+            DiagnosticTrace.put("toss.confirm.body", entity::getBody);
+            DiagnosticTrace.put("toss.confirm.headers", () -> maskedHeaders(entity.getHeaders()));
 
             ResponseEntity<TossPaymentResponse> response = restTemplate.exchange(
                 url,
@@ -144,13 +147,14 @@ public class TossPaymentClient {
                      request.getOrderId(), request.getAmount(), request.getCustomerName(),
                      request.getOrderName(), request.getValidHours());
 
-            // 디버깅: 요청 본문 JSON 직렬화 확인
-            try {
-                String jsonBody = objectMapper.writeValueAsString(request);
-                log.info("요청 JSON: {}", jsonBody);
-            } catch (Exception e) {
-                log.warn("JSON 직렬화 실패", e);
-            }
+            // 디버깅: 요청 본문 JSON 직렬화 확인 (진단 트레이스가 켜진 요청에서만)
+            DiagnosticTrace.put("toss.virtualAccount.body", () -> {
+                try {
+                    return objectMapper.writeValueAsString(request);
+                } catch (Exception e) {
+                    return "JSON 직렬화 실패: " + e.getMessage();
+                }
+            });
 
             ResponseEntity<TossVirtualAccountResponse> response = restTemplate.exchange(
                 url,
@@ -172,6 +176,16 @@ public class TossPaymentClient {
         }
     }
 
+    /**
+     * 트레이스 기록용 헤더 (인증 헤더 값은 가림)
+     */
+    private Map<String, Object> maskedHeaders(HttpHeaders headers) {
+        Map<String, Object> masked = new LinkedHashMap<>();
+        headers.forEach((key, value) ->
+                masked.put(key, HttpHeaders.AUTHORIZATION.equalsIgnoreCase(key) ? "****" : value));
+        return masked;
+    }
+
     /**
      * HTTP 헤더 생성
      */
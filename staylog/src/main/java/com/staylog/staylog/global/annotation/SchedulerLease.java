@@ -0,0 +1,32 @@
+package com.staylog.staylog.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터 단위 스케줄러 실행 임대(lease) 어노테이션
+ * - 여러 인스턴스 중 SCHEDULER_LEASE 행을 선점한 한 노드만 해당 주기의 작업을 실행
+ * - 선점하지 못한 노드는 실행을 건너뛴다 (SchedulerLeaseAspect)
+ * - SSE Heartbeat처럼 노드별로 실행되어야 하는 작업에는 붙이지 않는다
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLease {
+
+    /**
+     * 작업 이름 (SCHEDULER_LEASE.JOB_NAME)
+     */
+    String name();
+
+    /**
+     * 최대 점유 시간(초) - 실행 노드가 죽어도 이 시간이 지나면 다른 노드가 선점 가능
+     */
+    long lockAtMostSeconds() default 300;
+
+    /**
+     * 최소 점유 시간(초) - 작업이 빨리 끝나도 같은 주기에 다른 노드가 다시 실행하지 않도록 유지
+     */
+    long lockAtLeastSeconds() default 10;
+}
@@ -0,0 +1,96 @@
+package com.staylog.staylog.global.aop;
+
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import com.staylog.staylog.global.scheduler.mapper.SchedulerLeaseMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 단위 스케줄러 실행 임대 AOP
+ * - @SchedulerLease가 붙은 메서드는 SCHEDULER_LEASE 행을 선점한 노드에서만 실행
+ * - 임대 선점/반납은 작업 트랜잭션과 분리되어야 하므로 트랜잭션 AOP보다 먼저(바깥에서) 동작
+ * - 지표
+ *   staylog.scheduler.lease.acquire (Timer, job/result): 임대 선점 소요 시간
+ *   staylog.scheduler.lease.skipped (Counter, job): 다른 노드 점유로 건너뛴 실행 횟수
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SchedulerLeaseAspect {
+
+    // 노드 식별자 (pid@host + 기동마다 다른 값)
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName()
+            + "#" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final SchedulerLeaseMapper schedulerLeaseMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(lease)")
+    public Object runWithLease(ProceedingJoinPoint joinPoint, SchedulerLease lease) throws Throwable {
+        String jobName = lease.name();
+
+        long start = System.nanoTime();
+        String result;
+        try {
+            result = tryAcquire(jobName, lease.lockAtMostSeconds()) ? "acquired" : "skipped";
+        } catch (Exception e) {
+            // 임대 테이블 장애 시 중복 실행보다 건너뛰는 편이 안전 (정리성 작업은 다음 주기에 처리됨)
+            log.error("스케줄러 임대 선점 실패로 실행 건너뜀: job={}, error={}", jobName, e.getMessage(), e);
+            result = "error";
+        }
+        Timer.builder("staylog.scheduler.lease.acquire")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!"acquired".equals(result)) {
+            Counter.builder("staylog.scheduler.lease.skipped")
+                    .tag("job", jobName)
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("다른 노드가 실행 중이므로 건너뜀: job={}", jobName);
+            return null;
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            try {
+                schedulerLeaseMapper.releaseLease(jobName, OWNER, lease.lockAtLeastSeconds());
+            } catch (Exception e) {
+                // 반납에 실패해도 lockAtMostSeconds 이후에는 다른 노드가 선점 가능
+                log.warn("스케줄러 임대 반납 실패: job={}, error={}", jobName, e.getMessage());
+            }
+        }
+    }
+
+    private boolean tryAcquire(String jobName, long lockAtMostSeconds) {
+        if (schedulerLeaseMapper.acquireExpiredLease(jobName, OWNER, lockAtMostSeconds) == 1) {
+            return true;
+        }
+        try {
+            // 최초 실행이라 임대 행이 없는 경우
+            schedulerLeaseMapper.insertLease(jobName, OWNER, lockAtMostSeconds);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
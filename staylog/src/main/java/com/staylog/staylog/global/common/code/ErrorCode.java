@@ -63,6 +63,7 @@ public enum ErrorCode {
     INVALID_BOOKING_DATE(HttpStatus.BAD_REQUEST, "E5004", "error.booking.invalid.date"),
     BOOKING_EXPIRED(HttpStatus.BAD_REQUEST, "E5005", "error.booking.expired"),
     BOOKING_NOT_PENDING(HttpStatus.BAD_REQUEST, "E5006", "error.booking.not.pending"),
+    BOOKING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "E5007", "error.booking.busy"), // 503 (재시도 O)
 
     // ==================== 결제 관련 에러 (6xxx) ====================
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "E6001", "error.payment.not.found"),
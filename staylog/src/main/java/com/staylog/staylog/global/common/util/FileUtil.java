@@ -28,22 +28,31 @@ public class FileUtil {
         }
 
         String originalName = file.getOriginalFilename();
+        String savedPath = newSavedPath(originalName);
+        File destinationFile = new File(uploadPath, savedPath);
+
+        destinationFile.getParentFile().mkdirs();
+        file.transferTo(destinationFile);
+
+        return new FileUploadDto(destinationFile.getName(), originalName, savedPath); // savedPath는 YYYY/MM/DD/UUID_OriginalName // savedPath는 YYYY/MM/DD/UUID_OriginalName
+    }
+
+    // 새 저장 경로 생성 (YYYY/MM/DD/UUID.확장자)
+    public static String newSavedPath(String originalName) {
         // 파일 확장자 추출
         String extension = "";
 		if (originalName != null && originalName.contains(".")) {
 			extension = originalName.substring(originalName.lastIndexOf("."));
 		}
+		// 경로 문자가 섞인 확장자는 버림 (e.g., "a.b/../x")
+		if (!extension.matches("\\.[A-Za-z0-9]{1,10}")) {
+			extension = "";
+		}
         // UUID와 확장자를 조합하여 완전히 새로운 파일명 생성
         String safeFileName = UUID.randomUUID().toString() + extension;
         String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
         // 시스템 기본 경로 구분자를 사용하되, 최종적으로는 URL에 적합한 '/'로 통일
-        String savedPath = Paths.get(datePath, safeFileName).toString().replace(File.separator, "/");
-        File destinationFile = new File(uploadPath, savedPath);
-
-        destinationFile.getParentFile().mkdirs();
-        file.transferTo(destinationFile);
-
-        return new FileUploadDto(destinationFile.getName(), originalName, savedPath); // savedPath는 YYYY/MM/DD/UUID_OriginalName // savedPath는 YYYY/MM/DD/UUID_OriginalName
+        return Paths.get(datePath, safeFileName).toString().replace(File.separator, "/");
     }
 
     // 파일 물리삭제
@@ -0,0 +1,220 @@
+package com.staylog.staylog.global.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 계층형 타이머 휠
+ * - 레벨마다 64칸, 레벨 L의 한 칸 = tick * 64^L
+ *   (tick 1초 기준: 1레벨 64초, 2레벨 약 68분, 3레벨 약 3일, 4레벨 약 194일)
+ * - 등록/취소는 O(1), 만료 처리는 틱마다 해당 칸만 확인
+ * - 상위 레벨 칸은 하위 레벨이 한 바퀴 돌 때마다 하위 레벨로 재배치(cascade)
+ * - 틱 처리는 단일 스레드에서만 수행하고, 등록은 큐를 통해 전달받는다
+ *
+ * @param <T> 만료 시 전달할 대상 타입
+ */
+@Slf4j
+public class HierarchicalTimerWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Consumer<List<T>> expirationHandler;
+    private final List<Timeout<T>>[][] wheels;
+    private final Queue<Timeout<T>> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final LongSupplier clock;
+    private final ScheduledExecutorService ticker;
+
+    // 마지막으로 처리한 틱 (틱 스레드 전용)
+    private long currentTick;
+
+    /**
+     * @param name 틱 스레드 이름
+     * @param tickMillis 틱 간격(ms) - 만료 정밀도
+     * @param expirationHandler 한 틱에 만료된 대상 목록을 받는 콜백 (틱 스레드에서 호출되므로 오래 걸리는 작업은 위임할 것)
+     */
+    public HierarchicalTimerWheel(String name, long tickMillis, Consumer<List<T>> expirationHandler) {
+        this(tickMillis, expirationHandler, System::currentTimeMillis, Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * @param clock 현재 시각 (epoch ms)
+     * @param ticker 틱 스레드, null이면 틱을 돌리지 않음 (테스트에서 advance()를 직접 호출)
+     */
+    @SuppressWarnings("unchecked")
+    HierarchicalTimerWheel(long tickMillis, Consumer<List<T>> expirationHandler,
+                           LongSupplier clock, ScheduledExecutorService ticker) {
+        this.tickMillis = tickMillis;
+        this.expirationHandler = expirationHandler;
+        this.wheels = new List[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new LinkedList<>();
+            }
+        }
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+        this.ticker = ticker;
+        if (ticker != null) {
+            ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 대상 등록
+     * @param target 만료 시 전달할 대상
+     * @param deadlineMillis 만료 시각 (epoch ms) - 이미 지났으면 다음 틱에 만료
+     * @return 취소용 핸들
+     */
+    public Timeout<T> schedule(T target, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(target, ceilDiv(deadlineMillis, tickMillis));
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 틱 스레드 종료 (등록된 대상은 만료되지 않음)
+     */
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * 벽시계 기준으로 밀린 틱까지 한 틱씩 처리
+     */
+    void advance() {
+        try {
+            long targetTick = clock.getAsLong() / tickMillis;
+            drainPendingAdds();
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                expireCurrentSlot();
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 scheduleAtFixedRate가 중단되므로 로그만 남긴다
+            log.error("타이머 휠 틱 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void drainPendingAdds() {
+        Timeout<T> timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                // 현재 틱은 이미 처리했으므로 다음 틱부터 배치
+                place(timeout, currentTick + 1);
+            }
+        }
+    }
+
+    /**
+     * 하위 레벨이 한 바퀴를 돈 시점에 상위 레벨의 현재 칸을 하위로 재배치 (상위 레벨부터)
+     */
+    private void cascade() {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = WHEEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            List<Timeout<T>> bucket = wheels[level][(int) ((currentTick >>> shift) & WHEEL_MASK)];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            List<Timeout<T>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Timeout<T> timeout : moving) {
+                if (!timeout.isCancelled()) {
+                    // 이어서 현재 칸을 만료 처리하므로 현재 틱에도 배치 가능
+                    place(timeout, currentTick);
+                }
+            }
+        }
+    }
+
+    private void expireCurrentSlot() {
+        List<Timeout<T>> bucket = wheels[0][(int) (currentTick & WHEEL_MASK)];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<T> expired = new ArrayList<>();
+        Iterator<Timeout<T>> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout<T> timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+            } else if (timeout.deadlineTick <= currentTick) {
+                it.remove();
+                expired.add(timeout.target);
+            }
+        }
+        if (!expired.isEmpty()) {
+            expirationHandler.accept(expired);
+        }
+    }
+
+    /**
+     * 남은 틱 수에 맞는 레벨에 배치 (칸 번호는 만료 틱의 절대값 비트로 결정)
+     */
+    private void place(Timeout<T> timeout, long minTick) {
+        long deadline = Math.max(timeout.deadlineTick, minTick);
+        long delta = deadline - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * level;
+            if (delta < (1L << (shift + WHEEL_BITS)) || level == LEVELS - 1) {
+                // 최상위 레벨 범위를 넘는 대상은 최상위 레벨에 두고 cascade 때 다시 배치
+                long slotTick = level == LEVELS - 1
+                        ? Math.min(deadline, currentTick + (1L << (shift + WHEEL_BITS)) - 1)
+                        : deadline;
+                wheels[level][(int) ((slotTick >>> shift) & WHEEL_MASK)].add(timeout);
+                return;
+            }
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /**
+     * 등록 핸들 - cancel() 후에는 만료 콜백이 호출되지 않음
+     */
+    public static final class Timeout<T> {
+
+        private final T target;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T target, long deadlineTick) {
+            this.target = target;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
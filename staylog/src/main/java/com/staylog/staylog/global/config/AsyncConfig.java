@@ -1,11 +1,14 @@
 package com.staylog.staylog.global.config;
 
+import com.staylog.staylog.global.trace.DiagnosticTrace;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 스레드 풀 관리를 위한 TaskExecutor 설정 클래스
@@ -46,4 +49,123 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 숙소 검색 파이프라인 전용 TaskExecutor
+     * - 요청 스레드가 결과를 기다리므로 큐를 짧게 두고, 가득 차면 즉시 거절하여 해당 단계를 생략(이미지 없음)한다
+     * @return Executor
+     */
+    @Bean(name = "searchTaskExecutor")
+    public Executor searchTaskExecutor(@Value("${search.pipeline.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("staylog-search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 요청의 진단 트레이스를 작업 스레드로 전달
+        executor.setTaskDecorator(DiagnosticTrace::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 디스크 기록 전용 TaskExecutor
+     * - 요청 스레드가 기록 완료를 기다리므로, 가득 차면 거절하지 않고 요청 스레드가 직접 기록한다
+     * @return Executor
+     */
+    @Bean(name = "imageUploadExecutor")
+    public Executor imageUploadExecutor(@Value("${image.upload.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("staylog-image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 크기 변형 생성 전용 TaskExecutor
+     * - 디코딩/리사이즈가 CPU와 메모리를 많이 쓰므로 스레드 수를 작게 고정
+     * - 큐가 가득 차면 거절하고, 누락된 원본은 ImageVariantScheduler가 나중에 채운다
+     * @return Executor
+     */
+    @Bean(name = "imageVariantExecutor")
+    public Executor imageVariantExecutor(@Value("${image.variant.pool-size:2}") int poolSize,
+                                         @Value("${image.variant.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("staylog-image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 오브젝트 스토리지 멀티파트 파트 병렬 전송 전용 TaskExecutor (image.storage.type: s3)
+     * - 업로드 스레드가 파트 완료를 기다리므로, 가득 차면 거절하지 않고 업로드 스레드가 직접 전송한다
+     * @return Executor
+     */
+    @Bean(name = "imageStorageExecutor")
+    public Executor imageStorageExecutor(@Value("${image.storage.s3.part-parallelism:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("staylog-image-storage-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 물리 파일 수집 전용 TaskExecutor (ImageFileCollector)
+     * - 커밋 후 묘비 처리와 정리 스윕의 순회 단위 병렬 처리에 사용
+     * - 큐가 가득 차면 거절하고, 남은 묘비는 ImageGcScheduler가 나중에 처리한다 (스윕은 스케줄러 스레드가 직접 순회)
+     * @return Executor
+     */
+    @Bean(name = "imageGcExecutor")
+    public Executor imageGcExecutor(@Value("${image.gc.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("staylog-image-gc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 전송 전용 TaskExecutor (SseConnectionRegistry)
+     * - 연결마다 비우기 작업이 최대 하나만 대기하므로 큐 길이는 연결 수 이내
+     * - 거절되면 해당 연결의 이벤트는 큐에 남아 다음 발행/하트비트 때 다시 예약된다
+     * - 쓰기가 멈춘 스레드만큼 SseConnectionRegistry가 코어 스레드 수를 늘리므로
+     *   최대 스레드 수는 writer-threads + max-stalled-writes
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "sseWriterExecutor")
+    public ThreadPoolTaskExecutor sseWriterExecutor(@Value("${notification.sse.writer-threads:4}") int poolSize,
+                                                    @Value("${notification.sse.max-stalled-writes:64}") int maxStalledWrites) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize + maxStalledWrites);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("staylog-sse-writer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,63 @@
+package com.staylog.staylog.global.config;
+
+import com.staylog.staylog.domain.image.storage.ImageStorage;
+import com.staylog.staylog.domain.image.storage.LocalImageStorage;
+import com.staylog.staylog.domain.image.storage.S3ImageStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * 이미지 저장소 설정 (image.storage.type)
+ * - local: file.image-location 디스크 (단일 노드 또는 공유 디스크)
+ * - s3: S3 호환 오브젝트 스토리지 (image.storage.s3.*) - 노드가 디스크를 공유하지 않아도 됨
+ */
+@Slf4j
+@Configuration
+public class ImageStorageConfig {
+
+    @Bean
+    public ImageStorage imageStorage(@Value("${image.storage.type:local}") String type,
+                                     @Value("${file.image-location}") String imageLocation,
+                                     @Value("${image.storage.s3.endpoint:}") String endpoint,
+                                     @Value("${image.storage.s3.region:ap-northeast-2}") String region,
+                                     @Value("${image.storage.s3.bucket:staylog-images}") String bucket,
+                                     @Value("${image.storage.s3.access-key:}") String accessKey,
+                                     @Value("${image.storage.s3.secret-key:}") String secretKey,
+                                     @Value("${image.storage.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                                     @Value("${image.storage.s3.part-size-bytes:8388608}") long partSize,
+                                     @Value("${image.storage.s3.presign-ttl-seconds:600}") long presignTtlSeconds,
+                                     @Value("${image.storage.s3.request-timeout-seconds:30}") long requestTimeoutSeconds,
+                                     @Value("${image.storage.s3.public-base-url:}") String publicBaseUrl,
+                                     @Value("${image.storage.s3.staging-location:${java.io.tmpdir}/staylog-image-staging}") String stagingLocation,
+                                     @Qualifier("imageStorageExecutor") Executor imageStorageExecutor,
+                                     MeterRegistry meterRegistry) {
+        switch (type) {
+            case "local" -> {
+                log.info("이미지 저장소: local ({})", imageLocation);
+                return new LocalImageStorage(imageLocation);
+            }
+            case "s3" -> {
+                if (endpoint.isBlank() || accessKey.isBlank() || secretKey.isBlank()) {
+                    throw new IllegalStateException("image.storage.s3.endpoint/access-key/secret-key 설정이 필요합니다");
+                }
+                // S3 멀티파트 파트는 마지막 파트를 빼고 최소 5MiB
+                if (partSize < 5L * 1024 * 1024) {
+                    throw new IllegalStateException("image.storage.s3.part-size-bytes는 5MiB 이상이어야 합니다");
+                }
+                log.info("이미지 저장소: s3 ({}/{})", endpoint, bucket);
+                return new S3ImageStorage(new S3ImageStorage.Settings(endpoint, region, bucket, accessKey, secretKey,
+                        multipartThreshold, partSize, Duration.ofSeconds(presignTtlSeconds),
+                        Duration.ofSeconds(requestTimeoutSeconds), publicBaseUrl, stagingLocation),
+                        imageStorageExecutor, meterRegistry);
+            }
+            default -> throw new IllegalStateException("지원하지 않는 image.storage.type: " + type);
+        }
+    }
+}
@@ -35,7 +35,8 @@ public class SecurityConfig {
 
     // 항상 허용할 경로들 (메서드 상관없이 모두 허용)
     private static final String[] PERMIT_ALL_PATHS = {
-            "/actuator/**",          // Spring Actuator
+            "/actuator/health",      // Spring Actuator 헬스 체크 (지표는 관리자 전용)
+            "/actuator/health/**",
             "/swagger-ui/**",        // Swagger UI
             "/v3/api-docs/**",        // Swagger API Docs
             "/error"                // 에러 페이지
@@ -88,12 +89,14 @@ public class SecurityConfig {
 
                         // 정적 리소스 이미지 파일 허용
                         .requestMatchers(HttpMethod.GET, "/images/**").permitAll() // 👈 403 에러 해결!
+                        .requestMatchers(HttpMethod.HEAD, "/images/**").permitAll()
 
                         // VIP 전용
                         .requestMatchers("/form/journal").hasAuthority("VIP")
 
                         // Admin 전용
                         .requestMatchers("/v1/admin/**").hasAuthority("ADMIN")
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN") // 운영 지표 (캐시, 임대, 예약 등)
 
                         // 로그인 필요
                         // Board (수정/삭제/특정 조회)
@@ -0,0 +1,21 @@
+package com.staylog.staylog.global.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이미지 크기 변형 Enum
+ * COMMON_CODE 테이블의 IMAGE_TYPE과 매칭 (원본 외에는 ImageVariantGenerator가 생성하는 고정 너비 JPEG)
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+
+    ORIGINAL("IMG_ORIGINAL", 0),
+    W160("IMG_W160", 160),     // 프로필, 알림 아이콘
+    W480("IMG_W480", 480),     // 목록 카드
+    W1080("IMG_W1080", 1080);  // 상세 화면
+
+    private final String code;  // COMMON_CODE.CODE_ID (IMAGE_FILE.IMAGE_TYPE)
+    private final int width;    // 최대 너비(px), 원본은 0
+}
@@ -0,0 +1,21 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 숙소/객실 정보 변경 이벤트 객체
+ * - 관리자 숙소 등록/수정/삭제/복원, 객실 등록/수정/삭제/복원 시 발행
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccommodationChangedEvent {
+    private Long accommodationId; // 변경된 숙소 PK (객실 변경이면 객실이 속한 숙소)
+    private boolean roomChanged; // 객실 변경으로 발행되었는지 여부 (숙소 자체 정보는 그대로)
+
+    public AccommodationChangedEvent(Long accommodationId) {
+        this(accommodationId, false);
+    }
+}
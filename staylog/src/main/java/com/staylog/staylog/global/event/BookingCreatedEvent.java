@@ -0,0 +1,23 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성 이벤트 객체
+ * - 객실 가용성 인덱스, 만료 타이머 등 예약 구간/만료 시각이 필요한 리스너에서 사용
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingCreatedEvent {
+    private long bookingId; // 생성된 예약 PK
+    private long roomId; // 예약된 객실 PK
+    private LocalDate checkIn; // 체크인 날짜
+    private LocalDate checkOut; // 체크아웃 날짜
+    private LocalDateTime expiresAt; // 홀드 만료 시각
+}
@@ -0,0 +1,19 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 만료 시각 변경 이벤트 객체
+ * - 결제 수단에 따라 EXPIRES_AT이 연장될 때 발행 (계좌이체, 가상계좌)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingExpiresAtChangedEvent {
+    private long bookingId; // 예약 PK
+    private LocalDateTime expiresAt; // 변경된 만료 시각
+}
@@ -0,0 +1,17 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 상태 변경 이벤트 객체
+ * - RESERVATION.STATUS가 변경되는 모든 경로에서 발행
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingStatusChangedEvent {
+    private long bookingId; // 상태가 변경된 예약 PK
+    private String status; // 변경된 상태 (ReservationStatus code)
+}
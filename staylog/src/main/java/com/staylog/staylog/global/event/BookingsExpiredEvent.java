@@ -0,0 +1,18 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 만료 예약 일괄 취소 이벤트 객체
+ * - 스케줄러의 일괄 만료 처리 1회(청크)당 1건 발행
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingsExpiredEvent {
+    private List<Long> bookingIds; // RES_PENDING -> RES_CANCELED로 변경된 예약 PK 목록
+}
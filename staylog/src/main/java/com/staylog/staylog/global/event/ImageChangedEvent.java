@@ -0,0 +1,17 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 변경 이벤트 객체
+ * - 이미지 업로드/삭제/순서 변경, 프로필 이미지 교체 시 발행 (ImageServiceImpl)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageChangedEvent {
+    private String targetType; // 접두사 없는 대상 타입 (ACCOMMODATION, PROFILE 등)
+    private long targetId; // 대상 PK
+}
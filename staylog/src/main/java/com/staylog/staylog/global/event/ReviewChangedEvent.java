@@ -0,0 +1,16 @@
+package com.staylog.staylog.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰 변경 이벤트 객체
+ * - 리뷰 작성/수정/삭제/복원 시 발행 (ReviewStatsService)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewChangedEvent {
+    private Long accommodationId; // 리뷰가 속한 숙소 PK
+}
@@ -0,0 +1,17 @@
+package com.staylog.staylog.global.exception.custom.booking;
+
+import com.staylog.staylog.global.common.code.ErrorCode;
+
+/**
+ * 같은 객실의 예약 요청 경합으로 처리하지 못한 경우 예외 (재시도 가능)
+ */
+public class BookingBusyException extends BookingException {
+    public BookingBusyException() {
+        super(ErrorCode.BOOKING_BUSY);
+    }
+
+    public BookingBusyException(Long roomId) {
+        super(ErrorCode.BOOKING_BUSY,
+              String.format("Room lock busy: roomId=%d", roomId));
+    }
+}
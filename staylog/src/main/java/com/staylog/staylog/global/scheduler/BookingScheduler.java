@@ -1,6 +1,7 @@
 package com.staylog.staylog.global.scheduler;
 
 import com.staylog.staylog.domain.booking.service.BookingService;
+import com.staylog.staylog.global.annotation.SchedulerLease;
 import com.staylog.staylog.global.common.code.ErrorCode;
 import com.staylog.staylog.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +12,9 @@ import org.springframework.stereotype.Component;
 
 /**
  * 예약 관련 스케줄러
- * - 만료된 예약 자동 취소 (5분 타임아웃)
+ * - 만료된 예약 자동 취소 보정 (5분 타임아웃)
+ * - 만료 시각 도달 즉시 취소는 BookingExpiryTimer가 담당하며,
+ *   이 스케줄러는 재기동/타이머 처리 실패로 남은 예약을 정리하는 저빈도 보정용
  */
 @Component
 @RequiredArgsConstructor
@@ -20,18 +23,31 @@ public class BookingScheduler {
 
     private final BookingService bookingService;
 
+    // 1회 실행에서 처리할 최대 청크 수 (청크당 booking.expiry.chunk-size 건)
+    private static final int MAX_EXPIRY_CHUNKS_PER_RUN = 20;
+
     /**
      * 만료된 예약 처리 스케줄러
-     * - 실행 주기: 1분마다
+     * - 실행 주기: 10분마다 (보정용)
      * - 대상: PENDING 상태이며 생성 후 5분 이상 경과한 예약
      * - 동작: RES_CANCELED 상태로 변경
+     * - 청크 단위 일괄 처리 (청크마다 별도 트랜잭션), 취소할 예약이 없는 청크가 나올 때까지 진행
+     *   (다른 트랜잭션이 잠근 예약도 청크 자리를 차지하므로 청크가 덜 찼다고 끝난 것이 아님)
      */
-    @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
+    @Scheduled(cron = "0 */10 * * * *")  // 10분마다 0초에 실행
+    @SchedulerLease(name = "booking-expiry-reconcile", lockAtMostSeconds = 540, lockAtLeastSeconds = 30)
     public void handleExpiredBookings() {
         log.debug("만료된 예약 처리 시작");
 
         try {
-            int canceledCount = bookingService.cancelExpiredBookings();
+            int canceledCount = 0;
+            for (int chunk = 0; chunk < MAX_EXPIRY_CHUNKS_PER_RUN; chunk++) {
+                int count = bookingService.cancelExpiredBookings();
+                canceledCount += count;
+                if (count == 0) {
+                    break;
+                }
+            }
 
             if (canceledCount > 0) {
                 log.info("만료된 예약 {} 건 자동 취소 완료", canceledCount);
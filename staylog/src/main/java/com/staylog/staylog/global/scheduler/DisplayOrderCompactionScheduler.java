@@ -0,0 +1,42 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.image.service.DisplayOrderAllocator;
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 displayOrder 정리 스케줄러
+ * - 블록 할당(DisplayOrderAllocator), 롤백된 업로드, 삭제/순서 변경으로 생긴 빈 번호를 기존 순서대로 1부터 다시 매긴다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DisplayOrderCompactionScheduler {
+
+    private final DisplayOrderAllocator displayOrderAllocator;
+
+    @Value("${image.display-order.compact-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * displayOrder 빈 번호 정리
+     * - 실행 주기: image.display-order.compact-ms (기본 1시간)
+     */
+    @Scheduled(fixedDelayString = "${image.display-order.compact-ms:3600000}",
+               initialDelayString = "${image.display-order.compact-ms:3600000}")
+    @SchedulerLease(name = "image-display-order-compact", lockAtMostSeconds = 1800, lockAtLeastSeconds = 60)
+    public void compactDisplayOrders() {
+        try {
+            int compacted = displayOrderAllocator.compact(batchSize);
+            if (compacted > 0) {
+                log.info("이미지 displayOrder 정리: 대상 {}개", compacted);
+            }
+        } catch (Exception e) {
+            log.error("이미지 displayOrder 정리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
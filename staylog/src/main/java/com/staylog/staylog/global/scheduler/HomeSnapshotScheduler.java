@@ -0,0 +1,30 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.home.service.HomeFeedSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 숙소 스냅샷 스케줄러
+ * - 이벤트로 잡히지 않는 변경(관리자 직접 수정, 다른 인스턴스의 리뷰 작성 등)을 주기적으로 반영
+ * - 스냅샷은 인스턴스마다 메모리에 있으므로 SchedulerLease 없이 모든 인스턴스에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HomeSnapshotScheduler {
+
+    private final HomeFeedSnapshot homeFeedSnapshot;
+
+    /**
+     * 홈 숙소 스냅샷 재구성
+     * - 실행 주기: home.snapshot.refresh-ms (기본 5분)
+     */
+    @Scheduled(fixedDelayString = "${home.snapshot.refresh-ms:300000}",
+               initialDelayString = "${home.snapshot.refresh-ms:300000}")
+    public void refreshSnapshot() {
+        homeFeedSnapshot.requestRebuild();
+    }
+}
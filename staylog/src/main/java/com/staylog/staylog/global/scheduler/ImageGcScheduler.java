@@ -0,0 +1,57 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.image.service.ImageFileCollector;
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 물리 파일 정리 스케줄러
+ * - 커밋 직후 처리되지 못한 삭제 묘비를 다시 처리하고, 어떤 이미지 행도 가리키지 않는 파일을 주기적으로 정리한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageGcScheduler {
+
+    private final ImageFileCollector imageFileCollector;
+
+    @Value("${image.gc.collect-batch-size:500}")
+    private int collectBatchSize;
+
+    /**
+     * 처리 기한이 된 삭제 묘비 처리
+     * - 실행 주기: image.gc.collect-ms (기본 1분)
+     */
+    @Scheduled(fixedDelayString = "${image.gc.collect-ms:60000}",
+               initialDelayString = "${image.gc.collect-ms:60000}")
+    @SchedulerLease(name = "image-gc-collect", lockAtMostSeconds = 600, lockAtLeastSeconds = 10)
+    public void collectTombstones() {
+        try {
+            int collected = imageFileCollector.collectDue(collectBatchSize);
+            if (collected > 0) {
+                log.info("이미지 삭제 묘비 처리: {}건", collected);
+            }
+        } catch (Exception e) {
+            log.error("이미지 삭제 묘비 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 미참조 파일 정리 스윕
+     * - 실행 주기: image.gc.sweep-ms (기본 1일)
+     */
+    @Scheduled(fixedDelayString = "${image.gc.sweep-ms:86400000}",
+               initialDelayString = "${image.gc.sweep-ms:86400000}")
+    @SchedulerLease(name = "image-gc-sweep", lockAtMostSeconds = 21600, lockAtLeastSeconds = 600)
+    public void sweepUnreferencedFiles() {
+        try {
+            imageFileCollector.sweep();
+        } catch (Exception e) {
+            log.error("이미지 파일 정리 스윕 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.image.service.ImageVariantGenerator;
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 크기 변형 보충 스케줄러
+ * - 변형 기능 이전에 올라온 원본과 생성 대기열 포화로 거절된 원본의 변형을 만든다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageVariantScheduler {
+
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    @Value("${image.variant.backfill-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 변형 없는 원본 보충
+     * - 실행 주기: image.variant.backfill-ms (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${image.variant.backfill-ms:600000}",
+               initialDelayString = "${image.variant.backfill-ms:600000}")
+    @SchedulerLease(name = "image-variant-backfill", lockAtMostSeconds = 1800, lockAtLeastSeconds = 60)
+    public void backfillVariants() {
+        try {
+            int checked = imageVariantGenerator.backfill(batchSize);
+            if (checked > 0) {
+                log.info("이미지 변형 보충: 원본 {}건 확인", checked);
+            }
+        } catch (Exception e) {
+            log.error("이미지 변형 보충 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.board.service.ReviewStatsService;
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 리뷰 집계 스케줄러
+ * - 게시글 서비스를 거치지 않은 변경(DB 직접 수정 등)으로 어긋난 집계를 원본 게시글 기준으로 재집계
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewStatsScheduler {
+
+    private final ReviewStatsService reviewStatsService;
+
+    /**
+     * 리뷰 집계 재집계
+     * - 실행 주기: 매일 04:30
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    @SchedulerLease(name = "review-stats-repair", lockAtMostSeconds = 1800, lockAtLeastSeconds = 60)
+    public void repairReviewStats() {
+        try {
+            int repaired = reviewStatsService.repair();
+            if (repaired > 0) {
+                log.info("숙소 리뷰 집계 보정 완료: {}건", repaired);
+            }
+        } catch (Exception e) {
+            log.error("숙소 리뷰 집계 재집계 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.staylog.staylog.global.scheduler;
+
+import com.staylog.staylog.domain.search.dto.response.ProjectionCheckResponse;
+import com.staylog.staylog.domain.search.service.SearchProjectionService;
+import com.staylog.staylog.global.annotation.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 검색 프로젝션 스케줄러
+ * - 이벤트 기반 갱신이 누락된 숙소(갱신 실패, 지역명 변경 등)를 원본 집계와 비교해 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchProjectionScheduler {
+
+    private final SearchProjectionService searchProjectionService;
+
+    /**
+     * 프로젝션 정합성 검사 및 보정
+     * - 실행 주기: 매일 04:10
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    @SchedulerLease(name = "search-projection-check", lockAtMostSeconds = 1800, lockAtLeastSeconds = 60)
+    public void checkProjection() {
+        try {
+            ProjectionCheckResponse result = searchProjectionService.checkConsistency(true);
+            if (result.getMismatchCount() > 0) {
+                log.info("숙소 검색 프로젝션 보정 완료: {}건", result.getMismatchCount());
+            }
+        } catch (Exception e) {
+            log.error("숙소 검색 프로젝션 정합성 검사 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
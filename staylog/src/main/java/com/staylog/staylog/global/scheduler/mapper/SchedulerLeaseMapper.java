@@ -0,0 +1,44 @@
+package com.staylog.staylog.global.scheduler.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 스케줄러 실행 임대(lease) Mapper 인터페이스
+ * - 시각 비교는 노드 간 시계 차이를 피하기 위해 모두 DB 시각(SYSTIMESTAMP) 기준
+ */
+@Mapper
+public interface SchedulerLeaseMapper {
+
+    /**
+     * 만료된 임대 선점
+     * @param jobName 작업 이름
+     * @param owner 선점 노드 식별자
+     * @param lockAtMostSeconds 최대 점유 시간(초)
+     * @return 선점 성공 시 1, 다른 노드가 점유 중이거나 행이 없으면 0
+     */
+    int acquireExpiredLease(@Param("jobName") String jobName,
+                            @Param("owner") String owner,
+                            @Param("lockAtMostSeconds") long lockAtMostSeconds);
+
+    /**
+     * 임대 행 최초 생성 (선점 상태로 INSERT)
+     * @param jobName 작업 이름
+     * @param owner 선점 노드 식별자
+     * @param lockAtMostSeconds 최대 점유 시간(초)
+     * @throws org.springframework.dao.DuplicateKeyException 다른 노드가 먼저 생성한 경우
+     */
+    void insertLease(@Param("jobName") String jobName,
+                     @Param("owner") String owner,
+                     @Param("lockAtMostSeconds") long lockAtMostSeconds);
+
+    /**
+     * 임대 반납 - 최소 점유 시간까지는 유지
+     * @param jobName 작업 이름
+     * @param owner 선점 노드 식별자 (본인이 선점한 임대만 반납)
+     * @param lockAtLeastSeconds 최소 점유 시간(초)
+     */
+    void releaseLease(@Param("jobName") String jobName,
+                      @Param("owner") String owner,
+                      @Param("lockAtLeastSeconds") long lockAtLeastSeconds);
+}
@@ -0,0 +1,150 @@
+package com.staylog.staylog.global.trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 진단 트레이스
+ * - 샘플링되었거나 요청 헤더로 켠 요청에서만 활성화 (DiagnosticTraceFilter)
+ * - 조회 경로의 건별 상세(검색 결과, 이미지 대상 ID, 외부 API 헤더 등)를 한 레코드에 모아
+ *   요청 종료 시 구조화 로그 한 줄로 남긴다
+ * - 비활성 요청에서는 값 Supplier를 호출하지 않으므로 건별 문자열 생성 비용이 없다
+ * - 다른 스레드에서 기록하려면 작업을 wrap()으로 감싸 트레이스를 전달한다
+ */
+public final class DiagnosticTrace {
+
+    private static final ThreadLocal<Record> CURRENT = new ThreadLocal<>();
+
+    private DiagnosticTrace() {
+    }
+
+    /**
+     * 현재 스레드에서 트레이스가 켜져 있는지 여부
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 값 기록 (같은 키는 덮어씀)
+     *
+     * @param key 항목 이름 (e.g. "search.condition")
+     * @param value 트레이스가 켜진 경우에만 호출되는 값 생성 함수
+     */
+    public static void put(String key, Supplier<?> value) {
+        Record record = CURRENT.get();
+        if (record != null) {
+            record.put(key, value.get());
+        }
+    }
+
+    /**
+     * 값 추가 (같은 키의 목록에 누적)
+     *
+     * @param key 항목 이름 (e.g. "image.mainImageUrl")
+     * @param value 트레이스가 켜진 경우에만 호출되는 값 생성 함수
+     */
+    public static void add(String key, Supplier<?> value) {
+        Record record = CURRENT.get();
+        if (record != null) {
+            record.add(key, value.get());
+        }
+    }
+
+    /**
+     * 현재 트레이스를 다른 스레드 작업에 전달 (TaskDecorator 용도)
+     */
+    public static Runnable wrap(Runnable task) {
+        Record record = CURRENT.get();
+        if (record == null) {
+            return task;
+        }
+        return () -> {
+            Record previous = CURRENT.get();
+            CURRENT.set(record);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static Record begin(String method, String uri, String reason) {
+        Record record = new Record(UUID.randomUUID().toString().substring(0, 8), method, uri, reason);
+        CURRENT.set(record);
+        return record;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 요청 하나의 트레이스 레코드 (여러 스레드에서 기록될 수 있으므로 동기화)
+     */
+    static final class Record {
+
+        private final String traceId;
+        private final String method;
+        private final String uri;
+        private final String reason;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Object> fields = new LinkedHashMap<>();
+
+        private Record(String traceId, String method, String uri, String reason) {
+            this.traceId = traceId;
+            this.method = method;
+            this.uri = uri;
+            this.reason = reason;
+        }
+
+        String getTraceId() {
+            return traceId;
+        }
+
+        synchronized void put(String key, Object value) {
+            fields.put(key, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void add(String key, Object value) {
+            Object current = fields.get(key);
+            List<Object> values;
+            if (current instanceof List<?>) {
+                values = (List<Object>) current;
+            } else {
+                values = new ArrayList<>();
+                if (current != null) {
+                    values.add(current);
+                }
+                fields.put(key, values);
+            }
+            values.add(value);
+        }
+
+        /**
+         * 로그 출력용 스냅샷
+         */
+        synchronized Map<String, Object> toMap(int status) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("traceId", traceId);
+            map.put("method", method);
+            map.put("uri", uri);
+            map.put("reason", reason);
+            map.put("status", status);
+            map.put("elapsedMs", (System.nanoTime() - startNanos) / 1_000_000);
+            map.put("fields", Collections.unmodifiableMap(new LinkedHashMap<>(fields)));
+            return map;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.staylog.staylog.global.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 진단 트레이스 필터
+ * - diagnostics.trace.sample-rate 비율로 샘플링하거나, X-Staylog-Trace: true 헤더가 있으면 트레이스 활성화
+ *   (헤더 활성화는 diagnostics.trace.header-enabled가 켜져 있을 때만, 기본은 끔)
+ * - 요청이 끝나면 레코드를 JSON 한 줄로 "staylog.trace" 로거에 남기고, 응답 헤더로 traceId를 돌려준다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DiagnosticTraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_HEADER = "X-Staylog-Trace";
+    public static final String TRACE_ID_HEADER = "X-Staylog-Trace-Id";
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("staylog.trace");
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final boolean headerEnabled;
+
+    public DiagnosticTraceFilter(ObjectMapper objectMapper,
+                                 @Value("${diagnostics.trace.sample-rate:0.01}") double sampleRate,
+                                 @Value("${diagnostics.trace.header-enabled:false}") boolean headerEnabled) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String reason = traceReason(request);
+        if (reason == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        DiagnosticTrace.Record record = DiagnosticTrace.begin(request.getMethod(), request.getRequestURI(), reason);
+        response.setHeader(TRACE_ID_HEADER, record.getTraceId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DiagnosticTrace.end();
+            emit(record, response.getStatus());
+        }
+    }
+
+    private String traceReason(HttpServletRequest request) {
+        if (headerEnabled && "true".equalsIgnoreCase(request.getHeader(TRACE_HEADER))) {
+            return "header";
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private void emit(DiagnosticTrace.Record record, int status) {
+        try {
+            TRACE_LOG.info(objectMapper.writeValueAsString(record.toMap(status)));
+        } catch (Exception e) {
+            log.warn("진단 트레이스 출력 실패: traceId={}, error={}", record.getTraceId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.staylog.staylog.domain.accommodation.dto;
+
+import com.staylog.staylog.domain.accommodation.dto.response.ReviewResponse;
+import com.staylog.staylog.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndBoardId() {
+        Timestamp createdAt = Timestamp.valueOf("2026-05-04 13:14:15.678");
+        ReviewResponse review = ReviewResponse.builder().boardId(901L).createdAt(createdAt).build();
+
+        ReviewCursor decoded = ReviewCursor.decode(ReviewCursor.of(review).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getBoardId()).isEqualTo(901L);
+    }
+
+    @Test
+    void keepsSubMillisecondPrecision() {
+        // 같은 ms 안에서 뒤쪽 리뷰와 구분되어야 함
+        Timestamp createdAt = Timestamp.valueOf("2026-05-04 13:14:15.678901234");
+        ReviewResponse review = ReviewResponse.builder().boardId(902L).createdAt(createdAt).build();
+
+        ReviewCursor decoded = ReviewCursor.decode(ReviewCursor.of(review).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getCreatedAt().getNanos()).isEqualTo(678_901_234);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String missingId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1700000000\n0".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ReviewCursor.decode("%%%")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ReviewCursor.decode(missingId)).isInstanceOf(BusinessException.class);
+    }
+}
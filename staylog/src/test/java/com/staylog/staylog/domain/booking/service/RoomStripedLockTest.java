@@ -0,0 +1,125 @@
+package com.staylog.staylog.domain.booking.service;
+
+import com.staylog.staylog.global.exception.custom.booking.BookingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 객실 스트라이프 락 테스트
+ * - 다른 스레드가 트랜잭션 안에서 락을 쥔 상태를 만들고, 현재 스레드에서 같은/다른 객실 락을 시도
+ * - 트랜잭션 동기화를 직접 열고 닫아 @Transactional 예약 생성을 흉내 냄
+ */
+class RoomStripedLockTest {
+
+    private static final long TIMEOUT_MILLIS = 50;
+
+    private final RoomStripedLock lock = new RoomStripedLock(256, TIMEOUT_MILLIS);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            endTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        Thread.interrupted();
+    }
+
+    @Test
+    void differentRoomsDoNotBlockEachOther() throws Exception {
+        Holder holder = Holder.start(lock, 1L);
+        try {
+            TransactionSynchronizationManager.initSynchronization();
+            lock.lockUntilTransactionEnds(2L);
+            endTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            holder.release();
+        }
+    }
+
+    @Test
+    void sameRoomWaitsUntilHolderTransactionEnds() throws Exception {
+        Holder holder = Holder.start(lock, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatThrownBy(() -> lock.lockUntilTransactionEnds(1L)).isInstanceOf(BookingBusyException.class);
+        } finally {
+            holder.release();
+        }
+
+        // 롤백으로 끝나도 해제됨
+        lock.lockUntilTransactionEnds(1L);
+        endTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        Holder next = Holder.start(lock, 1L);
+        next.release();
+    }
+
+    @Test
+    void interruptWhileWaitingIsBusy() throws Exception {
+        Holder holder = Holder.start(lock, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> lock.lockUntilTransactionEnds(1L)).isInstanceOf(BookingBusyException.class);
+            assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            holder.release();
+        }
+    }
+
+    @Test
+    void lockOutsideTransactionIsRejected() {
+        assertThatThrownBy(() -> lock.lockUntilTransactionEnds(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void endTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    /**
+     * 별도 스레드에서 트랜잭션을 열고 객실 락을 쥔 채 release()까지 대기
+     */
+    private static final class Holder {
+
+        private final CountDownLatch locked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final Thread thread;
+
+        private Holder(RoomStripedLock lock, long roomId) {
+            thread = new Thread(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    lock.lockUntilTransactionEnds(roomId);
+                    locked.countDown();
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endTransaction(TransactionSynchronization.STATUS_COMMITTED);
+                }
+            });
+        }
+
+        static Holder start(RoomStripedLock lock, long roomId) throws InterruptedException {
+            Holder holder = new Holder(lock, roomId);
+            holder.thread.start();
+            assertThat(holder.locked.await(5, TimeUnit.SECONDS)).isTrue();
+            return holder;
+        }
+
+        void release() throws InterruptedException {
+            released.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+            assertThat(thread.isAlive()).isFalse();
+        }
+    }
+}
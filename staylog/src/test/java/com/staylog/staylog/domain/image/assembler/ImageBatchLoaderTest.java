@@ -0,0 +1,166 @@
+package com.staylog.staylog.domain.image.assembler;
+
+import com.staylog.staylog.domain.image.dto.ImageDto;
+import com.staylog.staylog.domain.image.dto.ImageLookupKey;
+import com.staylog.staylog.domain.image.service.MainImageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageBatchLoaderTest {
+
+    private static final String ACCOMMODATION = "IMG_FROM_ACCOMMODATION";
+    private static final String REVIEW = "IMG_FROM_BOARD_REVIEW";
+    private static final String W160 = "IMG_W160";
+
+    private final Map<ImageLookupKey, ImageDto> stored = new HashMap<>();
+    private final List<Set<ImageLookupKey>> lookups = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private ImageBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        stored.put(new ImageLookupKey(ACCOMMODATION, 1, null), image(11, "a1.jpg"));
+        stored.put(new ImageLookupKey(ACCOMMODATION, 3, null), image(13, "a3.jpg"));
+        stored.put(new ImageLookupKey(REVIEW, 7, W160), image(17, "r7-w160.jpg"));
+
+        MainImageCache mainImageCache = mock(MainImageCache.class);
+        when(mainImageCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<ImageLookupKey> keys = invocation.getArgument(0);
+            lookups.add(Set.copyOf(keys));
+            Map<ImageLookupKey, ImageDto> found = new HashMap<>();
+            keys.stream().filter(stored::containsKey).forEach(key -> found.put(key, stored.get(key)));
+            return found;
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new ImageBatchLoader(mainImageCache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void batchDispatchesAllTargetTypesInOneLookup() {
+        List<Map<Long, ImageDto>> accommodations = new ArrayList<>();
+        List<Map<Long, ImageDto>> reviews = new ArrayList<>();
+
+        loader.batch(() -> {
+            loader.load(ACCOMMODATION, List.of(1L, 2L), null, accommodations::add);
+            loader.load(REVIEW, List.of(7L), W160, reviews::add);
+            assertThat(accommodations).isEmpty();
+        });
+
+        assertThat(lookups).hasSize(1);
+        assertThat(lookups.get(0)).containsExactlyInAnyOrder(
+                new ImageLookupKey(ACCOMMODATION, 1, null),
+                new ImageLookupKey(ACCOMMODATION, 2, null),
+                new ImageLookupKey(REVIEW, 7, W160));
+        // 이미지가 없는 대상은 맵에 없음
+        assertThat(accommodations.get(0).keySet()).containsExactly(1L);
+        assertThat(accommodations.get(0).get(1L).getSavedUrl()).isEqualTo("a1.jpg");
+        assertThat(reviews.get(0).get(7L).getSavedUrl()).isEqualTo("r7-w160.jpg");
+    }
+
+    @Test
+    void nestedBatchDispatchesWhenOutermostEnds() {
+        List<Map<Long, ImageDto>> results = new ArrayList<>();
+
+        loader.batch(() -> {
+            loader.batch(() -> loader.load(ACCOMMODATION, List.of(1L), null, results::add));
+            assertThat(lookups).isEmpty();
+            loader.load(ACCOMMODATION, List.of(3L), null, results::add);
+        });
+
+        assertThat(lookups).hasSize(1);
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    void loadOutsideBatchDispatchesImmediatelyWithoutMemoOutsideRequest() {
+        List<Map<Long, ImageDto>> results = new ArrayList<>();
+
+        loader.load(ACCOMMODATION, List.of(1L), null, results::add);
+        assertThat(results).hasSize(1);
+        loader.load(ACCOMMODATION, List.of(1L), null, results::add);
+
+        // 요청 밖에서는 기억하지 않으므로 매번 공유 캐시 조회
+        assertThat(lookups).hasSize(2);
+    }
+
+    @Test
+    void requestMemoizesFoundAndMissingImages() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        List<Map<Long, ImageDto>> results = new ArrayList<>();
+
+        loader.batch(() -> loader.load(ACCOMMODATION, List.of(1L, 2L), null, results::add));
+        loader.batch(() -> loader.load(ACCOMMODATION, List.of(2L, 1L), null, results::add));
+
+        assertThat(lookups).hasSize(1);
+        assertThat(results.get(1).keySet()).containsExactly(1L);
+        assertThat(meterRegistry.counter("staylog.image.lookup.keys", "result", "miss").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("staylog.image.lookup.keys", "result", "hit").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("staylog.image.lookup.queries").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void forgetDropsOnlyThatTarget() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        loader.load(ACCOMMODATION, List.of(1L, 3L), null, result -> { });
+
+        loader.forget(ACCOMMODATION, 1L);
+        loader.load(ACCOMMODATION, List.of(1L, 3L), null, result -> { });
+
+        assertThat(lookups).hasSize(2);
+        assertThat(lookups.get(1)).containsExactly(new ImageLookupKey(ACCOMMODATION, 1, null));
+    }
+
+    @Test
+    void loadsFromCallbacksAreDispatchedBeforeBatchReturns() {
+        List<Map<Long, ImageDto>> reviews = new ArrayList<>();
+
+        loader.batch(() -> loader.load(ACCOMMODATION, List.of(1L), null,
+                accommodations -> loader.load(REVIEW, List.of(7L), W160, reviews::add)));
+
+        assertThat(lookups).hasSize(2);
+        assertThat(reviews.get(0).keySet()).containsExactly(7L);
+    }
+
+    @Test
+    void failedBatchDropsItsPendingLoads() {
+        List<Map<Long, ImageDto>> results = new ArrayList<>();
+
+        assertThatThrownBy(() -> loader.batch(() -> {
+            loader.load(ACCOMMODATION, List.of(1L), null, results::add);
+            throw new IllegalStateException("조립 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(lookups).isEmpty();
+        assertThat(results).isEmpty();
+        loader.batch(() -> loader.load(ACCOMMODATION, List.of(3L), null, results::add));
+        assertThat(lookups).hasSize(1);
+        assertThat(results).hasSize(1);
+    }
+
+    private static ImageDto image(long imageId, String savedUrl) {
+        return ImageDto.builder().imageId(imageId).savedUrl(savedUrl).build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.staylog.staylog.domain.image.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.UrlResource;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 파일 제공 부하 테스트
+ * - 같은 파일을 같은 내장 Tomcat 커넥터에서 ImageFileServer(sendfile)와
+ *   이전 /images/** 등록과 같은 ResourceHttpRequestHandler(file: 위치)로 나눠 제공
+ * - CLIENTS개 클라이언트가 WINDOW_MILLIS 동안 전체 GET을 반복해 초당 응답 수/전송량을 로그로 남김
+ * - 실행 환경에 따라 값이 달라지므로 기본 테스트에서 제외 (mvn test -Pperf로 실행)
+ * - 메타 캐시 회귀는 ImageFileServerMetaCacheTest가 확인
+ */
+@Slf4j
+@Tag("perf")
+class ImageFileServerLoadTest {
+
+    private static final int CLIENTS = 16;
+    private static final long WARMUP_MILLIS = 500;
+    private static final long WINDOW_MILLIS = 1500;
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private Tomcat tomcat;
+    private HttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = Files.createDirectories(tempDir.resolve("images"));
+        ImageFileServer imageFileServer = new ImageFileServer(root.toString(), new SimpleMeterRegistry(), 1000);
+        ResourceHttpRequestHandler resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new UrlResource(root.toUri())));
+        resourceHandler.afterPropertiesSet();
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(tempDir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector();
+        Context context = tomcat.addContext("", tempDir.toString());
+        Tomcat.addServlet(context, "imageFileServer", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                imageFileServer.serve(request.getPathInfo().substring(1), request, response);
+            }
+        });
+        Tomcat.addServlet(context, "resourceHandler", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response)
+                    throws ServletException, IOException {
+                request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE,
+                        request.getPathInfo().substring(1));
+                resourceHandler.handleRequest(request, response);
+            }
+        });
+        context.addServletMappingDecoded("/file-server/*", "imageFileServer");
+        context.addServletMappingDecoded("/resource-handler/*", "resourceHandler");
+        tomcat.start();
+
+        baseUrl = "http://127.0.0.1:" + tomcat.getConnector().getLocalPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Test
+    void thumbnails() throws Exception {
+        compare("썸네일 24KiB", writeFiles("thumb", 64, 24 * 1024));
+    }
+
+    @Test
+    void originals() throws Exception {
+        compare("원본 2MiB", writeFiles("original", 16, 2 * 1024 * 1024));
+    }
+
+    private void compare(String label, List<String> keys) throws Exception {
+        long length = Files.size(root.resolve(keys.get(0)));
+        Result fileServer = measure("/file-server/", keys, length);
+        Result resourceHandler = measure("/resource-handler/", keys, length);
+        log.info("{}: ImageFileServer {}건/초 ({} MiB/s), ResourceHttpRequestHandler {}건/초 ({} MiB/s)",
+                label, Math.round(fileServer.perSecond()), String.format("%.1f", fileServer.mebibytesPerSecond()),
+                Math.round(resourceHandler.perSecond()), String.format("%.1f", resourceHandler.mebibytesPerSecond()));
+
+        assertThat(fileServer.failures()).isEqualTo(0L);
+        assertThat(resourceHandler.failures()).isEqualTo(0L);
+        assertThat(fileServer.responses()).isGreaterThan(0L);
+    }
+
+    /**
+     * 워밍업 후 WINDOW_MILLIS 동안 측정
+     */
+    private Result measure(String prefix, List<String> keys, long length) throws InterruptedException {
+        run(prefix, keys, length, WARMUP_MILLIS);
+        return run(prefix, keys, length, WINDOW_MILLIS);
+    }
+
+    private Result run(String prefix, List<String> keys, long length, long millis) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong responses = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            int offset = i;
+            clients.execute(() -> {
+                byte[] buffer = new byte[64 * 1024];
+                for (int n = offset; running.get(); n++) {
+                    URI uri = URI.create(baseUrl + prefix + keys.get(n % keys.size()));
+                    try {
+                        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.ofInputStream());
+                        long received = 0;
+                        try (InputStream in = response.body()) {
+                            for (int read; (read = in.read(buffer)) != -1; ) {
+                                received += read;
+                            }
+                        }
+                        if (response.statusCode() == 200 && received == length) {
+                            responses.incrementAndGet();
+                            bytes.addAndGet(received);
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        failures.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        long start = System.nanoTime();
+        Thread.sleep(millis);
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(responses.get(), bytes.get(), failures.get(), elapsedNanos);
+    }
+
+    /**
+     * 저장소와 같은 yyyy/MM/dd/UUID 형태로 파일 작성
+     */
+    private List<String> writeFiles(String name, int count, int size) throws IOException {
+        Path dir = Files.createDirectories(root.resolve("2026/10/17"));
+        Random random = new Random(size);
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+            String fileName = name + "-" + i + ".jpg";
+            Files.write(dir.resolve(fileName), content);
+            keys.add("2026/10/17/" + fileName);
+        }
+        return keys;
+    }
+
+    private record Result(long responses, long bytes, long failures, long elapsedNanos) {
+
+        double perSecond() {
+            return responses * 1e9 / elapsedNanos;
+        }
+
+        double mebibytesPerSecond() {
+            return bytes * 1e9 / elapsedNanos / (1024 * 1024);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.staylog.staylog.domain.image.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageFileServer 파일 메타 캐시
+ * - 같은 경로의 두 번째 요청은 캐시된 메타를 사용해 파일을 다시 해시하지 않아야 함
+ * - 같은 크기로 내용을 덮어써도 ETag가 그대로면 재해시하지 않은 것 (저장 파일은 UUID라 실제로는 바뀌지 않음)
+ */
+class ImageFileServerMetaCacheTest {
+
+    private static final String KEY = "2026/10/17/a.jpg";
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private ImageFileServer imageFileServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.createDirectories(tempDir.resolve("2026/10/17")).resolve("a.jpg");
+        Files.write(file, new byte[]{1, 2, 3, 4});
+        imageFileServer = new ImageFileServer(tempDir.toString(), new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void secondServeOfSamePathDoesNotRehash() throws Exception {
+        MockHttpServletResponse first = get(KEY);
+        Files.write(file, new byte[]{9, 9, 9, 9});
+        MockHttpServletResponse second = get(KEY);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getContentAsByteArray()).containsExactly(9, 9, 9, 9);
+    }
+
+    @Test
+    void etagFollowsContentOnFirstServe() throws Exception {
+        Files.write(file.resolveSibling("b.jpg"), new byte[]{9, 9, 9, 9});
+
+        String etagA = get(KEY).getHeader(HttpHeaders.ETAG);
+        String etagB = get("2026/10/17/b.jpg").getHeader(HttpHeaders.ETAG);
+
+        assertThat(etagA).isNotEqualTo(etagB);
+    }
+
+    @Test
+    void missingFileIsNotCached() throws Exception {
+        Files.delete(file);
+        assertThat(get(KEY).getStatus()).isEqualTo(404);
+
+        Files.write(file, new byte[]{1, 2, 3, 4});
+        assertThat(get(KEY).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse get(String key) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageFileServer.serve(key, new MockHttpServletRequest("GET", "/images/" + key), response);
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+package com.staylog.staylog.domain.image.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageFileServer.parseRange - {시작, 끝(포함)}, 범위 밖이면 빈 배열(416), 해석 불가/여러 구간이면 null(전체 응답)
+ */
+class ImageFileServerRangeTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void closedRange() {
+        assertThat(ImageFileServer.parseRange("bytes=0-99", LENGTH)).containsExactly(0L, 99L);
+        assertThat(ImageFileServer.parseRange(" bytes=10-10 ", LENGTH)).containsExactly(10L, 10L);
+    }
+
+    @Test
+    void endIsClampedToLastByte() {
+        assertThat(ImageFileServer.parseRange("bytes=900-5000", LENGTH)).containsExactly(900L, 999L);
+    }
+
+    @Test
+    void openEndedRange() {
+        assertThat(ImageFileServer.parseRange("bytes=500-", LENGTH)).containsExactly(500L, 999L);
+    }
+
+    @Test
+    void suffixRange() {
+        assertThat(ImageFileServer.parseRange("bytes=-100", LENGTH)).containsExactly(900L, 999L);
+        assertThat(ImageFileServer.parseRange("bytes=-5000", LENGTH)).containsExactly(0L, 999L);
+    }
+
+    @Test
+    void unsatisfiableRanges() {
+        assertThat(ImageFileServer.parseRange("bytes=1000-", LENGTH)).isEmpty();
+        assertThat(ImageFileServer.parseRange("bytes=-0", LENGTH)).isEmpty();
+        assertThat(ImageFileServer.parseRange("bytes=0-", 0)).isEmpty();
+        assertThat(ImageFileServer.parseRange("bytes=-5", 0)).isEmpty();
+    }
+
+    @Test
+    void unparseableOrMultipleRangesFallBackToFullResponse() {
+        assertThat(ImageFileServer.parseRange("bytes=5-3", LENGTH)).isNull();
+        assertThat(ImageFileServer.parseRange("bytes=0-1,5-6", LENGTH)).isNull();
+        assertThat(ImageFileServer.parseRange("bytes=-", LENGTH)).isNull();
+        assertThat(ImageFileServer.parseRange("items=0-1", LENGTH)).isNull();
+        assertThat(ImageFileServer.parseRange("bytes=99999999999999999999-", LENGTH)).isNull();
+    }
+}
@@ -0,0 +1,177 @@
+package com.staylog.staylog.domain.image.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3ImageStorage + S3RequestSigner를 S3StandInServer에 붙여 실제 HTTP 경로로 확인
+ * - 스탠드인이 서명을 다시 계산해 비교하므로 서명이 틀리면 요청이 403으로 실패
+ */
+class S3ImageStorageTest {
+
+    private static final String BUCKET = "staylog-images";
+    private static final String REGION = "ap-northeast-2";
+    private static final String ACCESS_KEY = "test-access";
+    private static final String SECRET_KEY = "test-secret";
+    private static final int PART_SIZE = 1024;
+    private static final String KEY = "2026/10/17/room.jpg";
+
+    @TempDir
+    Path stagingDir;
+
+    private S3StandInServer standIn;
+    private ExecutorService partExecutor;
+    private S3ImageStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standIn = S3StandInServer.start(BUCKET, REGION, ACCESS_KEY, SECRET_KEY);
+        partExecutor = Executors.newFixedThreadPool(4);
+        storage = storage(SECRET_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        partExecutor.shutdownNow();
+        standIn.close();
+    }
+
+    @Test
+    void putThenHeadGetDelete() throws IOException {
+        byte[] content = randomBytes(100);
+        Path source = stage(content);
+
+        storage.put(KEY, source, "image/jpeg");
+
+        assertThat(Files.exists(source)).isFalse();
+        assertThat(storage.exists(KEY)).isTrue();
+        assertThat(storage.size(KEY)).isEqualTo(100L);
+        try (InputStream in = storage.open(KEY)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+
+        assertThat(storage.delete(KEY)).isTrue();
+        assertThat(storage.exists(KEY)).isFalse();
+        assertThatThrownBy(() -> storage.size(KEY)).isInstanceOf(NoSuchFileException.class);
+        assertThatThrownBy(() -> storage.open(KEY)).isInstanceOf(NoSuchFileException.class);
+        // 이미 없는 객체 삭제도 성공으로 처리
+        assertThat(storage.delete(KEY)).isTrue();
+    }
+
+    @Test
+    void multipartUploadReassemblesPartsInOrder() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 3 + 17);
+
+        storage.put(KEY, stage(content), "image/jpeg");
+
+        assertThat(standIn.pendingUploads()).isEqualTo(0);
+        assertThat(storage.size(KEY)).isEqualTo((long) content.length);
+        try (InputStream in = storage.open(KEY)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() throws IOException {
+        standIn.failPart(2);
+        Path source = stage(randomBytes(PART_SIZE * 3));
+
+        assertThatThrownBy(() -> storage.put(KEY, source, "image/jpeg"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("500");
+
+        assertThat(standIn.pendingUploads()).isEqualTo(0);
+        assertThat(standIn.contains(KEY)).isFalse();
+        // 실패한 업로드의 스테이징 파일은 호출한 쪽이 정리하도록 남겨 둠
+        assertThat(Files.exists(source)).isTrue();
+    }
+
+    @Test
+    void redirectUrlIsPresignedGet() throws Exception {
+        String key = "2026/10/17/객실 사진+1.jpg";
+        byte[] content = randomBytes(300);
+        storage.put(key, stage(content), "image/jpeg");
+
+        URI url = storage.redirectUrl(key);
+        assertThat(url.getRawQuery()).contains("X-Amz-Signature=", "X-Amz-Expires=600");
+
+        HttpResponse<byte[]> response = get(url);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(content);
+
+        // 서명을 바꾸거나 다른 객체 경로에 붙이면 거부
+        String tampered = url.toString().substring(0, url.toString().length() - 1)
+                + (url.toString().endsWith("0") ? "1" : "0");
+        assertThat(get(URI.create(tampered)).statusCode()).isEqualTo(403);
+        String otherPath = url.toString().replace("1.jpg", "2.jpg");
+        assertThat(get(URI.create(otherPath)).statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    void expiredPresignedUrlIsRejected() throws Exception {
+        storage.put(KEY, stage(randomBytes(10)), "image/jpeg");
+        S3RequestSigner signer = new S3RequestSigner(REGION, ACCESS_KEY, SECRET_KEY);
+        URI object = URI.create(standIn.endpoint() + "/" + BUCKET + "/" + KEY);
+
+        URI expired = signer.presign("GET", object, Duration.ofSeconds(60), Instant.now().minusSeconds(120));
+        URI valid = signer.presign("GET", object, Duration.ofSeconds(60), Instant.now());
+
+        assertThat(get(expired).statusCode()).isEqualTo(403);
+        assertThat(get(valid).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void unsignedOrWrongKeyRequestsAreRejected() throws Exception {
+        storage.put(KEY, stage(randomBytes(10)), "image/jpeg");
+
+        assertThat(get(URI.create(standIn.endpoint() + "/" + BUCKET + "/" + KEY)).statusCode()).isEqualTo(403);
+
+        S3ImageStorage wrongSecret = storage("other-secret");
+        assertThatThrownBy(() -> wrongSecret.exists(KEY)).isInstanceOf(IOException.class).hasMessageContaining("403");
+        assertThatThrownBy(() -> wrongSecret.put(KEY, stage(randomBytes(10)), null))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("403");
+    }
+
+    private S3ImageStorage storage(String secretKey) {
+        return new S3ImageStorage(new S3ImageStorage.Settings(standIn.endpoint(), REGION, BUCKET, ACCESS_KEY,
+                secretKey, PART_SIZE * 2, PART_SIZE, Duration.ofSeconds(600), Duration.ofSeconds(10),
+                null, stagingDir.toString()), partExecutor, new SimpleMeterRegistry());
+    }
+
+    private Path stage(byte[] content) throws IOException {
+        return Files.write(Files.createTempFile(storage.stagingDirectory(), "upload", ".tmp"), content);
+    }
+
+    private static HttpResponse<byte[]> get(URI uri) throws IOException, InterruptedException {
+        return HttpClient.newHttpClient().send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,316 @@
+package com.staylog.staylog.domain.image.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 프로세스 내 S3 호환 스탠드인
+ * - 127.0.0.1 임의 포트에서 path-style 요청(/{bucket}/{key})을 받아 객체를 메모리에 보관
+ * - PUT/GET/HEAD/DELETE 객체, 멀티파트 업로드(생성/파트/완료/중단), 미리 서명된 GET 지원
+ * - 헤더 서명과 쿼리 서명을 받은 요청 그대로 다시 계산해 비교 (서명 없음/불일치/만료는 403)
+ * - failPart로 특정 파트 번호 업로드를 500으로 실패시켜 중단(Abort) 경로를 확인
+ */
+@Slf4j
+class S3StandInServer implements AutoCloseable {
+
+    private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+    private static final Pattern AUTHORIZATION = Pattern.compile("Credential=([^/]+)/");
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final HttpServer server;
+    private final String bucket;
+    private final String accessKey;
+    private final S3RequestSigner signer;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private volatile int failPartNumber = -1;
+
+    private S3StandInServer(HttpServer server, String bucket, String region, String accessKey, String secretKey) {
+        this.server = server;
+        this.bucket = bucket;
+        this.accessKey = accessKey;
+        this.signer = new S3RequestSigner(region, accessKey, secretKey);
+    }
+
+    /**
+     * 스탠드인 시작
+     *
+     * @param bucket 요청을 받을 버킷 이름 (다른 버킷은 404)
+     * @param accessKey 서명 검증에 쓸 액세스 키
+     * @param secretKey 서명 검증에 쓸 시크릿 키
+     */
+    static S3StandInServer start(String bucket, String region, String accessKey, String secretKey) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        S3StandInServer standIn = new S3StandInServer(server, bucket, region, accessKey, secretKey);
+        server.createContext("/", standIn::handle);
+        server.setExecutor(Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "staylog-s3-stand-in");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        log.info("S3 스탠드인 시작: {}", standIn.endpoint());
+        return standIn;
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 이후 이 번호의 파트 업로드를 500으로 실패시킴 (-1이면 해제)
+     */
+    void failPart(int partNumber) {
+        this.failPartNumber = partNumber;
+    }
+
+    /**
+     * 완료/중단되지 않은 멀티파트 업로드 수
+     */
+    int pendingUploads() {
+        return uploads.size();
+    }
+
+    boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getRawPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String prefix = "/" + bucket + "/";
+            if (!path.startsWith(prefix) || path.length() == prefix.length()) {
+                respond(exchange, 404, "NoSuchBucket");
+                return;
+            }
+            if (!authorized(exchange, query)) {
+                respond(exchange, 403, "SignatureDoesNotMatch");
+                return;
+            }
+            String key = URLDecoder.decode(path.substring(prefix.length()), StandardCharsets.UTF_8);
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(exchange, query);
+                    } else {
+                        byte[] body = exchange.getRequestBody().readAllBytes();
+                        StoredObject object = new StoredObject(body, contentType(exchange), etag(body));
+                        objects.put(key, object);
+                        exchange.getResponseHeaders().set("ETag", object.etag());
+                        respond(exchange, 200, null);
+                    }
+                }
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        String uploadId = UUID.randomUUID().toString();
+                        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+                        respondXml(exchange, "<InitiateMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>"
+                                + key + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                    } else if (query.containsKey("uploadId")) {
+                        completeUpload(exchange, key, query.get("uploadId"));
+                    } else {
+                        respond(exchange, 400, "InvalidRequest");
+                    }
+                }
+                case "GET", "HEAD" -> {
+                    StoredObject object = objects.get(key);
+                    if (object == null) {
+                        respond(exchange, 404, "NoSuchKey");
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("ETag", object.etag());
+                    if (object.contentType() != null) {
+                        exchange.getResponseHeaders().set("Content-Type", object.contentType());
+                    }
+                    if ("HEAD".equals(exchange.getRequestMethod())) {
+                        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.body().length));
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        exchange.sendResponseHeaders(200, object.body().length);
+                        exchange.getResponseBody().write(object.body());
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(key);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> respond(exchange, 405, "MethodNotAllowed");
+            }
+        } catch (RuntimeException e) {
+            log.warn("S3 스탠드인 요청 처리 실패: {}", exchange.getRequestURI(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        Map<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+        if (parts == null) {
+            respond(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        int partNumber = Integer.parseInt(query.get("partNumber"));
+        if (partNumber == failPartNumber) {
+            respond(exchange, 500, "InternalError");
+            return;
+        }
+        parts.put(partNumber, body);
+        exchange.getResponseHeaders().set("ETag", etag(body));
+        respond(exchange, 200, null);
+    }
+
+    private void completeUpload(HttpExchange exchange, String key, String uploadId) throws IOException {
+        Map<Integer, byte[]> parts = uploads.remove(uploadId);
+        if (parts == null) {
+            respond(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        Matcher matcher = PART_NUMBER.matcher(body);
+        while (matcher.find()) {
+            byte[] part = parts.get(Integer.parseInt(matcher.group(1)));
+            if (part == null) {
+                respond(exchange, 400, "InvalidPart");
+                return;
+            }
+            merged.writeBytes(part);
+        }
+        byte[] content = merged.toByteArray();
+        StoredObject object = new StoredObject(content, contentType(exchange), etag(content));
+        objects.put(key, object);
+        respondXml(exchange, "<CompleteMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+                + "</Key><ETag>" + object.etag() + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    /**
+     * 받은 요청의 메서드/경로/쿼리/Host로 서명을 다시 계산해 비교
+     */
+    private boolean authorized(HttpExchange exchange, Map<String, String> query) {
+        String method = exchange.getRequestMethod();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        String base = "http://" + exchange.getRequestHeaders().getFirst("Host") + exchange.getRequestURI().getRawPath();
+        try {
+            String signature = query.get("X-Amz-Signature");
+            if (signature != null) {
+                String amzDate = query.get("X-Amz-Date");
+                String expires = query.get("X-Amz-Expires");
+                String credential = query.get("X-Amz-Credential");
+                if (amzDate == null || expires == null || credential == null || !credential.startsWith(accessKey + "/")) {
+                    return false;
+                }
+                Instant signedAt = AMZ_DATE.parse(amzDate, Instant::from);
+                Duration ttl = Duration.ofSeconds(Long.parseLong(expires));
+                if (Instant.now().isAfter(signedAt.plus(ttl))) {
+                    return false;
+                }
+                StringBuilder unsigned = new StringBuilder();
+                for (String pair : rawQuery.split("&")) {
+                    if (!pair.startsWith("X-Amz-Signature=")) {
+                        unsigned.append(unsigned.length() == 0 ? "" : "&").append(pair);
+                    }
+                }
+                URI expected = signer.presign(method, URI.create(base + "?" + unsigned), ttl, signedAt);
+                return expected.getRawQuery().endsWith("&X-Amz-Signature=" + signature);
+            }
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            String amzDate = exchange.getRequestHeaders().getFirst("x-amz-date");
+            if (authorization == null || amzDate == null) {
+                return false;
+            }
+            Matcher credential = AUTHORIZATION.matcher(authorization);
+            if (!credential.find() || !accessKey.equals(credential.group(1))) {
+                return false;
+            }
+            URI uri = URI.create(rawQuery == null ? base : base + "?" + rawQuery);
+            return authorization.equals(signer.sign(method, uri, AMZ_DATE.parse(amzDate, Instant::from)).get("Authorization"));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String contentType(HttpExchange exchange) {
+        return exchange.getRequestHeaders().getFirst("Content-Type");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String errorCode) throws IOException {
+        if (errorCode == null || "HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        respondXml(exchange, status, "<Error><Code>" + errorCode + "</Code></Error>");
+    }
+
+    private static void respondXml(HttpExchange exchange, String xml) throws IOException {
+        respondXml(exchange, 200, xml);
+    }
+
+    private static void respondXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private record StoredObject(byte[] body, String contentType, String etag) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.staylog.staylog.domain.search.dto;
+
+import com.staylog.staylog.domain.search.dto.response.AccomListResponse;
+import com.staylog.staylog.global.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    private static final AccomListResponse ACCOM = AccomListResponse.builder()
+            .accommodationId(42L)
+            .accommodationName("바다 앞\n펜션")
+            .basePrice(89_000)
+            .reservationCount(17)
+            .createdAt(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_789))
+            .build();
+
+    @Test
+    void priceCursorRoundTrips() {
+        SearchCursor decoded = roundTrip("lowPrice");
+
+        assertThat(decoded.getAccommodationId()).isEqualTo(42L);
+        assertThat(decoded.getNumberKey()).isEqualTo(89_000L);
+        assertThat(decoded.getDateKey()).isNull();
+        assertThat(decoded.getNameKey()).isNull();
+        assertThat(roundTrip("highPrice").getNumberKey()).isEqualTo(89_000L);
+    }
+
+    @Test
+    void popularCursorCarriesReservationCount() {
+        assertThat(roundTrip("popular").getNumberKey()).isEqualTo(17L);
+    }
+
+    @Test
+    void newCursorKeepsFullDatePrecision() {
+        SearchCursor decoded = roundTrip("new");
+
+        assertThat(decoded.getDateKey()).isEqualTo(ACCOM.getCreatedAt());
+        assertThat(decoded.getNumberKey()).isNull();
+    }
+
+    @Test
+    void nameCursorKeepsNewlinesAndUnicode() {
+        SearchCursor decoded = roundTrip("name");
+
+        assertThat(decoded.getOrder()).isEqualTo("name");
+        assertThat(decoded.getNameKey()).isEqualTo("바다 앞\n펜션");
+        assertThat(decoded.getAccommodationId()).isEqualTo(42L);
+    }
+
+    @Test
+    void unknownOrderIsTreatedAsName() {
+        String cursor = SearchCursor.of(null, ACCOM).encode();
+
+        assertThat(SearchCursor.decode(cursor, "unknown").getNameKey()).isEqualTo("바다 앞\n펜션");
+    }
+
+    @Test
+    void missingSortKeyBecomesZero() {
+        AccomListResponse noPrice = AccomListResponse.builder().accommodationId(7L).build();
+
+        assertThat(SearchCursor.decode(SearchCursor.of("lowPrice", noPrice).encode(), "lowPrice").getNumberKey())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void cursorFromAnotherOrderIsRejected() {
+        String cursor = SearchCursor.of("lowPrice", ACCOM).encode();
+
+        assertThatThrownBy(() -> SearchCursor.decode(cursor, "popular")).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String badNumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("lowPrice\n42\nabc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SearchCursor.decode("not base64!", "name")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(badNumber, "lowPrice")).isInstanceOf(BusinessException.class);
+    }
+
+    private static SearchCursor roundTrip(String order) {
+        String cursor = SearchCursor.of(order, ACCOM).encode();
+        assertThat(cursor).doesNotContain("+", "/", "=");
+        return SearchCursor.decode(cursor, order);
+    }
+}
@@ -0,0 +1,132 @@
+package com.staylog.staylog.global.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이머 휠 테스트
+ * - 틱 스레드 없이 가짜 시계를 옮기고 advance()를 직접 호출
+ * - 틱 1ms, 시작 시각을 칸 경계가 아닌 값으로 두어 레벨 경계/재배치를 함께 확인
+ */
+class HierarchicalTimerWheelTest {
+
+    private static final long START = 5_000_123L;
+    private static final long LEVEL1 = 64;
+    private static final long LEVEL2 = 64 * 64;
+    private static final long LEVEL3 = 64 * 64 * 64;
+    private static final long LEVEL4 = 64L * 64 * 64 * 64;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private final List<Long> expired = new ArrayList<>();
+    private HierarchicalTimerWheel<Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimerWheel<>(1, expired::addAll, now::get, null);
+    }
+
+    @Test
+    void expiresExactlyAtDeadlineOnEveryLevel() {
+        // 레벨 0 ~ 3과 최상위 범위를 넘는 만료 (재배치를 여러 번 거침)
+        long[] deadlines = {
+                START + 10,
+                START + LEVEL1 + 5,
+                START + 3 * LEVEL2 + 7,
+                START + 2 * LEVEL3 + 11,
+                START + LEVEL4 + 123
+        };
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        wheel.advance();
+
+        for (long deadline : deadlines) {
+            advanceTo(deadline - 1);
+            assertThat(expired).doesNotContain(deadline);
+            advanceTo(deadline);
+            assertThat(expired).contains(deadline);
+        }
+        assertThat(expired).containsExactly(deadlines[0], deadlines[1], deadlines[2], deadlines[3], deadlines[4]);
+    }
+
+    @Test
+    void cascadesEntriesSharingAnUpperSlotToTheirOwnTicks() {
+        // 같은 레벨 2 칸에 들어가는 서로 다른 만료 시각
+        long base = (START / LEVEL2 + 2) * LEVEL2;
+        long first = base + 3;
+        long second = base + LEVEL1 + 9;
+        long third = base + LEVEL2 - 1;
+        wheel.schedule(third, third);
+        wheel.schedule(first, first);
+        wheel.schedule(second, second);
+        wheel.advance();
+
+        advanceTo(base);
+        assertThat(expired).isEmpty();
+        advanceTo(first);
+        assertThat(expired).containsExactly(first);
+        advanceTo(second - 1);
+        assertThat(expired).containsExactly(first);
+        advanceTo(third);
+        assertThat(expired).containsExactly(first, second, third);
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() {
+        HierarchicalTimerWheel.Timeout<Long> beforePlacement = wheel.schedule(1L, START + 20);
+        beforePlacement.cancel();
+        wheel.advance();
+
+        // 상위 레벨에 배치된 뒤 취소 -> 재배치 때 버려짐
+        HierarchicalTimerWheel.Timeout<Long> upperLevel = wheel.schedule(2L, START + 2 * LEVEL2);
+        wheel.schedule(3L, START + 2 * LEVEL2);
+        wheel.advance();
+        upperLevel.cancel();
+
+        advanceTo(START + 3 * LEVEL2);
+        assertThat(expired).containsExactly(3L);
+        assertThat(beforePlacement.isCancelled()).isTrue();
+    }
+
+    @Test
+    void rescheduleByCancelAndSchedule() {
+        // BookingExpiryTimer와 같은 방식: 이전 핸들 취소 후 새 만료 시각으로 등록
+        HierarchicalTimerWheel.Timeout<Long> original = wheel.schedule(1L, START + 100);
+        wheel.advance();
+
+        original.cancel();
+        wheel.schedule(1L, START + 5 * LEVEL1);
+        HierarchicalTimerWheel.Timeout<Long> later = wheel.schedule(2L, START + LEVEL2);
+        wheel.advance();
+        later.cancel();
+        wheel.schedule(2L, START + 30);
+
+        advanceTo(START + 100);
+        assertThat(expired).containsExactly(2L);
+        advanceTo(START + 5 * LEVEL1 - 1);
+        assertThat(expired).containsExactly(2L);
+        advanceTo(START + 2 * LEVEL2);
+        assertThat(expired).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        wheel.schedule(1L, START - 1_000);
+
+        wheel.advance();
+        assertThat(expired).isEmpty();
+        advanceTo(START + 1);
+        assertThat(expired).containsExactly(1L);
+    }
+
+    private void advanceTo(long millis) {
+        now.set(millis);
+        wheel.advance();
+    }
+}